@@ -0,0 +1,48 @@
+package com.company.hrsystem.attendance.controller;
+
+import com.company.hrsystem.attendance.service.AttendanceReportService;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+@RestController
+@RequestMapping("/api/v1/admin/attendance")
+@PreAuthorize("hasRole('HR')")
+public class AttendanceReportController {
+
+    private final AttendanceReportService attendanceReportService;
+    private final Duration reportTimeout;
+
+    public AttendanceReportController(
+            AttendanceReportService attendanceReportService,
+            @Value("${attendance.report.timeout-seconds:600}") long reportTimeoutSeconds) {
+        this.attendanceReportService = attendanceReportService;
+        this.reportTimeout = Duration.ofSeconds(reportTimeoutSeconds);
+    }
+
+    @GetMapping("/report")
+    public WebAsyncTask<Void> report(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) {
+        var export = attendanceReportService.export(from, to, format);
+        response.setContentType(export.contentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(export.filename()).build().toString());
+        return new WebAsyncTask<>(reportTimeout.toMillis(), () -> {
+            export.body().writeTo(response.getOutputStream());
+            return null;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.hrsystem.attendance.dto;
+
+import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.entity.AttendanceSource;
+import java.time.Instant;
+import java.util.UUID;
+
+public record AttendanceEventRow(
+        UUID employeeId,
+        AttendanceEventType eventType,
+        AttendanceSource source,
+        Instant eventTime) {
+}
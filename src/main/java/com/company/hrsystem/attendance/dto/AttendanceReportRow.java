@@ -0,0 +1,23 @@
+package com.company.hrsystem.attendance.dto;
+
+import com.company.hrsystem.attendance.entity.AttendanceMode;
+import com.company.hrsystem.attendance.entity.AttendanceStatus;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record AttendanceReportRow(
+        String employeeCode,
+        String firstName,
+        String lastName,
+        LocalDate date,
+        AttendanceStatus status,
+        AttendanceMode mode,
+        Long workedMinutes,
+        Long officeWorkedMinutes,
+        Long lateMinutes,
+        Long earlyExitMinutes,
+        Integer overtimeMinutes,
+        Instant firstCheckInTime,
+        Instant lastCheckOutTime,
+        Boolean finalized) {
+}
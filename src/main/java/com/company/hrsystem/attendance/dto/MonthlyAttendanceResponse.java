@@ -0,0 +1,16 @@
+package com.company.hrsystem.attendance.dto;
+
+import java.time.LocalDate;
+
+public record MonthlyAttendanceResponse(
+        LocalDate from,
+        LocalDate to,
+        int workingDays,
+        int presentDays,
+        int absentDays,
+        int wfhDays,
+        int officeDays,
+        long workedMinutes,
+        int lateArrivals,
+        boolean rolledUp) {
+}
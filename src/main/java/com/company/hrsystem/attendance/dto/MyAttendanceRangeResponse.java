@@ -15,5 +15,6 @@ public record MyAttendanceRangeResponse(
         int totalWFH,
         int totalOfficeDays,
         long totalWorkedMinutes,
-        List<DailyAttendanceResponse> attendance) {
+        List<DailyAttendanceResponse> attendance,
+        List<MonthlyAttendanceResponse> months) {
 }
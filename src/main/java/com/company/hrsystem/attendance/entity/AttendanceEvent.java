@@ -21,10 +21,16 @@ import lombok.Setter;
 @Entity
 @Table(name = "attendance_event",
         indexes = {
-                @Index(name = "idx_attendance_event_company_id", columnList = "company_id")
+                @Index(name = "idx_attendance_event_company_id", columnList = "company_id"),
+                @Index(name = "idx_attendance_event_company_type_time", columnList = "company_id, event_type, event_time"),
+                @Index(
+                        name = "idx_attendance_event_employee_type_time",
+                        columnList = "company_id, employee_id, event_type, event_time")
         },
         uniqueConstraints = {
-                @UniqueConstraint(name = "uq_attendance_event_device_log_id", columnNames = {"device_log_id"})
+                @UniqueConstraint(
+                        name = "uq_attendance_event_device_log_id",
+                        columnNames = {"device_log_id", "event_time"})
         })
 public class AttendanceEvent extends BaseEntity {
 
@@ -40,7 +46,7 @@ public class AttendanceEvent extends BaseEntity {
     @Column(name = "source", nullable = false, length = 20)
     private AttendanceSource source;
 
-    @Column(name = "device_log_id", nullable = false, unique = true, length = 120)
+    @Column(name = "device_log_id", nullable = false, length = 120)
     private String deviceLogId;
 
     @Column(name = "event_time", nullable = false)
@@ -0,0 +1,57 @@
+package com.company.hrsystem.attendance.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import com.company.hrsystem.employee.entity.Employee;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "attendance_monthly_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_attendance_monthly_rollup_company_employee_month",
+                        columnNames = {"company_id", "employee_id", "rollup_month"})
+        })
+public class AttendanceMonthlyRollup extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+
+    @Column(name = "rollup_month", nullable = false)
+    private LocalDate month;
+
+    @Column(name = "finalized_days", nullable = false)
+    private Integer finalizedDays;
+
+    @Column(name = "working_days", nullable = false)
+    private Integer workingDays;
+
+    @Column(name = "present_days", nullable = false)
+    private Integer presentDays;
+
+    @Column(name = "absent_days", nullable = false)
+    private Integer absentDays;
+
+    @Column(name = "wfh_days", nullable = false)
+    private Integer wfhDays;
+
+    @Column(name = "office_days", nullable = false)
+    private Integer officeDays;
+
+    @Column(name = "worked_minutes", nullable = false)
+    private Long workedMinutes;
+
+    @Column(name = "late_days", nullable = false)
+    private Integer lateDays;
+}
@@ -0,0 +1,29 @@
+package com.company.hrsystem.attendance.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "attendance_nightly_run",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_attendance_nightly_run_company_id", columnNames = {"company_id"})
+        })
+public class AttendanceNightlyRun extends BaseEntity {
+
+    @Column(name = "last_reconciled_date")
+    private LocalDate lastReconciledDate;
+
+    @Column(name = "last_finalized_date")
+    private LocalDate lastFinalizedDate;
+
+    @Column(name = "refinalize_from_date", insertable = false, updatable = false)
+    private LocalDate refinalizeFromDate;
+}
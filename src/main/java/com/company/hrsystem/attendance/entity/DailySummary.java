@@ -12,6 +12,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.Setter;
@@ -22,7 +23,8 @@ import lombok.Setter;
 @Table(name = "daily_summary",
         indexes = {
                 @Index(name = "idx_daily_summary_company_id", columnList = "company_id"),
-                @Index(name = "idx_daily_summary_employee_date", columnList = "employee_id, summary_date")
+                @Index(name = "idx_daily_summary_employee_date", columnList = "employee_id, summary_date"),
+                @Index(name = "idx_daily_summary_company_date_finalized", columnList = "company_id, summary_date, finalized")
         },
         uniqueConstraints = {
                 @UniqueConstraint(
@@ -76,6 +78,21 @@ public class DailySummary extends BaseEntity {
     @Column(name = "overtime_minutes", nullable = false)
     private Integer overtimeMinutes;
 
+    @Column(name = "open_check_in_time")
+    private Instant openCheckInTime;
+
+    @Column(name = "first_check_in_time")
+    private Instant firstCheckInTime;
+
+    @Column(name = "last_check_out_time")
+    private Instant lastCheckOutTime;
+
+    @Column(name = "last_event_time")
+    private Instant lastEventTime;
+
+    @Column(name = "office_entry")
+    private Boolean officeEntry;
+
     public Long getWorkedMinutes() {
         return totalWorkedMinutes;
     }
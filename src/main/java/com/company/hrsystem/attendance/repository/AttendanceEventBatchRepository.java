@@ -0,0 +1,9 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.AttendanceEvent;
+import java.util.List;
+
+public interface AttendanceEventBatchRepository {
+
+    void insertAll(List<AttendanceEvent> events);
+}
@@ -0,0 +1,50 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.AttendanceEvent;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AttendanceEventBatchRepositoryImpl implements AttendanceEventBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into attendance_event
+                (id, company_id, employee_id, event_type, source, device_log_id, event_time, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AttendanceEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(events.size());
+        for (var event : events) {
+            if (event.getId() == null) {
+                event.setId(UUID.randomUUID());
+            }
+            event.setCreatedAt(now);
+            event.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    event.getId(),
+                    event.getCompanyId(),
+                    event.getEmployee().getId(),
+                    event.getEventType().name(),
+                    event.getSource().name(),
+                    event.getDeviceLogId(),
+                    event.getEventTime().atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
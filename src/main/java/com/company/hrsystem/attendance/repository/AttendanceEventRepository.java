@@ -1,20 +1,26 @@
 package com.company.hrsystem.attendance.repository;
 
+import com.company.hrsystem.attendance.dto.AttendanceEventRow;
 import com.company.hrsystem.attendance.entity.AttendanceEvent;
 import com.company.hrsystem.attendance.entity.AttendanceEventType;
 import com.company.hrsystem.attendance.entity.AttendanceSource;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, UUID> {
+public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, UUID>, AttendanceEventBatchRepository {
 
     @Query("""
             select ae from AttendanceEvent ae
@@ -70,6 +76,18 @@ public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent
                 PageRequest.of(0, 1)).stream().findFirst();
     }
 
+    @Query("""
+            select ae.employee.id, ae.eventType, max(ae.eventTime) from AttendanceEvent ae
+            where ae.companyId = :companyId
+              and ae.employee.id in :employeeIds
+              and ae.eventType in :eventTypes
+            group by ae.employee.id, ae.eventType
+            """)
+    List<Object[]> findLatestEventTimesByEmployeeAndEventType(
+            @Param("companyId") UUID companyId,
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("eventTypes") Set<AttendanceEventType> eventTypes);
+
     @Query("""
             select distinct ae.employee.id from AttendanceEvent ae
             where ae.companyId = :companyId
@@ -99,6 +117,30 @@ public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent
             @Param("fromTime") Instant fromTime,
             @Param("toTime") Instant toTime);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.company.hrsystem.attendance.dto.AttendanceEventRow(
+                e.id, ae.eventType, ae.source, ae.eventTime)
+            from AttendanceEvent ae
+            join ae.employee e
+            join e.shift s
+            where ae.companyId = :companyId
+              and e.companyId = :companyId
+              and s.endTime <= s.startTime
+              and ae.eventType in :eventTypes
+              and ae.eventTime >= :fromTime
+              and ae.eventTime < :toTime
+            order by e.id asc, ae.eventTime asc
+            """)
+    Stream<AttendanceEventRow> streamOvernightShiftRowsByCompanyAndEventTypesAndEventTimeBetween(
+            @Param("companyId") UUID companyId,
+            @Param("eventTypes") Set<AttendanceEventType> eventTypes,
+            @Param("fromTime") Instant fromTime,
+            @Param("toTime") Instant toTime);
+
     @Query("""
             select ae from AttendanceEvent ae
             where ae.companyId = :companyId
@@ -132,4 +174,20 @@ public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent
             @Param("eventTypes") Set<AttendanceEventType> eventTypes,
             @Param("fromTime") Instant fromTime,
             @Param("toTime") Instant toTime);
+
+    @Query("""
+            select ae from AttendanceEvent ae
+            where ae.companyId = :companyId
+              and ae.employee.id in :employeeIds
+              and ae.eventType in :eventTypes
+              and ae.eventTime >= :fromTime
+              and ae.eventTime < :toTime
+            order by ae.eventTime asc
+            """)
+    List<AttendanceEvent> findByCompanyAndEmployeesAndEventTypesAndEventTimeBetween(
+            @Param("companyId") UUID companyId,
+            @Param("employeeIds") Collection<UUID> employeeIds,
+            @Param("eventTypes") Set<AttendanceEventType> eventTypes,
+            @Param("fromTime") Instant fromTime,
+            @Param("toTime") Instant toTime);
 }
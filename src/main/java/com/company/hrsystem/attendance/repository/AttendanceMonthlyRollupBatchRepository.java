@@ -0,0 +1,11 @@
+package com.company.hrsystem.attendance.repository;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+public interface AttendanceMonthlyRollupBatchRepository {
+
+    int refreshMonth(UUID companyId, YearMonth month);
+
+    int refreshEmployeeMonth(UUID companyId, UUID employeeId, YearMonth month);
+}
@@ -0,0 +1,137 @@
+package com.company.hrsystem.attendance.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AttendanceMonthlyRollupBatchRepositoryImpl implements AttendanceMonthlyRollupBatchRepository {
+
+    private static final String ROLLUP_SELECT = """
+            select %s as id, ds.company_id as company_id, ds.employee_id as employee_id,
+                   cast(? as date) as rollup_month,
+                   count(*) as finalized_days,
+                   sum(case when ds.attendance_status is null
+                            or ds.attendance_status not in ('HOLIDAY', 'WEEK_OFF') then 1 else 0 end) as working_days,
+                   sum(case when ds.attendance_status = 'PRESENT' then 1 else 0 end) as present_days,
+                   sum(case when ds.attendance_status = 'ABSENT' then 1 else 0 end) as absent_days,
+                   sum(case when ds.attendance_status = 'PRESENT' and %3$s = 'WFH' then 1 else 0 end) as wfh_days,
+                   sum(case when ds.attendance_status = 'PRESENT' and %3$s = 'OFFICE' then 1 else 0 end) as office_days,
+                   coalesce(sum(ds.worked_minutes), 0) as worked_minutes,
+                   sum(case when ds.late_arrival = true then 1 else 0 end) as late_days,
+                   cast(? as timestamp with time zone) as created_at,
+                   cast(? as timestamp with time zone) as updated_at
+            from daily_summary ds
+            where ds.company_id = ?
+              and ds.summary_date between ? and ?
+              and ds.finalized = true
+              %2$s
+            group by ds.company_id, ds.employee_id
+            """;
+    private static final String RESOLVED_MODE = """
+            (case when ds.attendance_mode is not null then ds.attendance_mode
+                  when coalesce(ds.worked_minutes, 0) > 0 and ds.office_entry = true then 'OFFICE'
+                  else 'WFH' end)""";
+    private static final String ROLLUP_COLUMNS = """
+            (id, company_id, employee_id, rollup_month, finalized_days, working_days, present_days, absent_days,
+             wfh_days, office_days, worked_minutes, late_days, created_at, updated_at)
+            """;
+    private static final String POSTGRES_UPSERT_SQL = "insert into attendance_monthly_rollup " + ROLLUP_COLUMNS
+            + ROLLUP_SELECT.formatted("gen_random_uuid()", "%s", RESOLVED_MODE) + """
+            on conflict (company_id, employee_id, rollup_month) do update set
+                finalized_days = excluded.finalized_days,
+                working_days = excluded.working_days,
+                present_days = excluded.present_days,
+                absent_days = excluded.absent_days,
+                wfh_days = excluded.wfh_days,
+                office_days = excluded.office_days,
+                worked_minutes = excluded.worked_minutes,
+                late_days = excluded.late_days,
+                updated_at = excluded.updated_at
+            """;
+    private static final String MERGE_SQL = "merge into attendance_monthly_rollup amr using ("
+            + ROLLUP_SELECT.formatted("random_uuid()", "%s", RESOLVED_MODE) + """
+            ) src
+            on amr.company_id = src.company_id
+                and amr.employee_id = src.employee_id
+                and amr.rollup_month = src.rollup_month
+            when matched then update set
+                finalized_days = src.finalized_days,
+                working_days = src.working_days,
+                present_days = src.present_days,
+                absent_days = src.absent_days,
+                wfh_days = src.wfh_days,
+                office_days = src.office_days,
+                worked_minutes = src.worked_minutes,
+                late_days = src.late_days,
+                updated_at = src.updated_at
+            when not matched then insert
+            """ + ROLLUP_COLUMNS + """
+            values (src.id, src.company_id, src.employee_id, src.rollup_month, src.finalized_days, src.working_days,
+                    src.present_days, src.absent_days, src.wfh_days, src.office_days, src.worked_minutes,
+                    src.late_days, src.created_at, src.updated_at)
+            """;
+    private static final String DELETE_EMPTY_SQL = """
+            delete from attendance_monthly_rollup
+            where company_id = ?
+              and rollup_month = ?
+              %s
+              and not exists (
+                  select 1 from daily_summary ds
+                  where ds.company_id = attendance_monthly_rollup.company_id
+                    and ds.employee_id = attendance_monthly_rollup.employee_id
+                    and ds.summary_date between ? and ?
+                    and ds.finalized = true)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    @Override
+    public int refreshMonth(UUID companyId, YearMonth month) {
+        return refresh(companyId, null, month);
+    }
+
+    @Override
+    public int refreshEmployeeMonth(UUID companyId, UUID employeeId, YearMonth month) {
+        return refresh(companyId, employeeId, month);
+    }
+
+    private int refresh(UUID companyId, UUID employeeId, YearMonth month) {
+        var monthStart = month.atDay(1);
+        var monthEnd = month.atEndOfMonth();
+        var now = Instant.now().atOffset(ZoneOffset.UTC);
+
+        var upsertArgs = new ArrayList<Object>(List.of(monthStart, now, now, companyId, monthStart, monthEnd));
+        var deleteArgs = new ArrayList<Object>(List.of(companyId, monthStart));
+        if (employeeId != null) {
+            upsertArgs.add(employeeId);
+            deleteArgs.add(employeeId);
+        }
+        deleteArgs.add(monthStart);
+        deleteArgs.add(monthEnd);
+
+        var upserted = jdbcTemplate.update(
+                resolveUpsertSql().formatted(employeeId == null ? "" : "and ds.employee_id = ?"),
+                upsertArgs.toArray());
+        jdbcTemplate.update(
+                DELETE_EMPTY_SQL.formatted(employeeId == null ? "" : "and employee_id = ?"),
+                deleteArgs.toArray());
+        return upserted;
+    }
+
+    private String resolveUpsertSql() {
+        if (upsertSql == null) {
+            var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            upsertSql = "PostgreSQL".equalsIgnoreCase(productName) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+        }
+        return upsertSql;
+    }
+}
@@ -0,0 +1,21 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.AttendanceMonthlyRollup;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface AttendanceMonthlyRollupRepository
+        extends JpaRepository<AttendanceMonthlyRollup, UUID>, AttendanceMonthlyRollupBatchRepository {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<AttendanceMonthlyRollup> findByCompanyIdAndEmployee_IdAndMonthBetweenOrderByMonthAsc(
+            UUID companyId,
+            UUID employeeId,
+            LocalDate fromMonth,
+            LocalDate toMonth);
+}
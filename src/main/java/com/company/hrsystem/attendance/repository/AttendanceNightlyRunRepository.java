@@ -0,0 +1,37 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.AttendanceNightlyRun;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AttendanceNightlyRunRepository extends JpaRepository<AttendanceNightlyRun, UUID> {
+
+    Optional<AttendanceNightlyRun> findByCompanyId(UUID companyId);
+
+    @Modifying
+    @Query("""
+            update AttendanceNightlyRun r
+            set r.refinalizeFromDate = :date
+            where r.companyId = :companyId
+              and r.lastFinalizedDate >= :date
+              and (r.refinalizeFromDate is null or r.refinalizeFromDate >= :date)
+            """)
+    int markRefinalizeFromDate(@Param("companyId") UUID companyId, @Param("date") LocalDate date);
+
+    @Modifying
+    @Query("""
+            update AttendanceNightlyRun r
+            set r.refinalizeFromDate = :nextDate
+            where r.companyId = :companyId
+              and r.refinalizeFromDate = :currentDate
+            """)
+    int advanceRefinalizeFromDate(
+            @Param("companyId") UUID companyId,
+            @Param("currentDate") LocalDate currentDate,
+            @Param("nextDate") LocalDate nextDate);
+}
@@ -0,0 +1,9 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.DailySummary;
+import java.util.Collection;
+
+public interface DailySummaryBatchRepository {
+
+    void upsertAll(Collection<DailySummary> summaries);
+}
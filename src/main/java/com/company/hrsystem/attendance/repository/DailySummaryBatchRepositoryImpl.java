@@ -0,0 +1,131 @@
+package com.company.hrsystem.attendance.repository;
+
+import com.company.hrsystem.attendance.entity.DailySummary;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class DailySummaryBatchRepositoryImpl implements DailySummaryBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String POSTGRES_UPSERT_SQL = """
+            insert into daily_summary
+                (id, company_id, employee_id, summary_date, worked_minutes, office_worked_minutes, office_present,
+                 remote_day, late_minutes, early_exit_minutes, late_arrival, early_exit, attendance_status,
+                 attendance_mode, finalized, overtime_minutes, open_check_in_time, first_check_in_time,
+                 last_check_out_time, last_event_time, office_entry, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            on conflict (company_id, employee_id, summary_date) do update set
+                office_worked_minutes = excluded.office_worked_minutes,
+                office_present = excluded.office_present,
+                remote_day = excluded.remote_day,
+                late_minutes = excluded.late_minutes,
+                early_exit_minutes = excluded.early_exit_minutes,
+                late_arrival = excluded.late_arrival,
+                early_exit = excluded.early_exit,
+                attendance_status = excluded.attendance_status,
+                attendance_mode = excluded.attendance_mode,
+                finalized = excluded.finalized,
+                updated_at = excluded.updated_at
+            """;
+    private static final String MERGE_SQL = """
+            merge into daily_summary ds
+            using (values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?))
+                as src (id, company_id, employee_id, summary_date, worked_minutes, office_worked_minutes,
+                        office_present, remote_day, late_minutes, early_exit_minutes, late_arrival, early_exit,
+                        attendance_status, attendance_mode, finalized, overtime_minutes, open_check_in_time,
+                        first_check_in_time, last_check_out_time, last_event_time, office_entry, created_at,
+                        updated_at)
+            on ds.company_id = src.company_id
+                and ds.employee_id = src.employee_id
+                and ds.summary_date = src.summary_date
+            when matched then update set
+                office_worked_minutes = src.office_worked_minutes,
+                office_present = src.office_present,
+                remote_day = src.remote_day,
+                late_minutes = src.late_minutes,
+                early_exit_minutes = src.early_exit_minutes,
+                late_arrival = src.late_arrival,
+                early_exit = src.early_exit,
+                attendance_status = src.attendance_status,
+                attendance_mode = src.attendance_mode,
+                finalized = src.finalized,
+                updated_at = src.updated_at
+            when not matched then insert
+                (id, company_id, employee_id, summary_date, worked_minutes, office_worked_minutes, office_present,
+                 remote_day, late_minutes, early_exit_minutes, late_arrival, early_exit, attendance_status,
+                 attendance_mode, finalized, overtime_minutes, open_check_in_time, first_check_in_time,
+                 last_check_out_time, last_event_time, office_entry, created_at, updated_at)
+            values (src.id, src.company_id, src.employee_id, src.summary_date, src.worked_minutes,
+                    src.office_worked_minutes, src.office_present, src.remote_day, src.late_minutes,
+                    src.early_exit_minutes, src.late_arrival, src.early_exit, src.attendance_status,
+                    src.attendance_mode, src.finalized, src.overtime_minutes, src.open_check_in_time,
+                    src.first_check_in_time, src.last_check_out_time, src.last_event_time, src.office_entry,
+                    src.created_at, src.updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    @Override
+    public void upsertAll(Collection<DailySummary> summaries) {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        for (var summary : summaries) {
+            if (summary.getId() == null) {
+                summary.setId(UUID.randomUUID());
+            }
+            if (summary.getCreatedAt() == null) {
+                summary.setCreatedAt(now);
+            }
+            summary.setUpdatedAt(now);
+        }
+        jdbcTemplate.batchUpdate(resolveUpsertSql(), summaries, BATCH_SIZE, (statement, summary) -> {
+            statement.setObject(1, summary.getId());
+            statement.setObject(2, summary.getCompanyId());
+            statement.setObject(3, summary.getEmployee().getId());
+            statement.setObject(4, summary.getDate());
+            statement.setLong(5, summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes());
+            statement.setObject(6, summary.getOfficeWorkedMinutes(), Types.BIGINT);
+            statement.setObject(7, summary.getOfficePresent(), Types.BOOLEAN);
+            statement.setObject(8, summary.getRemoteDay(), Types.BOOLEAN);
+            statement.setObject(9, summary.getLateMinutes(), Types.BIGINT);
+            statement.setObject(10, summary.getEarlyExitMinutes(), Types.BIGINT);
+            statement.setObject(11, summary.getLateArrival(), Types.BOOLEAN);
+            statement.setObject(12, summary.getEarlyExit(), Types.BOOLEAN);
+            statement.setString(13, summary.getAttendanceStatus() == null ? null : summary.getAttendanceStatus().name());
+            statement.setString(14, summary.getMode() == null ? null : summary.getMode().name());
+            statement.setObject(15, summary.getFinalized(), Types.BOOLEAN);
+            statement.setInt(16, summary.getOvertimeMinutes() == null ? 0 : summary.getOvertimeMinutes());
+            statement.setObject(17, toTimestamp(summary.getOpenCheckInTime()), Types.TIMESTAMP_WITH_TIMEZONE);
+            statement.setObject(18, toTimestamp(summary.getFirstCheckInTime()), Types.TIMESTAMP_WITH_TIMEZONE);
+            statement.setObject(19, toTimestamp(summary.getLastCheckOutTime()), Types.TIMESTAMP_WITH_TIMEZONE);
+            statement.setObject(20, toTimestamp(summary.getLastEventTime()), Types.TIMESTAMP_WITH_TIMEZONE);
+            statement.setObject(21, summary.getOfficeEntry(), Types.BOOLEAN);
+            statement.setObject(22, summary.getCreatedAt().atOffset(ZoneOffset.UTC));
+            statement.setObject(23, now.atOffset(ZoneOffset.UTC));
+        });
+    }
+
+    private String resolveUpsertSql() {
+        if (upsertSql == null) {
+            var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            upsertSql = "PostgreSQL".equalsIgnoreCase(productName) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+        }
+        return upsertSql;
+    }
+
+    private Object toTimestamp(Instant instant) {
+        return instant == null ? null : instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -1,24 +1,87 @@
 package com.company.hrsystem.attendance.repository;
 
+import com.company.hrsystem.attendance.dto.AttendanceReportRow;
 import com.company.hrsystem.attendance.entity.DailySummary;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface DailySummaryRepository extends JpaRepository<DailySummary, UUID> {
+public interface DailySummaryRepository extends JpaRepository<DailySummary, UUID>, DailySummaryBatchRepository {
 
     Optional<DailySummary> findByCompanyIdAndEmployee_IdAndDate(
             UUID companyId,
             UUID employeeId,
             LocalDate date);
 
-    List<DailySummary> findByCompanyIdAndDate(UUID companyId, LocalDate date);
+    Optional<DailySummary> findFirstByCompanyIdAndEmployee_IdAndDateBeforeAndOpenCheckInTimeIsNotNullOrderByDateDesc(
+            UUID companyId,
+            UUID employeeId,
+            LocalDate date);
 
     List<DailySummary> findByCompanyIdAndEmployee_IdAndDateBetweenOrderByDateAsc(
             UUID companyId,
             UUID employeeId,
             LocalDate from,
             LocalDate to);
+
+    List<DailySummary> findByCompanyIdAndEmployee_IdInAndDateBetween(
+            UUID companyId,
+            Collection<UUID> employeeIds,
+            LocalDate from,
+            LocalDate to);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select ds from DailySummary ds
+            join fetch ds.employee e
+            where ds.companyId = :companyId
+              and ds.date = :date
+              and e.active = true
+              and (ds.finalized is null or ds.finalized = false)
+            """)
+    List<DailySummary> findUnfinalizedForActiveEmployees(
+            @Param("companyId") UUID companyId,
+            @Param("date") LocalDate date);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+            select ds from DailySummary ds
+            join fetch ds.employee e
+            left join fetch e.shift
+            where ds.companyId = :companyId
+              and ds.date = :date
+              and (ds.finalized is null or ds.finalized = false)
+            """)
+    List<DailySummary> findUnfinalizedWithEmployeeShift(
+            @Param("companyId") UUID companyId,
+            @Param("date") LocalDate date);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.company.hrsystem.attendance.dto.AttendanceReportRow(
+                e.employeeCode, e.firstName, e.lastName, ds.date, ds.attendanceStatus, ds.mode,
+                ds.totalWorkedMinutes, ds.officeWorkedMinutes, ds.lateMinutes, ds.earlyExitMinutes,
+                ds.overtimeMinutes, ds.firstCheckInTime, ds.lastCheckOutTime, ds.finalized)
+            from DailySummary ds
+            join ds.employee e
+            where ds.companyId = :companyId
+              and ds.date between :from and :to
+            order by e.employeeCode asc, ds.date asc
+            """)
+    Stream<AttendanceReportRow> streamReportRows(
+            @Param("companyId") UUID companyId,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
 }
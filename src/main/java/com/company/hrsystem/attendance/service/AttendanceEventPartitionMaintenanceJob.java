@@ -0,0 +1,304 @@
+package com.company.hrsystem.attendance.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class AttendanceEventPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceEventPartitionMaintenanceJob.class);
+    private static final long LOCK_KEY = 810210022L;
+    private static final int ARCHIVE_FETCH_SIZE = 1000;
+    private static final String PARENT_TABLE = "attendance_event";
+    private static final Pattern PARTITION_NAME = Pattern.compile("attendance_event_(\\d{6})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String RELKIND_SQL = "select c.relkind from pg_class c where c.oid = to_regclass(?)";
+    private static final String PARTITIONS_SQL = """
+            select c.relname
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            where i.inhparent = to_regclass(?)
+            """;
+    private static final String DETACHED_PARTITIONS_SQL = """
+            select c.relname
+            from pg_class c
+            where c.relkind = 'r'
+              and not c.relispartition
+              and pg_table_is_visible(c.oid)
+              and c.relname like ?
+            """;
+    private static final String RANGE_PREDICATE =
+            " where event_time >= cast(? as timestamptz) and event_time < cast(? as timestamptz)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+    private final PostgresDistributedLockManager distributedLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final int premakeMonths;
+    private final int retentionMonths;
+    private final Path archiveDir;
+    private volatile Boolean partitioned;
+
+    public AttendanceEventPartitionMaintenanceJob(
+            JdbcTemplate jdbcTemplate,
+            PostgresDistributedLockManager distributedLockManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${attendance.partitions.premake-months:3}") int premakeMonths,
+            @Value("${attendance.partitions.retention-months:0}") int retentionMonths,
+            @Value("${attendance.partitions.archive-dir:./archive/attendance-event}") String archiveDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.exportJdbcTemplate.setFetchSize(ARCHIVE_FETCH_SIZE);
+        this.distributedLockManager = distributedLockManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.premakeMonths = Math.max(1, premakeMonths);
+        this.retentionMonths = retentionMonths;
+        this.archiveDir = Path.of(archiveDir);
+    }
+
+    @Scheduled(cron = "${attendance.partitions.maintenance-cron:0 30 1 * * *}", zone = "UTC")
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            return;
+        }
+
+        var optionalLock = distributedLockManager.tryAcquire(LOCK_KEY);
+        if (optionalLock.isEmpty()) {
+            log.info("attendance_event_partition_maintenance_skip reason=lock_not_acquired");
+            return;
+        }
+
+        var startedAt = Instant.now();
+        var lock = optionalLock.get();
+        try {
+            var existing = existingPartitions();
+            var currentMonth = YearMonth.now(ZoneOffset.UTC);
+            var created = createMissingPartitions(existing, currentMonth);
+            var archived = retentionMonths > 0
+                    ? archiveExpiredPartitions(existing, currentMonth.minusMonths(retentionMonths))
+                    : 0;
+            log.info("attendance_event_partition_maintenance_complete created={} archived={} duration_ms={}",
+                    created, archived, Duration.between(startedAt, Instant.now()).toMillis());
+        } catch (RuntimeException ex) {
+            log.error("attendance_event_partition_maintenance_failed duration_ms={}",
+                    Duration.between(startedAt, Instant.now()).toMillis(), ex);
+        } finally {
+            lock.close();
+        }
+    }
+
+    private int createMissingPartitions(TreeSet<YearMonth> existing, YearMonth currentMonth) {
+        var created = 0;
+        var lastMonth = currentMonth.plusMonths(premakeMonths);
+        for (var next = currentMonth; !next.isAfter(lastMonth); next = next.plusMonths(1)) {
+            var month = next;
+            if (existing.contains(month)) {
+                continue;
+            }
+            var partition = partitionName(month);
+            try {
+                var movedRows = transactionTemplate.execute(status -> createPartition(partition, month));
+                existing.add(month);
+                created++;
+                log.info("attendance_event_partition_created partition={} default_rows_moved={}", partition, movedRows);
+            } catch (RuntimeException ex) {
+                log.error("attendance_event_partition_create_failed partition={}", partition, ex);
+            }
+        }
+        return created;
+    }
+
+    private long createPartition(String partition, YearMonth month) {
+        var from = lowerBound(month);
+        var to = lowerBound(month.plusMonths(1));
+        var bounds = " for values from ('" + from + "') to ('" + to + "')";
+        var defaultRows = jdbcTemplate.queryForObject(
+                "select count(*) from " + PARENT_TABLE + RANGE_PREDICATE, Long.class, from, to);
+        if (defaultRows == null || defaultRows == 0) {
+            jdbcTemplate.execute("create table if not exists " + partition + " partition of " + PARENT_TABLE + bounds);
+            return 0;
+        }
+        log.warn("attendance_event_partition_default_rows_found partition={} rows={}", partition, defaultRows);
+        jdbcTemplate.execute("create table " + partition + " (like " + PARENT_TABLE + " including defaults)");
+        jdbcTemplate.update("insert into " + partition + " select * from " + PARENT_TABLE + RANGE_PREDICATE, from, to);
+        jdbcTemplate.update("delete from " + PARENT_TABLE + RANGE_PREDICATE, from, to);
+        jdbcTemplate.execute("alter table " + PARENT_TABLE + " attach partition " + partition + bounds);
+        return defaultRows;
+    }
+
+    private int archiveExpiredPartitions(TreeSet<YearMonth> existing, YearMonth oldestRetainedMonth) {
+        for (var month : existing.headSet(oldestRetainedMonth, false)) {
+            var partition = partitionName(month);
+            try {
+                jdbcTemplate.execute("alter table " + PARENT_TABLE + " detach partition " + partition);
+                log.info("attendance_event_partition_detached partition={}", partition);
+            } catch (RuntimeException ex) {
+                log.error("attendance_event_partition_detach_failed partition={}", partition, ex);
+            }
+        }
+
+        var archived = 0;
+        for (var month : detachedPartitions().headSet(oldestRetainedMonth, false)) {
+            var partition = partitionName(month);
+            try {
+                var rows = archive(partition);
+                jdbcTemplate.execute("drop table " + partition);
+                archived++;
+                log.info("attendance_event_partition_archived partition={} rows={} archive_dir={}",
+                        partition, rows, archiveDir);
+            } catch (RuntimeException ex) {
+                log.error("attendance_event_partition_archive_failed partition={}", partition, ex);
+            }
+        }
+        return archived;
+    }
+
+    private long archive(String partition) {
+        Path tempFile = null;
+        try {
+            Files.createDirectories(archiveDir);
+            tempFile = Files.createTempFile(archiveDir, partition + "-", ".csv.gz.tmp");
+            Long rows;
+            try (var writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+                rows = readOnlyTransactionTemplate.execute(status -> exportRows(partition, writer));
+            }
+            Files.move(tempFile, archiveDir.resolve(partition + ".csv.gz"),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return rows == null ? 0 : rows;
+        } catch (IOException ex) {
+            deleteQuietly(tempFile);
+            throw new UncheckedIOException("Unable to archive partition " + partition, ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(tempFile);
+            throw ex;
+        }
+    }
+
+    private long exportRows(String partition, BufferedWriter writer) {
+        var rows = new AtomicLong();
+        exportJdbcTemplate.query("select * from " + partition + " order by event_time", resultSet -> {
+            try {
+                if (rows.get() == 0) {
+                    writeHeader(resultSet, writer);
+                }
+                writeRow(resultSet, writer);
+                rows.incrementAndGet();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return rows.get();
+    }
+
+    private void writeHeader(ResultSet resultSet, BufferedWriter writer) throws SQLException, IOException {
+        var metaData = resultSet.getMetaData();
+        for (int column = 1; column <= metaData.getColumnCount(); column++) {
+            if (column > 1) {
+                writer.write(',');
+            }
+            writer.write(metaData.getColumnLabel(column));
+        }
+        writer.newLine();
+    }
+
+    private void writeRow(ResultSet resultSet, BufferedWriter writer) throws SQLException, IOException {
+        var columnCount = resultSet.getMetaData().getColumnCount();
+        for (int column = 1; column <= columnCount; column++) {
+            if (column > 1) {
+                writer.write(',');
+            }
+            var value = resultSet.getString(column);
+            if (value != null) {
+                writer.write(csvValue(value));
+            }
+        }
+        writer.newLine();
+    }
+
+    private String csvValue(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private TreeSet<YearMonth> existingPartitions() {
+        return partitionMonths(PARTITIONS_SQL, PARENT_TABLE);
+    }
+
+    private TreeSet<YearMonth> detachedPartitions() {
+        return partitionMonths(DETACHED_PARTITIONS_SQL, PARENT_TABLE + "\\_%");
+    }
+
+    private TreeSet<YearMonth> partitionMonths(String sql, String parameter) {
+        var months = new TreeSet<YearMonth>();
+        for (var name : jdbcTemplate.queryForList(sql, String.class, parameter)) {
+            var matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.parse(matcher.group(1), PARTITION_SUFFIX));
+            }
+        }
+        return months;
+    }
+
+    private boolean isPartitioned() {
+        var current = partitioned;
+        if (current == null) {
+            var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            current = "PostgreSQL".equalsIgnoreCase(productName)
+                    && jdbcTemplate.queryForList(RELKIND_SQL, String.class, PARENT_TABLE).contains("p");
+            partitioned = current;
+        }
+        return current;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(PARTITION_SUFFIX);
+    }
+
+    private String lowerBound(YearMonth month) {
+        return month.atDay(1) + " 00:00:00+00";
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("attendance_event_partition_temp_file_cleanup_failed path={}", path, ex);
+        }
+    }
+}
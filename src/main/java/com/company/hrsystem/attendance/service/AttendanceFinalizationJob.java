@@ -1,14 +1,14 @@
 package com.company.hrsystem.attendance.service;
 
-import com.company.hrsystem.attendance.entity.AttendanceEvent;
-import com.company.hrsystem.attendance.entity.AttendanceEventType;
 import com.company.hrsystem.attendance.entity.AttendanceMode;
-import com.company.hrsystem.attendance.entity.AttendanceSource;
+import com.company.hrsystem.attendance.entity.AttendanceNightlyRun;
 import com.company.hrsystem.attendance.entity.AttendanceStatus;
 import com.company.hrsystem.attendance.entity.DailySummary;
-import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceMonthlyRollupRepository;
+import com.company.hrsystem.attendance.repository.AttendanceNightlyRunRepository;
 import com.company.hrsystem.attendance.repository.DailySummaryRepository;
-import com.company.hrsystem.company.repository.CompanyRepository;
+import com.company.hrsystem.company.entity.Company;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.employee.entity.Employee;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
 import com.company.hrsystem.holiday.repository.HolidayRepository;
@@ -18,20 +18,20 @@ import com.company.hrsystem.leave.repository.LeaveRequestRepository;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
+import java.time.YearMonth;
 import java.time.DayOfWeek;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -43,104 +43,148 @@ public class AttendanceFinalizationJob {
     private static final Logger log = LoggerFactory.getLogger(AttendanceFinalizationJob.class);
     private static final long REQUIRED_MINUTES = 480L;
     private static final String WFH_LEAVE_TYPE = "WFH";
-    private static final long JOB_LOCK_KEY = 810210011L;
-    private static final Duration MAX_LOCK_DURATION = Duration.ofMinutes(30);
+    static final int LOCK_NAMESPACE = 810210011;
+    private static final Duration MAX_JOB_DURATION = Duration.ofMinutes(30);
 
-    private final CompanyRepository companyRepository;
     private final EmployeeRepository employeeRepository;
-    private final AttendanceEventRepository attendanceEventRepository;
     private final DailySummaryRepository dailySummaryRepository;
+    private final AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
     private final HolidayRepository holidayRepository;
     private final LeaveRequestRepository leaveRequestRepository;
+    private final AttendanceNightlyRunRepository nightlyRunRepository;
     private final PostgresDistributedLockManager distributedLockManager;
+    private final DashboardCache dashboardCache;
     private final PlatformTransactionManager transactionManager;
 
-    @Scheduled(cron = "0 10 0 * * ?")
-    public void finalizeDailyAttendance() {
-        var startedAt = Instant.now();
-        log.info("attendance_finalization_job_start lock_key={} max_lock_minutes={}",
-                JOB_LOCK_KEY, MAX_LOCK_DURATION.toMinutes());
+    @Value("${attendance.finalization.parallelism:4}")
+    private int parallelism;
 
-        var optionalLock = distributedLockManager.tryAcquire(JOB_LOCK_KEY);
-        if (optionalLock.isEmpty()) {
-            log.info("attendance_finalization_job_skip reason=lock_not_acquired lock_key={}", JOB_LOCK_KEY);
-            return;
-        }
+    public void finalizeCompanies(List<Company> companies, LocalDate targetDate) {
+        var startedAt = Instant.now();
+        var deadline = startedAt.plus(MAX_JOB_DURATION);
+        var workers = Math.max(1, parallelism);
+        log.info("attendance_finalization_job_start target_date={} companies={} parallelism={} max_job_minutes={}",
+                targetDate, companies.size(), workers, MAX_JOB_DURATION.toMinutes());
 
-        var deadline = startedAt.plus(MAX_LOCK_DURATION);
-        var companies = companyRepository.findAll();
         var txTemplate = new TransactionTemplate(transactionManager);
-        var processedEmployees = 0;
-
-        try (var lock = optionalLock.get()) {
+        var results = new ArrayList<Future<CompanyFinalizationResult>>(companies.size());
+        try (var executor = Executors.newFixedThreadPool(
+                workers,
+                Thread.ofVirtual().name("attendance-finalization-", 0).factory())) {
             for (var company : companies) {
-                if (Instant.now().isAfter(deadline)) {
-                    log.warn("attendance_finalization_job_timeout processed_employees={} max_lock_minutes={}",
-                            processedEmployees, MAX_LOCK_DURATION.toMinutes());
-                    break;
-                }
+                results.add(executor.submit(() -> finalizeCompany(company, targetDate, deadline, txTemplate)));
+            }
+        }
 
-                var companyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
-                try {
-                    var finalizedInCompany = txTemplate.execute(status ->
-                            finalizeCompanyDate(companyId, company.getTimezone()));
-                    processedEmployees += finalizedInCompany == null ? 0 : finalizedInCompany;
-                } catch (RuntimeException ex) {
-                    log.error("attendance_finalization_company_failed company_id={}", companyId, ex);
+        var processedEmployees = 0;
+        var finalizedCompanies = 0;
+        var skippedCompanies = 0;
+        var failedCompanies = 0;
+        for (var result : results) {
+            var outcome = outcomeOf(result);
+            switch (outcome.status()) {
+                case FINALIZED -> {
+                    finalizedCompanies++;
+                    processedEmployees += outcome.processedEmployees();
                 }
+                case SKIPPED -> skippedCompanies++;
+                case FAILED -> failedCompanies++;
             }
         }
 
         var durationMs = Duration.between(startedAt, Instant.now()).toMillis();
-        log.info("attendance_finalization_job_end processed_employees={} duration_ms={}",
-                processedEmployees, durationMs);
+        log.info("attendance_finalization_job_end finalized_companies={} skipped_companies={} failed_companies={} "
+                        + "processed_employees={} duration_ms={}",
+                finalizedCompanies, skippedCompanies, failedCompanies, processedEmployees, durationMs);
     }
 
-    private int finalizeCompanyDate(UUID companyId, String timezone) {
-        var zoneId = resolveZone(timezone);
-        var targetDate = LocalDate.now(zoneId).minusDays(1);
-        var dayStart = targetDate.atStartOfDay(zoneId).toInstant();
-        var nextDayStart = targetDate.plusDays(1).atStartOfDay(zoneId).toInstant();
+    private CompanyFinalizationResult finalizeCompany(
+            Company company,
+            LocalDate targetDate,
+            Instant deadline,
+            TransactionTemplate txTemplate) {
+        var companyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
+        if (Instant.now().isAfter(deadline)) {
+            log.warn("attendance_finalization_company_skip reason=deadline_exceeded company_id={}", companyId);
+            return CompanyFinalizationResult.skipped();
+        }
 
-        var activeEmployees = employeeRepository.findByCompanyIdAndActiveTrue(companyId);
-        if (activeEmployees.isEmpty()) {
-            return 0;
+        var startedAt = Instant.now();
+        try {
+            var optionalLock = distributedLockManager.tryAcquire(LOCK_NAMESPACE, companyId);
+            if (optionalLock.isEmpty()) {
+                log.info("attendance_finalization_company_skip reason=lock_not_acquired company_id={}", companyId);
+                return CompanyFinalizationResult.skipped();
+            }
+            var lock = optionalLock.get();
+            try {
+                var finalizedInCompany = txTemplate.execute(status -> finalizeCompanyDate(companyId, targetDate));
+                log.info("attendance_finalization_company_done company_id={} target_date={} processed_employees={} "
+                                + "duration_ms={}",
+                        companyId, targetDate, finalizedInCompany, Duration.between(startedAt, Instant.now()).toMillis());
+                return new CompanyFinalizationResult(CompanyFinalizationStatus.FINALIZED, finalizedInCompany);
+            } finally {
+                lock.close();
+            }
+        } catch (RuntimeException ex) {
+            log.error("attendance_finalization_company_failed company_id={} duration_ms={}",
+                    companyId, Duration.between(startedAt, Instant.now()).toMillis(), ex);
+            return CompanyFinalizationResult.failed();
         }
+    }
 
-        var summaries = dailySummaryRepository.findByCompanyIdAndDate(companyId, targetDate);
-        var summaryByEmployeeId = new HashMap<UUID, DailySummary>(summaries.size());
-        for (var summary : summaries) {
-            summaryByEmployeeId.put(summary.getEmployee().getId(), summary);
+    private CompanyFinalizationResult outcomeOf(Future<CompanyFinalizationResult> result) {
+        return switch (result.state()) {
+            case SUCCESS -> result.resultNow();
+            case FAILED -> {
+                log.error("attendance_finalization_company_task_failed", result.exceptionNow());
+                yield CompanyFinalizationResult.failed();
+            }
+            case CANCELLED, RUNNING -> {
+                log.error("attendance_finalization_company_task_incomplete state={}", result.state());
+                yield CompanyFinalizationResult.failed();
+            }
+        };
+    }
+
+    private int finalizeCompanyDate(UUID companyId, LocalDate targetDate) {
+        var nightlyRun = nightlyRunRepository.findByCompanyId(companyId)
+                .orElseGet(() -> newNightlyRun(companyId));
+        var lastFinalizedDate = nightlyRun.getLastFinalizedDate();
+        if (lastFinalizedDate == null || lastFinalizedDate.isBefore(targetDate)) {
+            nightlyRun.setLastFinalizedDate(targetDate);
+            nightlyRunRepository.save(nightlyRun);
+        } else {
+            var refinalizeFromDate = nightlyRun.getRefinalizeFromDate();
+            if (refinalizeFromDate != null && !refinalizeFromDate.isAfter(targetDate)) {
+                var nextDate = targetDate.plusDays(1);
+                nightlyRunRepository.advanceRefinalizeFromDate(
+                        companyId,
+                        refinalizeFromDate,
+                        nextDate.isAfter(lastFinalizedDate) ? null : nextDate);
+            }
+        }
+
+        var pendingSummaries = dailySummaryRepository.findUnfinalizedForActiveEmployees(companyId, targetDate);
+        var employeesWithoutSummary = employeeRepository.findActiveWithoutDailySummary(companyId, targetDate);
+        if (pendingSummaries.isEmpty() && employeesWithoutSummary.isEmpty()) {
+            return 0;
         }
+
         var holidayExists = holidayRepository.existsByCompanyIdAndDate(companyId, targetDate);
         var approvedLeaves = leaveRequestRepository.findActiveForDate(companyId, LeaveStatus.APPROVED, targetDate);
         var leaveByEmployeeId = mapApprovedLeavesByEmployee(approvedLeaves);
 
-        var events = attendanceEventRepository.findByCompanyAndEventTypesAndEventTimeBetween(
-                companyId,
-                Set.of(
-                        AttendanceEventType.CHECK_IN,
-                        AttendanceEventType.CHECK_OUT,
-                        AttendanceEventType.OFFICE_ENTRY,
-                        AttendanceEventType.OFFICE_EXIT),
-                dayStart,
-                nextDayStart);
-        var eventsByEmployee = groupByEmployee(events);
-
-        var upserts = new ArrayList<DailySummary>(activeEmployees.size());
-        for (var employee : activeEmployees) {
-            var existingSummary = summaryByEmployeeId.get(employee.getId());
-            if (existingSummary != null && Boolean.TRUE.equals(existingSummary.getFinalized())) {
-                continue;
-            }
+        var upserts = new ArrayList<DailySummary>(pendingSummaries.size() + employeesWithoutSummary.size());
+        upserts.addAll(pendingSummaries);
+        for (var employee : employeesWithoutSummary) {
+            upserts.add(newSummary(companyId, employee, targetDate));
+        }
 
-            var employeeEvents = eventsByEmployee.getOrDefault(employee.getId(), List.of());
-            var totalWorkedMinutes = calculateWorkedMinutes(employeeEvents);
-            var officePresent = employeeEvents.stream().anyMatch(event ->
-                    event.getSource() == AttendanceSource.BIOMETRIC
-                            && (event.getEventType() == AttendanceEventType.CHECK_IN
-                            || event.getEventType() == AttendanceEventType.OFFICE_ENTRY));
-            var approvedLeave = leaveByEmployeeId.get(employee.getId());
+        for (var summary : upserts) {
+            var totalWorkedMinutes = summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes();
+            var officePresent = Boolean.TRUE.equals(summary.getOfficeEntry());
+            var approvedLeave = leaveByEmployeeId.get(summary.getEmployee().getId());
             var onApprovedLeave = approvedLeave != null;
             var onApprovedWfhLeave = onApprovedLeave && isWfhLeaveType(approvedLeave.getLeaveType());
             var attendanceStatus = resolveAttendanceStatus(
@@ -151,34 +195,22 @@ public class AttendanceFinalizationJob {
                     totalWorkedMinutes);
             var attendanceMode = resolveAttendanceMode(attendanceStatus, officePresent, onApprovedWfhLeave);
 
-            var summary = existingSummary != null ? existingSummary : newSummary(companyId, employee, targetDate);
-            summary.setTotalWorkedMinutes(totalWorkedMinutes);
             summary.setAttendanceStatus(attendanceStatus);
             summary.setMode(attendanceMode);
             summary.setOfficePresent(attendanceMode == AttendanceMode.OFFICE);
             summary.setRemoteDay(attendanceMode == AttendanceMode.WFH);
             summary.setOfficeWorkedMinutes(attendanceMode == AttendanceMode.OFFICE ? totalWorkedMinutes : 0L);
             summary.setFinalized(Boolean.TRUE);
-            upserts.add(summary);
         }
 
         if (!upserts.isEmpty()) {
-            dailySummaryRepository.saveAll(upserts);
+            dailySummaryRepository.upsertAll(upserts);
+            attendanceMonthlyRollupRepository.refreshMonth(companyId, YearMonth.from(targetDate));
+            dashboardCache.evictTenantAfterCompletion(companyId, DashboardCache.Section.ATTENDANCE);
         }
         return upserts.size();
     }
 
-    private Map<UUID, List<AttendanceEvent>> groupByEmployee(List<AttendanceEvent> events) {
-        if (events.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        var grouped = new HashMap<UUID, List<AttendanceEvent>>();
-        for (var event : events) {
-            grouped.computeIfAbsent(event.getEmployee().getId(), ignored -> new ArrayList<>()).add(event);
-        }
-        return grouped;
-    }
-
     private Map<UUID, LeaveRequest> mapApprovedLeavesByEmployee(List<LeaveRequest> approvedLeaves) {
         if (approvedLeaves.isEmpty()) {
             return Collections.emptyMap();
@@ -193,32 +225,6 @@ public class AttendanceFinalizationJob {
         return byEmployee;
     }
 
-    private long calculateWorkedMinutes(List<AttendanceEvent> events) {
-        if (events.isEmpty()) {
-            return 0L;
-        }
-
-        long totalMinutes = 0L;
-        Instant openCheckIn = null;
-
-        for (var event : events) {
-            if (event.getEventType() == AttendanceEventType.CHECK_IN) {
-                if (openCheckIn == null || event.getEventTime().isAfter(openCheckIn)) {
-                    openCheckIn = event.getEventTime();
-                }
-                continue;
-            }
-
-            if (event.getEventType() == AttendanceEventType.CHECK_OUT && openCheckIn != null
-                    && event.getEventTime().isAfter(openCheckIn)) {
-                totalMinutes += Duration.between(openCheckIn, event.getEventTime()).toMinutes();
-                openCheckIn = null;
-            }
-        }
-
-        return Math.max(0L, totalMinutes);
-    }
-
     private AttendanceStatus resolveAttendanceStatus(
             boolean holidayExists,
             LocalDate targetDate,
@@ -282,14 +288,25 @@ public class AttendanceFinalizationJob {
         return summary;
     }
 
-    private ZoneId resolveZone(String timezone) {
-        if (timezone == null || timezone.isBlank()) {
-            return ZoneOffset.UTC;
+    private AttendanceNightlyRun newNightlyRun(UUID companyId) {
+        var nightlyRun = new AttendanceNightlyRun();
+        nightlyRun.setCompanyId(companyId);
+        return nightlyRun;
+    }
+
+    private enum CompanyFinalizationStatus {
+        FINALIZED,
+        SKIPPED,
+        FAILED
+    }
+
+    private record CompanyFinalizationResult(CompanyFinalizationStatus status, int processedEmployees) {
+        private static CompanyFinalizationResult skipped() {
+            return new CompanyFinalizationResult(CompanyFinalizationStatus.SKIPPED, 0);
         }
-        try {
-            return ZoneId.of(timezone);
-        } catch (Exception ex) {
-            return ZoneOffset.UTC;
+
+        private static CompanyFinalizationResult failed() {
+            return new CompanyFinalizationResult(CompanyFinalizationStatus.FAILED, 0);
         }
     }
 }
@@ -0,0 +1,101 @@
+package com.company.hrsystem.attendance.service;
+
+import com.company.hrsystem.attendance.entity.AttendanceNightlyRun;
+import com.company.hrsystem.attendance.repository.AttendanceNightlyRunRepository;
+import com.company.hrsystem.company.entity.Company;
+import com.company.hrsystem.company.repository.CompanyRepository;
+import com.company.hrsystem.company.service.CompanyZoneResolver;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AttendanceNightlyScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceNightlyScheduler.class);
+    private static final Duration WAVE_DELAY = Duration.ofMinutes(5);
+    private static final int MAX_CATCH_UP_DAYS = 7;
+
+    private final CompanyRepository companyRepository;
+    private final AttendanceNightlyRunRepository nightlyRunRepository;
+    private final AttendanceReconciliationScheduler reconciliationScheduler;
+    private final AttendanceFinalizationJob finalizationJob;
+
+    @Scheduled(cron = "0 5/15 * * * ?", zone = "UTC")
+    public void runDueCompanies() {
+        var dueDates = dueDates(companyRepository.findAll(), nightlyRuns(), Instant.now());
+        if (dueDates.isEmpty()) {
+            return;
+        }
+
+        dueDates.forEach((targetDate, companies) -> {
+            var startedAt = Instant.now();
+            log.info("attendance_nightly_date_start target_date={} companies={}", targetDate, companies.size());
+            try {
+                reconciliationScheduler.reconcileCompanies(companies, targetDate);
+                finalizationJob.finalizeCompanies(companies, targetDate);
+                log.info("attendance_nightly_date_end target_date={} companies={} duration_ms={}",
+                        targetDate, companies.size(), Duration.between(startedAt, Instant.now()).toMillis());
+            } catch (RuntimeException ex) {
+                log.error("attendance_nightly_date_failed target_date={} companies={}", targetDate, companies.size(), ex);
+            }
+        });
+    }
+
+    private Map<LocalDate, List<Company>> dueDates(
+            List<Company> companies,
+            Map<UUID, AttendanceNightlyRun> nightlyRuns,
+            Instant now) {
+        var dueDates = new TreeMap<LocalDate, List<Company>>();
+        for (var company : companies) {
+            var companyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
+            var zoneId = CompanyZoneResolver.resolve(company.getTimezone());
+            var targetDate = now.minus(WAVE_DELAY).atZone(zoneId).toLocalDate().minusDays(1);
+            var nightlyRun = nightlyRuns.get(companyId);
+            var lastFinalizedDate = nightlyRun == null ? null : nightlyRun.getLastFinalizedDate();
+            var refinalizeFromDate = nightlyRun == null ? null : nightlyRun.getRefinalizeFromDate();
+            if (refinalizeFromDate != null && lastFinalizedDate != null) {
+                log.info("attendance_nightly_refinalize company_id={} from_date={} to_date={}",
+                        companyId, refinalizeFromDate, lastFinalizedDate);
+                for (var date = refinalizeFromDate; !date.isAfter(lastFinalizedDate); date = date.plusDays(1)) {
+                    dueDates.computeIfAbsent(date, ignored -> new ArrayList<>()).add(company);
+                }
+            }
+            if (lastFinalizedDate != null && !lastFinalizedDate.isBefore(targetDate)) {
+                continue;
+            }
+
+            var firstDate = lastFinalizedDate == null ? targetDate : lastFinalizedDate.plusDays(1);
+            var oldestCatchUpDate = targetDate.minusDays(MAX_CATCH_UP_DAYS - 1);
+            if (firstDate.isBefore(oldestCatchUpDate)) {
+                log.warn("attendance_nightly_catch_up_truncated company_id={} last_finalized_date={} first_date={}",
+                        companyId, lastFinalizedDate, oldestCatchUpDate);
+                firstDate = oldestCatchUpDate;
+            }
+            for (var date = firstDate; !date.isAfter(targetDate); date = date.plusDays(1)) {
+                dueDates.computeIfAbsent(date, ignored -> new ArrayList<>()).add(company);
+            }
+        }
+        return dueDates;
+    }
+
+    private Map<UUID, AttendanceNightlyRun> nightlyRuns() {
+        var nightlyRuns = new HashMap<UUID, AttendanceNightlyRun>();
+        for (var nightlyRun : nightlyRunRepository.findAll()) {
+            nightlyRuns.put(nightlyRun.getCompanyId(), nightlyRun);
+        }
+        return nightlyRuns;
+    }
+}
@@ -1,17 +1,20 @@
 package com.company.hrsystem.attendance.service;
 
-import com.company.hrsystem.attendance.entity.AttendanceEvent;
-import com.company.hrsystem.attendance.entity.AttendanceSource;
+import com.company.hrsystem.attendance.dto.AttendanceEventRow;
 import com.company.hrsystem.attendance.entity.AttendanceStatus;
 import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.entity.AttendanceNightlyRun;
 import com.company.hrsystem.attendance.entity.DailySummary;
 import com.company.hrsystem.attendance.entity.WorkPolicy;
 import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceMonthlyRollupRepository;
+import com.company.hrsystem.attendance.repository.AttendanceNightlyRunRepository;
 import com.company.hrsystem.attendance.repository.DailySummaryRepository;
 import com.company.hrsystem.attendance.repository.OfficePresenceSummaryRepository;
 import com.company.hrsystem.attendance.repository.WorkPolicyRepository;
 import com.company.hrsystem.company.entity.Company;
-import com.company.hrsystem.company.repository.CompanyRepository;
+import com.company.hrsystem.company.service.CompanyZoneResolver;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.employee.entity.Employee;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
 import com.company.hrsystem.shift.entity.Shift;
@@ -19,8 +22,8 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,7 +34,6 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -42,87 +44,85 @@ public class AttendanceReconciliationScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(AttendanceReconciliationScheduler.class);
 
-    private final CompanyRepository companyRepository;
     private final WorkPolicyRepository workPolicyRepository;
     private final EmployeeRepository employeeRepository;
     private final DailySummaryRepository dailySummaryRepository;
+    private final AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
     private final AttendanceEventRepository attendanceEventRepository;
     private final OfficePresenceSummaryRepository officePresenceSummaryRepository;
+    private final AttendanceNightlyRunRepository nightlyRunRepository;
+    private final PostgresDistributedLockManager distributedLockManager;
+    private final DashboardCache dashboardCache;
     private final PlatformTransactionManager transactionManager;
 
-    @Scheduled(cron = "0 5 0 * * ?")
-    public void reconcileYesterday() {
-        var companies = companyRepository.findAll();
+    public void reconcileCompanies(List<Company> companies, LocalDate targetDate) {
         var txTemplate = new TransactionTemplate(transactionManager);
 
         for (var company : companies) {
+            var companyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
             try {
-                txTemplate.executeWithoutResult(status -> reconcileCompany(company));
+                var optionalLock = distributedLockManager.tryAcquire(AttendanceFinalizationJob.LOCK_NAMESPACE, companyId);
+                if (optionalLock.isEmpty()) {
+                    log.info("attendance_reconciliation_company_skip reason=lock_not_acquired company_id={}", companyId);
+                    continue;
+                }
+                var lock = optionalLock.get();
+                try {
+                    txTemplate.executeWithoutResult(status -> reconcileCompany(company, targetDate));
+                } finally {
+                    lock.close();
+                }
             } catch (RuntimeException ex) {
-                var tenantCompanyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
-                log.error("Attendance reconciliation failed for companyId={}", tenantCompanyId, ex);
+                log.error("Attendance reconciliation failed for companyId={}", companyId, ex);
             }
         }
     }
 
-    private void reconcileCompany(Company company) {
+    private void reconcileCompany(Company company, LocalDate targetDate) {
         var companyId = company.getCompanyId() != null ? company.getCompanyId() : company.getId();
-        var zoneId = resolveCompanyZone(company.getTimezone());
-        var targetDate = LocalDate.now(zoneId).minusDays(1);
+        var nightlyRun = nightlyRunRepository.findByCompanyId(companyId)
+                .orElseGet(() -> newNightlyRun(companyId));
+        var lastReconciledDate = nightlyRun.getLastReconciledDate();
+        if (lastReconciledDate == null || lastReconciledDate.isBefore(targetDate)) {
+            nightlyRun.setLastReconciledDate(targetDate);
+            nightlyRunRepository.save(nightlyRun);
+        }
+
+        var zoneId = CompanyZoneResolver.resolve(company.getTimezone());
         var dayStart = targetDate.atStartOfDay(zoneId).toInstant();
         var nextDayStart = targetDate.plusDays(1).atStartOfDay(zoneId).toInstant();
 
-        var policy = loadOrCreatePolicy(companyId);
-        var employees = employeeRepository.findWithShiftByCompanyId(companyId);
-        if (employees.isEmpty()) {
+        var summaries = dailySummaryRepository.findUnfinalizedWithEmployeeShift(companyId, targetDate);
+        if (summaries.isEmpty()) {
             return;
         }
+        var policy = loadOrCreatePolicy(companyId);
 
-        var summaries = dailySummaryRepository.findByCompanyIdAndDate(companyId, targetDate);
-        var summaryByEmployeeId = new HashMap<UUID, DailySummary>(summaries.size());
-        for (var summary : summaries) {
-            summaryByEmployeeId.put(summary.getEmployee().getId(), summary);
-        }
-
-        var officeEntryEmployeeIds = attendanceEventRepository
-                .findDistinctEmployeeIdsByCompanyAndSourceAndEventTypeAndEventTimeBetween(
-                        companyId,
-                        AttendanceSource.BIOMETRIC,
-                        AttendanceEventType.OFFICE_ENTRY,
-                        dayStart,
-                        nextDayStart);
-
-        var maxShiftDurationMinutes = employees.stream()
-                .map(Employee::getShift)
-                .filter(this::isShiftConfigured)
-                .mapToLong(this::resolveShiftDurationMinutes)
-                .max()
-                .orElse(0L);
-
-        var punchRangeStart = dayStart.minus(Duration.ofMinutes(maxShiftDurationMinutes));
-        var punchRangeEnd = nextDayStart.plus(Duration.ofMinutes(maxShiftDurationMinutes));
-        var punchEvents = attendanceEventRepository.findByCompanyAndEventTypesAndEventTimeBetween(
+        var overnightEmployees = summaries.stream()
+                .map(DailySummary::getEmployee)
+                .filter(employee -> isOvernightShift(employee.getShift()))
+                .toList();
+        var overnightPunchWindows = fetchOvernightPunchWindows(
                 companyId,
-                Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT),
-                punchRangeStart,
-                punchRangeEnd);
-        var punchEventsByEmployeeId = groupPunchEventsByEmployee(punchEvents);
+                overnightEmployees,
+                targetDate,
+                zoneId,
+                dayStart,
+                nextDayStart);
 
         var officeWorkedMinutesByEmployeeId = fetchOfficeWorkedMinutes(companyId, targetDate);
         var autoDeduct = Boolean.TRUE.equals(policy.getAutoDeduct());
 
-        var toSaveSummaries = new ArrayList<DailySummary>(employees.size());
-        var employeesToUpdate = new ArrayList<Employee>();
-
-        for (var employee : employees) {
-            var summary = summaryByEmployeeId.computeIfAbsent(
-                    employee.getId(),
-                    employeeId -> newDailySummary(companyId, employee, targetDate));
+        var wfhDeductionEmployeeIds = new ArrayList<UUID>();
 
+        for (var summary : summaries) {
+            var employee = summary.getEmployee();
             var totalWorkedMinutes = summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes();
             var officeWorkedMinutes = officeWorkedMinutesByEmployeeId.getOrDefault(employee.getId(), 0L);
 
-            var officePresent = officeEntryEmployeeIds.contains(employee.getId());
+            var alreadyDeducted = summary.getAttendanceStatus() == AttendanceStatus.PRESENT
+                    && Boolean.TRUE.equals(summary.getRemoteDay());
+            var officePresent = Boolean.TRUE.equals(summary.getOfficeEntry());
             var remoteDay = !officePresent && totalWorkedMinutes > 0;
             var minimumWorkingMinutes = resolveMinimumFullDayMinutes(employee.getShift(), policy);
             var halfDayThresholdMinutes = resolveMinimumHalfDayMinutes(employee.getShift(), policy);
@@ -136,9 +136,9 @@ public class AttendanceReconciliationScheduler {
                     employee.getShift(),
                     targetDate,
                     zoneId,
-                    punchEventsByEmployeeId.getOrDefault(employee.getId(), List.of()));
+                    summary,
+                    overnightPunchWindows.get(employee.getId()));
 
-            summary.setDate(targetDate);
             summary.setOfficeWorkedMinutes(officeWorkedMinutes);
             summary.setOfficePresent(officePresent);
             summary.setRemoteDay(remoteDay);
@@ -147,18 +147,27 @@ public class AttendanceReconciliationScheduler {
             summary.setLateArrival(shiftEvaluation.lateArrival());
             summary.setEarlyExit(shiftEvaluation.earlyExit());
             summary.setAttendanceStatus(attendanceStatus);
-            toSaveSummaries.add(summary);
 
-            var didDeduct = deductWfhIfEligible(employee, attendanceStatus, remoteDay, autoDeduct);
-            if (didDeduct) {
-                employeesToUpdate.add(employee);
+            if (!alreadyDeducted && isWfhDeductible(employee, attendanceStatus, remoteDay, autoDeduct)) {
+                wfhDeductionEmployeeIds.add(employee.getId());
             }
         }
 
-        dailySummaryRepository.saveAll(toSaveSummaries);
-        if (!employeesToUpdate.isEmpty()) {
-            employeeRepository.saveAll(employeesToUpdate);
+        dailySummaryRepository.upsertAll(summaries);
+        attendanceMonthlyRollupRepository.refreshMonth(companyId, YearMonth.from(targetDate));
+        if (!wfhDeductionEmployeeIds.isEmpty()) {
+            employeeRepository.deductWfhBalance(companyId, wfhDeductionEmployeeIds);
         }
+        dashboardCache.evictTenantAfterCompletion(
+                companyId,
+                DashboardCache.Section.ATTENDANCE,
+                DashboardCache.Section.PROFILE);
+    }
+
+    private AttendanceNightlyRun newNightlyRun(UUID companyId) {
+        var nightlyRun = new AttendanceNightlyRun();
+        nightlyRun.setCompanyId(companyId);
+        return nightlyRun;
     }
 
     private WorkPolicy loadOrCreatePolicy(UUID companyId) {
@@ -177,25 +186,6 @@ public class AttendanceReconciliationScheduler {
         return policy;
     }
 
-    private DailySummary newDailySummary(UUID companyId, Employee employee, LocalDate date) {
-        var summary = new DailySummary();
-        summary.setCompanyId(companyId);
-        summary.setEmployee(employee);
-        summary.setDate(date);
-        summary.setTotalWorkedMinutes(0L);
-        summary.setOfficeWorkedMinutes(0L);
-        summary.setOfficePresent(Boolean.FALSE);
-        summary.setRemoteDay(Boolean.FALSE);
-        summary.setLateMinutes(0L);
-        summary.setEarlyExitMinutes(0L);
-        summary.setLateArrival(Boolean.FALSE);
-        summary.setEarlyExit(Boolean.FALSE);
-        summary.setFinalized(Boolean.FALSE);
-        summary.setOvertimeMinutes(0);
-        summary.setAttendanceStatus(AttendanceStatus.ABSENT);
-        return summary;
-    }
-
     private int normalizeMinimumWorkingMinutes(WorkPolicy policy) {
         var configured = policy.getMinimumWorkingMinutes();
         if (configured == null || configured <= 0) {
@@ -243,7 +233,7 @@ public class AttendanceReconciliationScheduler {
         return AttendanceStatus.PRESENT;
     }
 
-    private boolean deductWfhIfEligible(
+    private boolean isWfhDeductible(
             Employee employee,
             AttendanceStatus status,
             boolean remoteDay,
@@ -253,12 +243,7 @@ public class AttendanceReconciliationScheduler {
         }
 
         var remaining = employee.getRemainingWfhBalance() == null ? 0 : employee.getRemainingWfhBalance();
-        if (remaining <= 0) {
-            return false;
-        }
-
-        employee.setRemainingWfhBalance(remaining - 1);
-        return true;
+        return remaining > 0;
     }
 
     private Map<UUID, Long> fetchOfficeWorkedMinutes(UUID companyId, LocalDate date) {
@@ -272,28 +257,70 @@ public class AttendanceReconciliationScheduler {
         return values;
     }
 
-    private Map<UUID, List<AttendanceEvent>> groupPunchEventsByEmployee(List<AttendanceEvent> punchEvents) {
-        if (punchEvents.isEmpty()) {
+    private Map<UUID, PunchWindow> fetchOvernightPunchWindows(
+            UUID companyId,
+            List<Employee> overnightEmployees,
+            LocalDate targetDate,
+            ZoneId zoneId,
+            Instant dayStart,
+            Instant nextDayStart) {
+        if (overnightEmployees.isEmpty()) {
             return Collections.emptyMap();
         }
-        var grouped = new HashMap<UUID, List<AttendanceEvent>>();
-        for (var event : punchEvents) {
-            grouped.computeIfAbsent(event.getEmployee().getId(), ignored -> new ArrayList<>()).add(event);
+
+        var shiftWindowByEmployeeId = new HashMap<UUID, ShiftWindow>(overnightEmployees.size());
+        for (var employee : overnightEmployees) {
+            shiftWindowByEmployeeId.put(employee.getId(), buildShiftWindow(employee.getShift(), targetDate, zoneId));
+        }
+        var maxShiftDurationMinutes = shiftWindowByEmployeeId.values().stream()
+                .mapToLong(ShiftWindow::durationMinutes)
+                .max()
+                .orElse(0L);
+
+        var punchWindows = new HashMap<UUID, PunchWindow>();
+        var employeeEvents = new ArrayList<AttendanceEventRow>();
+        try (var rows = attendanceEventRepository.streamOvernightShiftRowsByCompanyAndEventTypesAndEventTimeBetween(
+                companyId,
+                Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT),
+                dayStart.minus(Duration.ofMinutes(maxShiftDurationMinutes)),
+                nextDayStart.plus(Duration.ofMinutes(maxShiftDurationMinutes)))) {
+            rows.forEachOrdered(row -> {
+                if (!employeeEvents.isEmpty() && !employeeEvents.get(0).employeeId().equals(row.employeeId())) {
+                    collectPunchWindow(employeeEvents, shiftWindowByEmployeeId, punchWindows);
+                }
+                employeeEvents.add(row);
+            });
+        }
+        collectPunchWindow(employeeEvents, shiftWindowByEmployeeId, punchWindows);
+        return punchWindows;
+    }
+
+    private void collectPunchWindow(
+            List<AttendanceEventRow> employeeEvents,
+            Map<UUID, ShiftWindow> shiftWindowByEmployeeId,
+            Map<UUID, PunchWindow> punchWindows) {
+        if (employeeEvents.isEmpty()) {
+            return;
         }
-        return grouped;
+        var employeeId = employeeEvents.get(0).employeeId();
+        punchWindows.put(employeeId, findPunchWindow(employeeEvents, shiftWindowByEmployeeId.get(employeeId)));
+        employeeEvents.clear();
     }
 
     private ShiftTimingEvaluation evaluateShiftTiming(
             Shift shift,
             LocalDate targetDate,
             ZoneId zoneId,
-            List<AttendanceEvent> employeePunchEvents) {
-        if (!isShiftConfigured(shift) || employeePunchEvents.isEmpty()) {
+            DailySummary summary,
+            PunchWindow overnightPunchWindow) {
+        if (!isShiftConfigured(shift)) {
             return ShiftTimingEvaluation.none();
         }
 
         var shiftWindow = buildShiftWindow(shift, targetDate, zoneId);
-        var punchWindow = findPunchWindow(employeePunchEvents, shiftWindow);
+        var punchWindow = isOvernightShift(shift)
+                ? (overnightPunchWindow == null ? new PunchWindow(null, null) : overnightPunchWindow)
+                : findPunchWindow(summary, shiftWindow);
 
         long lateMinutes = 0L;
         boolean lateArrival = false;
@@ -328,7 +355,7 @@ public class AttendanceReconciliationScheduler {
         return new ShiftWindow(start, end, durationMinutes);
     }
 
-    private PunchWindow findPunchWindow(List<AttendanceEvent> events, ShiftWindow shiftWindow) {
+    private PunchWindow findPunchWindow(List<AttendanceEventRow> events, ShiftWindow shiftWindow) {
         var punchInWindowStart = shiftWindow.start().minus(Duration.ofMinutes(shiftWindow.durationMinutes()));
         var punchInWindowEnd = shiftWindow.end();
         var punchOutWindowStart = shiftWindow.start();
@@ -338,14 +365,14 @@ public class AttendanceReconciliationScheduler {
         Instant lastCheckOut = null;
 
         for (var event : events) {
-            var eventTime = event.getEventTime();
-            if (event.getEventType() == AttendanceEventType.CHECK_IN
+            var eventTime = event.eventTime();
+            if (event.eventType() == AttendanceEventType.CHECK_IN
                     && isWithin(eventTime, punchInWindowStart, punchInWindowEnd)
                     && (firstCheckIn == null || eventTime.isBefore(firstCheckIn))) {
                 firstCheckIn = eventTime;
             }
 
-            if (event.getEventType() == AttendanceEventType.CHECK_OUT
+            if (event.eventType() == AttendanceEventType.CHECK_OUT
                     && isWithin(eventTime, punchOutWindowStart, punchOutWindowEnd)
                     && (lastCheckOut == null || eventTime.isAfter(lastCheckOut))) {
                 lastCheckOut = eventTime;
@@ -355,18 +382,25 @@ public class AttendanceReconciliationScheduler {
         return new PunchWindow(firstCheckIn, lastCheckOut);
     }
 
-    private long resolveShiftDurationMinutes(Shift shift) {
-        if (!isShiftConfigured(shift)) {
-            return 0L;
-        }
-        var window = buildShiftWindow(shift, LocalDate.of(2000, 1, 1), ZoneOffset.UTC);
-        return window.durationMinutes();
+    private PunchWindow findPunchWindow(DailySummary summary, ShiftWindow shiftWindow) {
+        var firstCheckIn = summary.getFirstCheckInTime();
+        var lastCheckOut = summary.getLastCheckOutTime();
+        var punchInWindowStart = shiftWindow.start().minus(Duration.ofMinutes(shiftWindow.durationMinutes()));
+        var punchOutWindowEnd = shiftWindow.end().plus(Duration.ofMinutes(shiftWindow.durationMinutes()));
+
+        return new PunchWindow(
+                firstCheckIn != null && isWithin(firstCheckIn, punchInWindowStart, shiftWindow.end()) ? firstCheckIn : null,
+                lastCheckOut != null && isWithin(lastCheckOut, shiftWindow.start(), punchOutWindowEnd) ? lastCheckOut : null);
     }
 
     private boolean isShiftConfigured(Shift shift) {
         return shift != null && shift.getStartTime() != null && shift.getEndTime() != null;
     }
 
+    private boolean isOvernightShift(Shift shift) {
+        return isShiftConfigured(shift) && !shift.getEndTime().isAfter(shift.getStartTime());
+    }
+
     private int normalizeGraceMinutes(Shift shift) {
         var grace = shift.getGraceMinutes();
         if (grace == null || grace < 0) {
@@ -379,17 +413,6 @@ public class AttendanceReconciliationScheduler {
         return !value.isBefore(startInclusive) && !value.isAfter(endInclusive);
     }
 
-    private ZoneId resolveCompanyZone(String timezone) {
-        if (timezone == null || timezone.isBlank()) {
-            return ZoneOffset.UTC;
-        }
-        try {
-            return ZoneId.of(timezone);
-        } catch (Exception ex) {
-            return ZoneOffset.UTC;
-        }
-    }
-
     private record ShiftWindow(Instant start, Instant end, long durationMinutes) {
     }
 
@@ -0,0 +1,229 @@
+package com.company.hrsystem.attendance.service;
+
+import com.company.hrsystem.attendance.dto.AttendanceReportRow;
+import com.company.hrsystem.attendance.repository.DailySummaryRepository;
+import com.company.hrsystem.common.context.CompanyContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Locale;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Service
+public class AttendanceReportService {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceReportService.class);
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int CSV_FLUSH_ROWS = 500;
+    private static final int XLSX_ROW_WINDOW = 100;
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+    private static final String[] HEADERS = {
+            "Employee Code", "First Name", "Last Name", "Date", "Status", "Mode", "Worked Minutes",
+            "Office Worked Minutes", "Late Minutes", "Early Exit Minutes", "Overtime Minutes",
+            "First Check In", "Last Check Out", "Finalized"
+    };
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public AttendanceReportService(
+            DailySummaryRepository dailySummaryRepository,
+            PlatformTransactionManager transactionManager) {
+        this.dailySummaryRepository = dailySummaryRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public AttendanceReportExport export(LocalDate from, LocalDate to, String format) {
+        validateRange(from, to);
+        var reportFormat = ReportFormat.parse(format);
+        var companyId = CompanyContext.getCompanyId()
+                .orElseThrow(() -> new IllegalStateException("Company context is missing"));
+
+        StreamingResponseBody body = outputStream -> {
+            var startedAt = Instant.now();
+            var rows = readOnlyTemplate.execute(status -> {
+                try (var reportRows = dailySummaryRepository.streamReportRows(companyId, from, to)) {
+                    return switch (reportFormat) {
+                        case CSV -> writeCsv(reportRows.iterator(), outputStream);
+                        case XLSX -> writeXlsx(reportRows.iterator(), outputStream);
+                    };
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            log.info("attendance_report_exported company_id={} format={} rows={} duration_ms={}",
+                    companyId, reportFormat, rows, Duration.between(startedAt, Instant.now()).toMillis());
+        };
+        var filename = "attendance-" + from + "-to-" + to + "." + reportFormat.extension;
+        return new AttendanceReportExport(filename, reportFormat.contentType, body);
+    }
+
+    private long writeCsv(Iterator<AttendanceReportRow> rows, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(String.join(",", HEADERS));
+        writer.write("\r\n");
+        writer.flush();
+
+        long count = 0;
+        var line = new StringBuilder(256);
+        while (rows.hasNext()) {
+            var values = values(rows.next());
+            line.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                appendCsvValue(line, values[i]);
+            }
+            writer.append(line).append("\r\n");
+            if (++count % CSV_FLUSH_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeXlsx(Iterator<AttendanceReportRow> rows, OutputStream outputStream) throws IOException {
+        var maxRows = SpreadsheetVersion.EXCEL2007.getMaxRows();
+        var workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            var sheet = newSheet(workbook, 1);
+            var rowIndex = 1;
+            long count = 0;
+            while (rows.hasNext()) {
+                if (rowIndex == maxRows) {
+                    sheet = newSheet(workbook, workbook.getNumberOfSheets() + 1);
+                    rowIndex = 1;
+                }
+                writeRow(sheet.createRow(rowIndex++), values(rows.next()));
+                count++;
+            }
+            workbook.write(outputStream);
+            outputStream.flush();
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private SXSSFSheet newSheet(SXSSFWorkbook workbook, int number) {
+        var sheet = workbook.createSheet(number == 1 ? "Attendance" : "Attendance " + number);
+        writeRow(sheet.createRow(0), HEADERS);
+        return sheet;
+    }
+
+    private void writeRow(Row row, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            var value = values[i];
+            if (value == null) {
+                continue;
+            }
+            var cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else if (value instanceof Boolean bool) {
+                cell.setCellValue(bool);
+            } else {
+                cell.setCellValue(neutralizeFormula(value.toString()));
+            }
+        }
+    }
+
+    private Object[] values(AttendanceReportRow row) {
+        return new Object[] {
+                row.employeeCode(),
+                row.firstName(),
+                row.lastName(),
+                row.date(),
+                row.status(),
+                row.mode(),
+                row.workedMinutes(),
+                row.officeWorkedMinutes(),
+                row.lateMinutes(),
+                row.earlyExitMinutes(),
+                row.overtimeMinutes(),
+                row.firstCheckInTime(),
+                row.lastCheckOutTime(),
+                row.finalized()
+        };
+    }
+
+    private void appendCsvValue(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        var text = value instanceof Number ? value.toString() : neutralizeFormula(value.toString());
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            line.append(text);
+            return;
+        }
+        line.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private String neutralizeFormula(String text) {
+        if (text.isEmpty() || FORMULA_PREFIXES.indexOf(text.charAt(0)) < 0) {
+            return text;
+        }
+        return "'" + text;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from date must be less than or equal to to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    public record AttendanceReportExport(String filename, String contentType, StreamingResponseBody body) {
+    }
+
+    private enum ReportFormat {
+        CSV("csv", "text/csv;charset=UTF-8"),
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        ReportFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        static ReportFormat parse(String format) {
+            if (format == null || format.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unsupported report format: " + format);
+            }
+        }
+    }
+}
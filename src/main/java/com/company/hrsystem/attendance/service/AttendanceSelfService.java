@@ -1,13 +1,16 @@
 package com.company.hrsystem.attendance.service;
 
 import com.company.hrsystem.attendance.dto.DailyAttendanceResponse;
+import com.company.hrsystem.attendance.dto.MonthlyAttendanceResponse;
 import com.company.hrsystem.attendance.dto.MyAttendanceRangeResponse;
 import com.company.hrsystem.attendance.entity.AttendanceEventType;
 import com.company.hrsystem.attendance.entity.AttendanceMode;
+import com.company.hrsystem.attendance.entity.AttendanceMonthlyRollup;
 import com.company.hrsystem.attendance.entity.AttendanceSource;
 import com.company.hrsystem.attendance.entity.AttendanceStatus;
 import com.company.hrsystem.attendance.entity.DailySummary;
 import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceMonthlyRollupRepository;
 import com.company.hrsystem.attendance.repository.DailySummaryRepository;
 import com.company.hrsystem.auth.security.CustomUserDetails;
 import com.company.hrsystem.common.context.CompanyContext;
@@ -18,12 +21,15 @@ import com.company.hrsystem.leave.repository.LeaveRequestRepository;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -35,7 +41,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class AttendanceSelfService {
 
     private static final long REQUIRED_MINUTES_PER_DAY = 480L;
-    private static final int MAX_RANGE_DAYS = 90;
+    private static final int MAX_RANGE_DAYS = 732;
+    private static final int MAX_DAILY_DETAIL_DAYS = 90;
     private static final String WFH_LEAVE_TYPE = "WFH";
 
     private final DailySummaryRepository dailySummaryRepository;
@@ -43,6 +50,7 @@ public class AttendanceSelfService {
     private final EmployeeRepository employeeRepository;
     private final HolidayRepository holidayRepository;
     private final LeaveRequestRepository leaveRequestRepository;
+    private final AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
 
     @Transactional(readOnly = true)
     public MyAttendanceRangeResponse getAttendance(LocalDate from, LocalDate to) {
@@ -53,9 +61,104 @@ public class AttendanceSelfService {
         var currentEmployee = employeeRepository.findByIdAndCompanyId(requireCurrentEmployeeId(), companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found for authenticated user"));
 
+        var rollups = ChronoUnit.DAYS.between(from, to) + 1 > MAX_DAILY_DETAIL_DAYS
+                ? completeRollups(companyId, currentEmployee.getId(), from, to)
+                : Map.<YearMonth, AttendanceMonthlyRollup>of();
+
+        var dailyResponses = new ArrayList<DailyAttendanceResponse>();
+        LocalDate segmentFrom = null;
+        for (var month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            var monthFrom = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+            if (!rollups.containsKey(month)) {
+                segmentFrom = segmentFrom == null ? monthFrom : segmentFrom;
+                continue;
+            }
+            if (segmentFrom != null) {
+                dailyResponses.addAll(dailyAttendance(companyId, currentEmployee.getId(), segmentFrom, monthFrom.minusDays(1)));
+                segmentFrom = null;
+            }
+        }
+        if (segmentFrom != null) {
+            dailyResponses.addAll(dailyAttendance(companyId, currentEmployee.getId(), segmentFrom, to));
+        }
+
+        var monthlyResponses = new ArrayList<MonthlyAttendanceResponse>();
+        var dayIndex = 0;
+        for (var month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1)) {
+            var monthFrom = month.atDay(1).isBefore(from) ? from : month.atDay(1);
+            var monthTo = month.atEndOfMonth().isAfter(to) ? to : month.atEndOfMonth();
+            var rollup = rollups.get(month);
+            if (rollup != null) {
+                monthlyResponses.add(toMonthlyResponse(rollup, monthFrom, monthTo));
+                continue;
+            }
+            var monthEnd = dayIndex;
+            while (monthEnd < dailyResponses.size() && !dailyResponses.get(monthEnd).date().isAfter(monthTo)) {
+                monthEnd++;
+            }
+            monthlyResponses.add(toMonthlyResponse(dailyResponses.subList(dayIndex, monthEnd), monthFrom, monthTo));
+            dayIndex = monthEnd;
+        }
+
+        long totalWorkedMinutes = 0L;
+        int totalPresent = 0;
+        int totalAbsent = 0;
+        int totalWfh = 0;
+        int totalOfficeDays = 0;
+        int workingDays = 0;
+        for (var monthly : monthlyResponses) {
+            totalWorkedMinutes += monthly.workedMinutes();
+            totalPresent += monthly.presentDays();
+            totalAbsent += monthly.absentDays();
+            totalWfh += monthly.wfhDays();
+            totalOfficeDays += monthly.officeDays();
+            workingDays += monthly.workingDays();
+        }
+
+        return new MyAttendanceRangeResponse(
+                currentEmployee.getEmployeeCode(),
+                from,
+                to,
+                workingDays,
+                totalPresent,
+                totalAbsent,
+                totalPresent,
+                totalAbsent,
+                totalWfh,
+                totalOfficeDays,
+                totalWorkedMinutes,
+                List.copyOf(dailyResponses),
+                List.copyOf(monthlyResponses));
+    }
+
+    private Map<YearMonth, AttendanceMonthlyRollup> completeRollups(
+            UUID companyId,
+            UUID employeeId,
+            LocalDate from,
+            LocalDate to) {
+        var firstFullMonth = from.getDayOfMonth() == 1 ? YearMonth.from(from) : YearMonth.from(from).plusMonths(1);
+        var lastFullMonth = to.equals(YearMonth.from(to).atEndOfMonth()) ? YearMonth.from(to) : YearMonth.from(to).minusMonths(1);
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            return Map.of();
+        }
+        var rollups = new HashMap<YearMonth, AttendanceMonthlyRollup>();
+        for (var rollup : attendanceMonthlyRollupRepository.findByCompanyIdAndEmployee_IdAndMonthBetweenOrderByMonthAsc(
+                companyId,
+                employeeId,
+                firstFullMonth.atDay(1),
+                lastFullMonth.atDay(1))) {
+            var month = YearMonth.from(rollup.getMonth());
+            if (rollup.getFinalizedDays() == month.lengthOfMonth()) {
+                rollups.put(month, rollup);
+            }
+        }
+        return rollups;
+    }
+
+    private List<DailyAttendanceResponse> dailyAttendance(UUID companyId, UUID employeeId, LocalDate from, LocalDate to) {
         var summaries = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDateBetweenOrderByDateAsc(
                 companyId,
-                currentEmployee.getId(),
+                employeeId,
                 from,
                 to);
         var summaryByDate = new HashMap<LocalDate, DailySummary>(summaries.size());
@@ -67,7 +170,7 @@ public class AttendanceSelfService {
                 .collect(java.util.stream.Collectors.toSet());
         var approvedLeaves = leaveRequestRepository.findOverlappingRangeForEmployee(
                 companyId,
-                currentEmployee.getId(),
+                employeeId,
                 LeaveStatus.APPROVED,
                 from,
                 to);
@@ -87,7 +190,7 @@ public class AttendanceSelfService {
 
         var biometricEvents = attendanceEventRepository.findByCompanyAndEmployeeAndSourceAndEventTypesAndEventTimeBetween(
                 companyId,
-                currentEmployee.getId(),
+                employeeId,
                 AttendanceSource.BIOMETRIC,
                 Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.OFFICE_ENTRY),
                 from.atStartOfDay().toInstant(ZoneOffset.UTC),
@@ -98,13 +201,6 @@ public class AttendanceSelfService {
                 .collect(java.util.stream.Collectors.toSet());
 
         var dailyResponses = new ArrayList<DailyAttendanceResponse>();
-        long totalWorkedMinutes = 0L;
-        int totalPresent = 0;
-        int totalAbsent = 0;
-        int totalWfh = 0;
-        int totalOfficeDays = 0;
-        int workingDays = 0;
-
         for (var date = from; !date.isAfter(to); date = date.plusDays(1)) {
             var summary = summaryByDate.get(date);
             var workedMinutes = summary == null || summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes();
@@ -114,22 +210,6 @@ public class AttendanceSelfService {
             var mode = resolveMode(summary, date, officeDates, status, workedMinutes);
             var lateArrival = summary != null && Boolean.TRUE.equals(summary.getLateArrival());
 
-            if (AttendanceStatus.PRESENT.name().equals(status)) {
-                totalPresent++;
-                if (AttendanceMode.OFFICE.name().equals(mode)) {
-                    totalOfficeDays++;
-                } else if (AttendanceMode.WFH.name().equals(mode)) {
-                    totalWfh++;
-                }
-            }
-            if (AttendanceStatus.ABSENT.name().equals(status)) {
-                totalAbsent++;
-            }
-            if (!AttendanceStatus.HOLIDAY.name().equals(status) && !AttendanceStatus.WEEK_OFF.name().equals(status)) {
-                workingDays++;
-            }
-            totalWorkedMinutes += workedMinutes;
-
             dailyResponses.add(new DailyAttendanceResponse(
                     date,
                     status,
@@ -140,20 +220,53 @@ public class AttendanceSelfService {
                     shortfallMinutes,
                     lateArrival));
         }
+        return dailyResponses;
+    }
 
-        return new MyAttendanceRangeResponse(
-                currentEmployee.getEmployeeCode(),
+    private MonthlyAttendanceResponse toMonthlyResponse(AttendanceMonthlyRollup rollup, LocalDate from, LocalDate to) {
+        return new MonthlyAttendanceResponse(
                 from,
                 to,
-                workingDays,
-                totalPresent,
-                totalAbsent,
-                totalPresent,
-                totalAbsent,
-                totalWfh,
-                totalOfficeDays,
-                totalWorkedMinutes,
-                List.copyOf(dailyResponses));
+                rollup.getWorkingDays(),
+                rollup.getPresentDays(),
+                rollup.getAbsentDays(),
+                rollup.getWfhDays(),
+                rollup.getOfficeDays(),
+                rollup.getWorkedMinutes(),
+                rollup.getLateDays(),
+                true);
+    }
+
+    private MonthlyAttendanceResponse toMonthlyResponse(List<DailyAttendanceResponse> days, LocalDate from, LocalDate to) {
+        long workedMinutes = 0L;
+        int present = 0;
+        int absent = 0;
+        int wfh = 0;
+        int officeDays = 0;
+        int workingDays = 0;
+        int lateArrivals = 0;
+        for (var day : days) {
+            if (AttendanceStatus.PRESENT.name().equals(day.status())) {
+                present++;
+                if (AttendanceMode.OFFICE.name().equals(day.mode())) {
+                    officeDays++;
+                } else if (AttendanceMode.WFH.name().equals(day.mode())) {
+                    wfh++;
+                }
+            }
+            if (AttendanceStatus.ABSENT.name().equals(day.status())) {
+                absent++;
+            }
+            if (!AttendanceStatus.HOLIDAY.name().equals(day.status()) && !AttendanceStatus.WEEK_OFF.name().equals(day.status())) {
+                workingDays++;
+            }
+            if (day.lateArrival()) {
+                lateArrivals++;
+            }
+            workedMinutes += day.workedMinutes();
+        }
+        return new MonthlyAttendanceResponse(
+                from, to, workingDays, present, absent, wfh, officeDays, workedMinutes, lateArrivals, false);
     }
 
     private void validateRange(LocalDate from, LocalDate to) {
@@ -169,7 +282,7 @@ public class AttendanceSelfService {
         }
     }
 
-    private java.util.UUID requireCurrentEmployeeId() {
+    private UUID requireCurrentEmployeeId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new AccessDeniedException("Authenticated user not found");
@@ -225,7 +338,8 @@ public class AttendanceSelfService {
         if (AttendanceStatus.PRESENT.name().equals(status) && workedMinutes == 0L) {
             return AttendanceMode.WFH.name();
         }
-        if (officeDates.contains(date)) {
+        var officeEntry = summary != null ? Boolean.TRUE.equals(summary.getOfficeEntry()) : officeDates.contains(date);
+        if (officeEntry) {
             return AttendanceMode.OFFICE.name();
         }
         if (workedMinutes > 0) {
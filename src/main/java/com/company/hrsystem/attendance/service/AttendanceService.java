@@ -6,18 +6,29 @@ import com.company.hrsystem.attendance.entity.AttendanceEventType;
 import com.company.hrsystem.attendance.entity.AttendanceSource;
 import com.company.hrsystem.attendance.entity.DailySummary;
 import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceMonthlyRollupRepository;
 import com.company.hrsystem.attendance.repository.DailySummaryRepository;
 import com.company.hrsystem.auth.security.CustomUserDetails;
 import com.company.hrsystem.common.audit.Auditable;
 import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.company.service.CompanyZoneResolver;
+import com.company.hrsystem.dashboard.service.DashboardCache;
+import com.company.hrsystem.employee.dto.EmployeeSnapshot;
 import com.company.hrsystem.employee.entity.Employee;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
+import com.company.hrsystem.employee.service.EmployeeDirectory;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -37,7 +48,13 @@ public class AttendanceService {
 
     private final AttendanceEventRepository attendanceEventRepository;
     private final DailySummaryRepository dailySummaryRepository;
+    private final AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectory employeeDirectory;
+    private final AttendanceSessionReader attendanceSessionReader;
+    private final DailySummaryAggregator dailySummaryAggregator;
+    private final DashboardCache dashboardCache;
+    private final CompanyZoneResolver companyZoneResolver;
 
     @Transactional
     @Auditable(action = "MANUAL_ATTENDANCE_CHECK_IN", module = "ATTENDANCE")
@@ -46,12 +63,13 @@ public class AttendanceService {
         requireRequesterMatchesEmployee(employeeId);
         var employee = getEmployeeForCompany(companyId, employeeId);
 
-        if (!Boolean.TRUE.equals(employee.getActive())) {
+        if (!Boolean.TRUE.equals(employee.active())) {
             log.error("attendance_check_in_failed reason=inactive_employee tenant_id={} employee_id={}", companyId, employeeId);
             throw new IllegalStateException("Employee is inactive and cannot check in");
         }
 
-        if (attendanceEventRepository.findLatestOpenSession(companyId, employeeId).isPresent()) {
+        var session = attendanceSessionReader.lock(companyId, employeeId);
+        if (session.openCheckIn() != null) {
             log.error("attendance_check_in_failed reason=open_session_exists tenant_id={} employee_id={}", companyId, employeeId);
             throw new IllegalStateException("Open attendance session already exists for employee");
         }
@@ -59,13 +77,15 @@ public class AttendanceService {
         var now = Instant.now();
         var checkInEvent = new AttendanceEvent();
         checkInEvent.setCompanyId(companyId);
-        checkInEvent.setEmployee(employee);
+        checkInEvent.setEmployee(employeeRepository.getReferenceById(employee.id()));
         checkInEvent.setEventType(AttendanceEventType.CHECK_IN);
         checkInEvent.setSource(AttendanceSource.REMOTE);
         checkInEvent.setEventTime(now);
         checkInEvent.setDeviceLogId(nextDeviceLogId("IN"));
 
         attendanceEventRepository.save(checkInEvent);
+        dailySummaryAggregator.record(checkInEvent);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.ATTENDANCE);
         log.info("attendance_checked_in tenant_id={} employee_id={} event_time={}", companyId, employeeId, now);
 
         return new AttendanceResponse(
@@ -83,28 +103,32 @@ public class AttendanceService {
         requireRequesterMatchesEmployee(employeeId);
         var employee = getEmployeeForCompany(companyId, employeeId);
 
-        var openSession = attendanceEventRepository.findLatestOpenSession(companyId, employeeId)
-                .orElseThrow(() -> new IllegalStateException("No open check-in session found for employee"));
+        var session = attendanceSessionReader.lock(companyId, employeeId);
+        var openCheckIn = session.openCheckIn();
+        if (openCheckIn == null) {
+            throw new IllegalStateException("No open check-in session found for employee");
+        }
 
         var checkOutTime = Instant.now();
         var checkOutEvent = new AttendanceEvent();
         checkOutEvent.setCompanyId(companyId);
-        checkOutEvent.setEmployee(employee);
+        checkOutEvent.setEmployee(employeeRepository.getReferenceById(employee.id()));
         checkOutEvent.setEventType(AttendanceEventType.CHECK_OUT);
         checkOutEvent.setSource(AttendanceSource.REMOTE);
         checkOutEvent.setEventTime(checkOutTime);
         checkOutEvent.setDeviceLogId(nextDeviceLogId("OUT"));
 
         attendanceEventRepository.save(checkOutEvent);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.ATTENDANCE);
         log.info("attendance_checked_out tenant_id={} employee_id={} event_time={}", companyId, employeeId, checkOutTime);
 
-        var workedMinutes = Math.max(0L, Duration.between(openSession.getEventTime(), checkOutTime).toMinutes());
-        upsertDailySummary(companyId, employee, checkOutTime, workedMinutes);
+        var workedMinutes = Math.max(0L, Duration.between(openCheckIn, checkOutTime).toMinutes());
+        dailySummaryAggregator.record(checkOutEvent);
 
         return new AttendanceResponse(
                 employeeId,
                 "CHECKED_OUT",
-                toLocalDateTime(openSession.getEventTime()),
+                toLocalDateTime(openCheckIn),
                 toLocalDateTime(checkOutTime),
                 workedMinutes);
     }
@@ -112,87 +136,168 @@ public class AttendanceService {
     @Transactional
     public BiometricPunchResult recordBiometricPunch(
             UUID companyId,
-            Employee employee,
+            EmployeeSnapshot employee,
             Instant punchTime,
             String deviceLogId) {
-        var summaryDate = LocalDateTime.ofInstant(punchTime, ZoneOffset.UTC).toLocalDate();
-        var dayStart = summaryDate.atStartOfDay().toInstant(ZoneOffset.UTC);
-        var nextDayStart = summaryDate.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC);
-
-        var daySummary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+        return recordBiometricPunches(
                 companyId,
-                employee.getId(),
-                summaryDate).orElse(null);
+                List.of(new BiometricPunchCommand(employee, punchTime, deviceLogId))).get(0);
+    }
 
-        var dayEvents = attendanceEventRepository.findByCompanyAndEmployeeAndEventTypesAndEventTimeBetween(
-                companyId,
-                employee.getId(),
-                Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT),
-                dayStart,
-                nextDayStart);
-
-        if (dayEvents.isEmpty()) {
-            saveBiometricEvent(companyId, employee, AttendanceEventType.CHECK_IN, punchTime, deviceLogId);
-
-            var summaryToSave = daySummary == null ? newDailySummary(companyId, employee, summaryDate) : daySummary;
-            summaryToSave.setDate(summaryDate);
-            summaryToSave.setFinalized(Boolean.FALSE);
-            dailySummaryRepository.save(summaryToSave);
-            return new BiometricPunchResult(
-                    "IN",
-                    "RECORDED",
-                    "Biometric check-in recorded",
-                    toLocalDateTime(punchTime),
-                    null,
-                    null);
+    @Transactional
+    public List<BiometricPunchResult> recordBiometricPunches(UUID companyId, List<BiometricPunchCommand> punches) {
+        if (punches.isEmpty()) {
+            return List.of();
         }
 
-        var openCheckIn = findOpenCheckIn(dayEvents);
-        if (openCheckIn != null) {
-            saveBiometricEvent(companyId, employee, AttendanceEventType.CHECK_OUT, punchTime, deviceLogId);
-
-            var workedMinutes = Math.max(0L, Duration.between(openCheckIn.getEventTime(), punchTime).toMinutes());
-            var summaryToUpdate = daySummary == null ? newDailySummary(companyId, employee, summaryDate) : daySummary;
-            var existingWorked = summaryToUpdate.getTotalWorkedMinutes() == null ? 0L : summaryToUpdate.getTotalWorkedMinutes();
-            summaryToUpdate.setTotalWorkedMinutes(existingWorked + workedMinutes);
-            summaryToUpdate.setDate(summaryDate);
-            summaryToUpdate.setFinalized(Boolean.FALSE);
-            summaryToUpdate.setOvertimeMinutes(summaryToUpdate.getOvertimeMinutes() == null ? 0 : summaryToUpdate.getOvertimeMinutes());
-            dailySummaryRepository.save(summaryToUpdate);
-
-            return new BiometricPunchResult(
-                    "OUT",
-                    "RECORDED",
-                    "Biometric check-out recorded",
-                    toLocalDateTime(openCheckIn.getEventTime()),
-                    toLocalDateTime(punchTime),
-                    workedMinutes);
+        var zoneId = companyZoneResolver.zoneOf(companyId);
+        var employeeIds = new HashSet<UUID>();
+        LocalDate fromDate = null;
+        LocalDate toDate = null;
+        for (var punch : punches) {
+            employeeIds.add(punch.employee().id());
+            var punchDate = punch.punchTime().atZone(zoneId).toLocalDate();
+            if (fromDate == null || punchDate.isBefore(fromDate)) {
+                fromDate = punchDate;
+            }
+            if (toDate == null || punchDate.isAfter(toDate)) {
+                toDate = punchDate;
+            }
         }
 
-        return new BiometricPunchResult(
-                "DUPLICATE",
-                "IGNORED",
-                "Duplicate punch ignored for current day",
-                null,
-                null,
-                null);
-    }
+        var sessions = attendanceSessionReader.lockAll(companyId, employeeIds);
+        var backdatedSessions = new HashMap<PunchDayKey, PunchDaySession>();
+
+        var summaries = new HashMap<PunchDayKey, DailySummary>();
+        for (var summary : dailySummaryRepository.findByCompanyIdAndEmployee_IdInAndDateBetween(
+                companyId,
+                employeeIds,
+                fromDate,
+                toDate)) {
+            summaries.put(new PunchDayKey(summary.getEmployee().getId(), summary.getDate()), summary);
+        }
 
-    private AttendanceEvent findOpenCheckIn(List<AttendanceEvent> dayEvents) {
-        AttendanceEvent openCheckIn = null;
-        for (var event : dayEvents) {
-            if (event.getEventType() == AttendanceEventType.CHECK_IN) {
-                openCheckIn = event;
+        var results = new ArrayList<BiometricPunchResult>(punches.size());
+        var newEvents = new ArrayList<AttendanceEvent>();
+        var newEventsByDay = new LinkedHashMap<PunchDayKey, List<AttendanceEvent>>();
+
+        for (var punch : punches) {
+            var employee = employeeRepository.getReferenceById(punch.employee().id());
+            var punchTime = punch.punchTime();
+            var summaryDate = punchTime.atZone(zoneId).toLocalDate();
+            var key = new PunchDayKey(employee.getId(), summaryDate);
+            var session = sessions.get(employee.getId());
+            var lastEventDate = session.lastEventDate(zoneId);
+            var backdated = lastEventDate != null && summaryDate.isBefore(lastEventDate);
+            var daySession = backdated
+                    ? backdatedSessions.computeIfAbsent(key, ignored -> loadPunchDaySession(companyId, key, zoneId))
+                    : null;
+            var hasEvents = backdated ? daySession.hasEvents() : session.hasEventOn(summaryDate, zoneId);
+            var openCheckIn = backdated ? daySession.openCheckIn() : session.openCheckInOn(summaryDate, zoneId);
+
+            if (!hasEvents) {
+                var checkInEvent = newBiometricEvent(companyId, employee, AttendanceEventType.CHECK_IN, punchTime, punch.deviceLogId());
+                newEvents.add(checkInEvent);
+                newEventsByDay.computeIfAbsent(key, ignored -> new ArrayList<>()).add(checkInEvent);
+                if (backdated) {
+                    daySession.apply(AttendanceEventType.CHECK_IN, punchTime);
+                } else {
+                    sessions.put(employee.getId(), session.apply(AttendanceEventType.CHECK_IN, punchTime));
+                }
+                results.add(new BiometricPunchResult(
+                        "IN",
+                        "RECORDED",
+                        "Biometric check-in recorded",
+                        toLocalDateTime(punchTime),
+                        null,
+                        null));
                 continue;
             }
-            if (event.getEventType() == AttendanceEventType.CHECK_OUT && openCheckIn != null) {
-                openCheckIn = null;
+
+            if (openCheckIn != null) {
+                var checkOutEvent = newBiometricEvent(companyId, employee, AttendanceEventType.CHECK_OUT, punchTime, punch.deviceLogId());
+                newEvents.add(checkOutEvent);
+                newEventsByDay.computeIfAbsent(key, ignored -> new ArrayList<>()).add(checkOutEvent);
+                if (backdated) {
+                    daySession.apply(AttendanceEventType.CHECK_OUT, punchTime);
+                } else {
+                    sessions.put(employee.getId(), session.apply(AttendanceEventType.CHECK_OUT, punchTime));
+                }
+
+                var workedMinutes = Math.max(0L, Duration.between(openCheckIn, punchTime).toMinutes());
+                results.add(new BiometricPunchResult(
+                        "OUT",
+                        "RECORDED",
+                        "Biometric check-out recorded",
+                        toLocalDateTime(openCheckIn),
+                        toLocalDateTime(punchTime),
+                        workedMinutes));
+                continue;
             }
+
+            results.add(new BiometricPunchResult(
+                    "DUPLICATE",
+                    "IGNORED",
+                    "Duplicate punch ignored for current day",
+                    null,
+                    null,
+                    null));
         }
-        return openCheckIn;
+
+        attendanceEventRepository.insertAll(newEvents);
+        var touchedSummaries = new ArrayList<DailySummary>(newEventsByDay.size());
+        newEventsByDay.forEach((key, dayEvents) -> {
+            var summary = summaries.computeIfAbsent(key, ignored ->
+                    dailySummaryAggregator.newSummary(companyId, dayEvents.get(0).getEmployee(), key.date()));
+            dailySummaryAggregator.applyAll(summary, dayEvents, zoneId);
+            touchedSummaries.add(summary);
+        });
+        if (!touchedSummaries.isEmpty()) {
+            dailySummaryRepository.saveAll(touchedSummaries);
+            refreshClosedMonthRollups(companyId, touchedSummaries, zoneId);
+        }
+        var touchedEmployeeIds = new HashSet<UUID>();
+        for (var event : newEvents) {
+            touchedEmployeeIds.add(event.getEmployee().getId());
+        }
+        if (!touchedEmployeeIds.isEmpty()) {
+            dashboardCache.evictEmployeesAfterCompletion(companyId, touchedEmployeeIds, DashboardCache.Section.ATTENDANCE);
+        }
+        return results;
     }
 
-    private void saveBiometricEvent(
+    private void refreshClosedMonthRollups(UUID companyId, List<DailySummary> touchedSummaries, ZoneId zoneId) {
+        var currentMonth = YearMonth.now(zoneId);
+        var closedMonths = new HashSet<PunchMonthKey>();
+        for (var summary : touchedSummaries) {
+            var month = YearMonth.from(summary.getDate());
+            if (month.isBefore(currentMonth)) {
+                closedMonths.add(new PunchMonthKey(summary.getEmployee().getId(), month));
+            }
+        }
+        if (closedMonths.isEmpty()) {
+            return;
+        }
+        dailySummaryRepository.flush();
+        for (var key : closedMonths) {
+            attendanceMonthlyRollupRepository.refreshEmployeeMonth(companyId, key.employeeId(), key.month());
+        }
+    }
+
+    private PunchDaySession loadPunchDaySession(UUID companyId, PunchDayKey key, ZoneId zoneId) {
+        var daySession = new PunchDaySession();
+        for (var event : attendanceEventRepository.findByCompanyAndEmployeeAndEventTypesAndEventTimeBetween(
+                companyId,
+                key.employeeId(),
+                Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT),
+                key.date().atStartOfDay(zoneId).toInstant(),
+                key.date().plusDays(1).atStartOfDay(zoneId).toInstant())) {
+            daySession.apply(event.getEventType(), event.getEventTime());
+        }
+        return daySession;
+    }
+
+    private AttendanceEvent newBiometricEvent(
             UUID companyId,
             Employee employee,
             AttendanceEventType eventType,
@@ -205,45 +310,11 @@ public class AttendanceService {
         event.setSource(AttendanceSource.BIOMETRIC);
         event.setEventTime(eventTime);
         event.setDeviceLogId(companyId + ":" + deviceLogId);
-        attendanceEventRepository.save(event);
+        return event;
     }
 
-    private void upsertDailySummary(UUID companyId, Employee employee, Instant checkOutTime, long workedMinutes) {
-        var summaryDate = LocalDateTime.ofInstant(checkOutTime, ZoneOffset.UTC).toLocalDate();
-        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
-                        companyId,
-                        employee.getId(),
-                        summaryDate)
-                .orElseGet(() -> newDailySummary(companyId, employee, summaryDate));
-
-        var existingWorked = summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes();
-        summary.setTotalWorkedMinutes(existingWorked + workedMinutes);
-        summary.setDate(summaryDate);
-        summary.setOvertimeMinutes(summary.getOvertimeMinutes() == null ? 0 : summary.getOvertimeMinutes());
-        dailySummaryRepository.save(summary);
-    }
-
-    private DailySummary newDailySummary(UUID companyId, Employee employee, LocalDate summaryDate) {
-        var summary = new DailySummary();
-        summary.setCompanyId(companyId);
-        summary.setEmployee(employee);
-        summary.setDate(summaryDate);
-        summary.setTotalWorkedMinutes(0L);
-        summary.setOfficeWorkedMinutes(0L);
-        summary.setOfficePresent(Boolean.FALSE);
-        summary.setRemoteDay(Boolean.FALSE);
-        summary.setLateMinutes(0L);
-        summary.setEarlyExitMinutes(0L);
-        summary.setLateArrival(Boolean.FALSE);
-        summary.setEarlyExit(Boolean.FALSE);
-        summary.setFinalized(Boolean.FALSE);
-        summary.setOvertimeMinutes(0);
-        return summary;
-    }
-
-    private Employee getEmployeeForCompany(UUID companyId, UUID employeeId) {
-        return employeeRepository.findById(employeeId)
-                .filter(employee -> companyId.equals(employee.getCompanyId()))
+    private EmployeeSnapshot getEmployeeForCompany(UUID companyId, UUID employeeId) {
+        return employeeDirectory.findById(companyId, employeeId)
                 .orElseThrow(() -> new EntityNotFoundException("Employee not found for company"));
     }
 
@@ -271,6 +342,9 @@ public class AttendanceService {
         }
     }
 
+    public record BiometricPunchCommand(EmployeeSnapshot employee, Instant punchTime, String deviceLogId) {
+    }
+
     public record BiometricPunchResult(
             String punchType,
             String status,
@@ -279,4 +353,33 @@ public class AttendanceService {
             LocalDateTime checkOutTime,
             Long workedMinutes) {
     }
+
+    private record PunchDayKey(UUID employeeId, LocalDate date) {
+    }
+
+    private record PunchMonthKey(UUID employeeId, YearMonth month) {
+    }
+
+    private static final class PunchDaySession {
+
+        private boolean hasEvents;
+        private Instant openCheckIn;
+
+        private void apply(AttendanceEventType eventType, Instant eventTime) {
+            hasEvents = true;
+            if (eventType == AttendanceEventType.CHECK_IN) {
+                openCheckIn = eventTime;
+            } else if (eventType == AttendanceEventType.CHECK_OUT) {
+                openCheckIn = null;
+            }
+        }
+
+        private boolean hasEvents() {
+            return hasEvents;
+        }
+
+        private Instant openCheckIn() {
+            return openCheckIn;
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package com.company.hrsystem.attendance.service;
+
+import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.employee.repository.EmployeeRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AttendanceSessionReader {
+
+    private static final Set<AttendanceEventType> SESSION_EVENT_TYPES =
+            Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT);
+
+    private final AttendanceEventRepository attendanceEventRepository;
+    private final EmployeeRepository employeeRepository;
+
+    public SessionState lock(UUID companyId, UUID employeeId) {
+        return lockAll(companyId, Set.of(employeeId)).get(employeeId);
+    }
+
+    public Map<UUID, SessionState> lockAll(UUID companyId, Collection<UUID> employeeIds) {
+        lockEmployees(companyId, employeeIds);
+
+        var latestCheckIns = new HashMap<UUID, Instant>();
+        var latestCheckOuts = new HashMap<UUID, Instant>();
+        for (var row : attendanceEventRepository.findLatestEventTimesByEmployeeAndEventType(
+                companyId,
+                employeeIds,
+                SESSION_EVENT_TYPES)) {
+            var employeeId = (UUID) row[0];
+            var eventTime = (Instant) row[2];
+            if (row[1] == AttendanceEventType.CHECK_IN) {
+                latestCheckIns.put(employeeId, eventTime);
+            } else {
+                latestCheckOuts.put(employeeId, eventTime);
+            }
+        }
+        var result = new HashMap<UUID, SessionState>();
+        for (var employeeId : employeeIds) {
+            var checkIn = latestCheckIns.get(employeeId);
+            var checkOut = latestCheckOuts.get(employeeId);
+            var open = checkIn != null && (checkOut == null || !checkOut.isAfter(checkIn)) ? checkIn : null;
+            result.put(employeeId, new SessionState(open, latest(checkIn, checkOut)));
+        }
+        return result;
+    }
+
+    public void lockEmployees(UUID companyId, Collection<UUID> employeeIds) {
+        employeeRepository.findByCompanyIdAndIdInForUpdate(companyId, employeeIds);
+    }
+
+    private static Instant latest(Instant first, Instant second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return first.isAfter(second) ? first : second;
+    }
+
+    public record SessionState(Instant openCheckIn, Instant lastEventTime) {
+
+        public SessionState apply(AttendanceEventType eventType, Instant eventTime) {
+            var open = switch (eventType) {
+                case CHECK_IN -> eventTime;
+                case CHECK_OUT -> null;
+                default -> openCheckIn;
+            };
+            return new SessionState(open, latest(lastEventTime, eventTime));
+        }
+
+        public LocalDate lastEventDate(ZoneId zoneId) {
+            return lastEventTime == null ? null : lastEventTime.atZone(zoneId).toLocalDate();
+        }
+
+        public boolean hasEventOn(LocalDate date, ZoneId zoneId) {
+            return lastEventTime != null && date.equals(lastEventDate(zoneId));
+        }
+
+        public Instant openCheckInOn(LocalDate date, ZoneId zoneId) {
+            return openCheckIn != null && date.equals(openCheckIn.atZone(zoneId).toLocalDate()) ? openCheckIn : null;
+        }
+    }
+}
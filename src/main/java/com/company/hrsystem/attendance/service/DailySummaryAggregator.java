@@ -0,0 +1,173 @@
+package com.company.hrsystem.attendance.service;
+
+import com.company.hrsystem.attendance.entity.AttendanceEvent;
+import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.entity.AttendanceSource;
+import com.company.hrsystem.attendance.entity.DailySummary;
+import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceNightlyRunRepository;
+import com.company.hrsystem.attendance.repository.DailySummaryRepository;
+import com.company.hrsystem.company.service.CompanyZoneResolver;
+import com.company.hrsystem.employee.entity.Employee;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DailySummaryAggregator {
+
+    private static final Set<AttendanceEventType> AGGREGATED_EVENT_TYPES = Set.of(
+            AttendanceEventType.CHECK_IN,
+            AttendanceEventType.CHECK_OUT,
+            AttendanceEventType.OFFICE_ENTRY,
+            AttendanceEventType.OFFICE_EXIT);
+
+    private final DailySummaryRepository dailySummaryRepository;
+    private final AttendanceNightlyRunRepository nightlyRunRepository;
+    private final AttendanceEventRepository attendanceEventRepository;
+    private final CompanyZoneResolver companyZoneResolver;
+
+    public DailySummary record(AttendanceEvent event) {
+        var companyId = event.getCompanyId();
+        var employee = event.getEmployee();
+        var zoneId = companyZoneResolver.zoneOf(companyId);
+        var summaryDate = event.getEventTime().atZone(zoneId).toLocalDate();
+        var summary = findSummary(event, summaryDate)
+                .orElseGet(() -> newSummary(companyId, employee, summaryDate));
+        applyAll(summary, List.of(event), zoneId);
+        return dailySummaryRepository.save(summary);
+    }
+
+    public void applyAll(DailySummary summary, List<AttendanceEvent> events, ZoneId zoneId) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (Boolean.TRUE.equals(summary.getFinalized())) {
+            // A backdated punch reopens a finalized day; the nightly run finalizes it again.
+            nightlyRunRepository.markRefinalizeFromDate(summary.getCompanyId(), summary.getDate());
+        }
+        var ordered = events.stream()
+                .sorted(Comparator.comparing(AttendanceEvent::getEventTime))
+                .toList();
+        var lastEventTime = summary.getLastEventTime();
+        var missingAggregate = summary.getId() != null && lastEventTime == null;
+        if (missingAggregate || (lastEventTime != null && ordered.get(0).getEventTime().isBefore(lastEventTime))) {
+            rebuild(summary, zoneId);
+            return;
+        }
+        for (var event : ordered) {
+            apply(summary, event.getEventType(), event.getSource(), event.getEventTime());
+        }
+        summary.setFinalized(Boolean.FALSE);
+    }
+
+    public DailySummary newSummary(UUID companyId, Employee employee, LocalDate summaryDate) {
+        var summary = new DailySummary();
+        summary.setCompanyId(companyId);
+        summary.setEmployee(employee);
+        summary.setDate(summaryDate);
+        summary.setTotalWorkedMinutes(0L);
+        summary.setOfficeWorkedMinutes(0L);
+        summary.setOfficePresent(Boolean.FALSE);
+        summary.setRemoteDay(Boolean.FALSE);
+        summary.setLateMinutes(0L);
+        summary.setEarlyExitMinutes(0L);
+        summary.setLateArrival(Boolean.FALSE);
+        summary.setEarlyExit(Boolean.FALSE);
+        summary.setFinalized(Boolean.FALSE);
+        summary.setOvertimeMinutes(0);
+        summary.setOfficeEntry(Boolean.FALSE);
+        return summary;
+    }
+
+    private Optional<DailySummary> findSummary(AttendanceEvent event, LocalDate summaryDate) {
+        var companyId = event.getCompanyId();
+        var employeeId = event.getEmployee().getId();
+        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(companyId, employeeId, summaryDate);
+        if (event.getEventType() != AttendanceEventType.CHECK_OUT
+                || summary.map(DailySummary::getOpenCheckInTime).isPresent()) {
+            return summary;
+        }
+        // A check-out after midnight closes the session opened on an earlier day's summary.
+        return dailySummaryRepository
+                .findFirstByCompanyIdAndEmployee_IdAndDateBeforeAndOpenCheckInTimeIsNotNullOrderByDateDesc(
+                        companyId,
+                        employeeId,
+                        summaryDate)
+                .or(() -> summary);
+    }
+
+    private void rebuild(DailySummary summary, ZoneId zoneId) {
+        var dayStart = summary.getDate().atStartOfDay(zoneId).toInstant();
+        var nextDayStart = summary.getDate().plusDays(1).atStartOfDay(zoneId).toInstant();
+        var lastEventTime = summary.getLastEventTime();
+        var rangeEnd = lastEventTime != null && !lastEventTime.isBefore(nextDayStart)
+                ? lastEventTime.plusNanos(1)
+                : nextDayStart;
+        var events = attendanceEventRepository.findByCompanyAndEmployeeAndEventTypesAndEventTimeBetween(
+                summary.getCompanyId(),
+                summary.getEmployee().getId(),
+                AGGREGATED_EVENT_TYPES,
+                dayStart,
+                rangeEnd);
+
+        summary.setTotalWorkedMinutes(0L);
+        summary.setOpenCheckInTime(null);
+        summary.setFirstCheckInTime(null);
+        summary.setLastCheckOutTime(null);
+        summary.setLastEventTime(null);
+        summary.setOfficeEntry(Boolean.FALSE);
+        for (var event : events) {
+            apply(summary, event.getEventType(), event.getSource(), event.getEventTime());
+        }
+        summary.setFinalized(Boolean.FALSE);
+    }
+
+    private void apply(DailySummary summary, AttendanceEventType eventType, AttendanceSource source, Instant eventTime) {
+        switch (eventType) {
+            case CHECK_IN -> {
+                var openCheckIn = summary.getOpenCheckInTime();
+                if (openCheckIn == null || eventTime.isAfter(openCheckIn)) {
+                    summary.setOpenCheckInTime(eventTime);
+                }
+                if (summary.getFirstCheckInTime() == null || eventTime.isBefore(summary.getFirstCheckInTime())) {
+                    summary.setFirstCheckInTime(eventTime);
+                }
+                if (source == AttendanceSource.BIOMETRIC) {
+                    summary.setOfficeEntry(Boolean.TRUE);
+                }
+            }
+            case CHECK_OUT -> {
+                var openCheckIn = summary.getOpenCheckInTime();
+                if (openCheckIn != null && eventTime.isAfter(openCheckIn)) {
+                    var existingWorked = summary.getTotalWorkedMinutes() == null ? 0L : summary.getTotalWorkedMinutes();
+                    summary.setTotalWorkedMinutes(existingWorked + Duration.between(openCheckIn, eventTime).toMinutes());
+                    summary.setOpenCheckInTime(null);
+                }
+                if (summary.getLastCheckOutTime() == null || eventTime.isAfter(summary.getLastCheckOutTime())) {
+                    summary.setLastCheckOutTime(eventTime);
+                }
+            }
+            case OFFICE_ENTRY -> {
+                if (source == AttendanceSource.BIOMETRIC) {
+                    summary.setOfficeEntry(Boolean.TRUE);
+                }
+            }
+            case OFFICE_EXIT -> {
+                // Office exit does not change the running aggregate.
+            }
+        }
+        if (summary.getLastEventTime() == null || eventTime.isAfter(summary.getLastEventTime())) {
+            summary.setLastEventTime(eventTime);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
@@ -16,26 +17,41 @@ public class PostgresDistributedLockManager {
 
     private static final String TRY_LOCK_SQL = "select pg_try_advisory_lock(?)";
     private static final String UNLOCK_SQL = "select pg_advisory_unlock(?)";
+    // Two-int keys never overlap single bigint keys. Scopes whose ids hash alike within a namespace share one lock.
+    private static final String TRY_SCOPED_LOCK_SQL = "select pg_try_advisory_lock(?, hashtext(?))";
+    private static final String SCOPED_UNLOCK_SQL = "select pg_advisory_unlock(?, hashtext(?))";
 
     private final DataSource dataSource;
 
     public Optional<LockHandle> tryAcquire(long lockKey) {
+        return tryAcquire(TRY_LOCK_SQL, UNLOCK_SQL, statement -> statement.setLong(1, lockKey));
+    }
+
+    public Optional<LockHandle> tryAcquire(int namespace, UUID scopeId) {
+        var scopeKey = scopeId.toString();
+        return tryAcquire(TRY_SCOPED_LOCK_SQL, SCOPED_UNLOCK_SQL, statement -> {
+            statement.setInt(1, namespace);
+            statement.setString(2, scopeKey);
+        });
+    }
+
+    private Optional<LockHandle> tryAcquire(String lockSql, String unlockSql, KeyBinder keyBinder) {
         try {
             var connection = dataSource.getConnection();
-            var acquired = tryLock(connection, lockKey);
+            var acquired = tryLock(connection, lockSql, keyBinder);
             if (!acquired) {
                 connection.close();
                 return Optional.empty();
             }
-            return Optional.of(new AdvisoryLockHandle(connection, lockKey));
+            return Optional.of(new AdvisoryLockHandle(connection, unlockSql, keyBinder));
         } catch (SQLException ex) {
             throw new IllegalStateException("Unable to acquire distributed DB lock", ex);
         }
     }
 
-    private boolean tryLock(Connection connection, long lockKey) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(TRY_LOCK_SQL)) {
-            statement.setLong(1, lockKey);
+    private boolean tryLock(Connection connection, String lockSql, KeyBinder keyBinder) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(lockSql)) {
+            keyBinder.bind(statement);
             try (ResultSet resultSet = statement.executeQuery()) {
                 return resultSet.next() && resultSet.getBoolean(1);
             }
@@ -48,15 +64,23 @@ public class PostgresDistributedLockManager {
         void close();
     }
 
+    @FunctionalInterface
+    private interface KeyBinder {
+
+        void bind(PreparedStatement statement) throws SQLException;
+    }
+
     private static final class AdvisoryLockHandle implements LockHandle {
 
         private final Connection connection;
-        private final long lockKey;
+        private final String unlockSql;
+        private final KeyBinder keyBinder;
         private final AtomicBoolean released = new AtomicBoolean(false);
 
-        private AdvisoryLockHandle(Connection connection, long lockKey) {
+        private AdvisoryLockHandle(Connection connection, String unlockSql, KeyBinder keyBinder) {
             this.connection = connection;
-            this.lockKey = lockKey;
+            this.unlockSql = unlockSql;
+            this.keyBinder = keyBinder;
         }
 
         @Override
@@ -65,11 +89,9 @@ public class PostgresDistributedLockManager {
                 return;
             }
 
-            try (PreparedStatement unlockStatement = connection.prepareStatement(UNLOCK_SQL)) {
-                unlockStatement.setLong(1, lockKey);
-                try (ResultSet ignored = unlockStatement.executeQuery()) {
-                    // no-op
-                }
+            try (PreparedStatement unlockStatement = connection.prepareStatement(unlockSql)) {
+                keyBinder.bind(unlockStatement);
+                unlockStatement.execute();
             } catch (SQLException ex) {
                 throw new IllegalStateException("Unable to release distributed DB lock", ex);
             } finally {
@@ -17,7 +17,8 @@ import lombok.Setter;
         indexes = {
                 @Index(name = "idx_refresh_token_tenant_id", columnList = "tenant_id"),
                 @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
-                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_token_revoked_at", columnList = "revoked_at")
         })
 public class RefreshToken extends BaseEntity {
 
@@ -27,8 +28,8 @@ public class RefreshToken extends BaseEntity {
     @Column(name = "user_id", nullable = false, updatable = false)
     private UUID userId;
 
-    @Column(name = "token", nullable = false, unique = true, length = 120, updatable = false)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, updatable = false)
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false, updatable = false)
     private Instant expiresAt;
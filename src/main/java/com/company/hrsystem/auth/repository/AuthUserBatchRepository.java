@@ -0,0 +1,9 @@
+package com.company.hrsystem.auth.repository;
+
+import com.company.hrsystem.auth.entity.AuthUser;
+import java.util.List;
+
+public interface AuthUserBatchRepository {
+
+    void insertAll(List<AuthUser> authUsers);
+}
@@ -0,0 +1,51 @@
+package com.company.hrsystem.auth.repository;
+
+import com.company.hrsystem.auth.entity.AuthUser;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AuthUserBatchRepositoryImpl implements AuthUserBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into auth_user
+                (id, company_id, tenant_id, username, password_hash, employee_id, enabled, role, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AuthUser> authUsers) {
+        if (authUsers.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(authUsers.size());
+        for (var authUser : authUsers) {
+            if (authUser.getId() == null) {
+                authUser.setId(UUID.randomUUID());
+            }
+            authUser.setCreatedAt(now);
+            authUser.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    authUser.getId(),
+                    authUser.getCompanyId(),
+                    authUser.getTenantId(),
+                    authUser.getUsername(),
+                    authUser.getPassword(),
+                    authUser.getEmployeeId(),
+                    authUser.getEnabled(),
+                    authUser.getRole().name(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -1,15 +1,23 @@
 package com.company.hrsystem.auth.repository;
 
 import com.company.hrsystem.auth.entity.AuthUser;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AuthUserRepository extends JpaRepository<AuthUser, UUID> {
+public interface AuthUserRepository extends JpaRepository<AuthUser, UUID>, AuthUserBatchRepository {
 
     Optional<AuthUser> findByTenantIdAndUsernameIgnoreCaseAndEnabledTrue(UUID tenantId, String username);
 
     Optional<AuthUser> findByIdAndTenantIdAndEnabledTrue(UUID id, UUID tenantId);
 
+    Optional<AuthUser> findByIdAndTenantId(UUID id, UUID tenantId);
+
     boolean existsByTenantIdAndUsernameIgnoreCase(UUID tenantId, String username);
+
+    @Query("select u.username from AuthUser u where u.tenantId = :tenantId")
+    List<String> findUsernamesByTenantId(@Param("tenantId") UUID tenantId);
 }
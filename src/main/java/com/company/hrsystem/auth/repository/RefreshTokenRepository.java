@@ -1,15 +1,49 @@
 package com.company.hrsystem.auth.repository;
 
 import com.company.hrsystem.auth.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByTokenAndRevokedAtIsNull(String token);
+    Optional<RefreshToken> findByTokenHashAndRevokedAtIsNull(String tokenHash);
 
-    long deleteByExpiresAtBefore(Instant cutoff);
-}
+    @Query("""
+            select count(rt) from RefreshToken rt
+            where rt.revokedAt is not null
+               or rt.expiresAt <= :now
+            """)
+    long countRevokedOrExpired(@Param("now") Instant now);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select rt.tokenHash from RefreshToken rt
+            where rt.revokedAt is not null
+               or rt.expiresAt <= :now
+            """)
+    Stream<String> streamRevokedOrExpiredTokenHashes(@Param("now") Instant now);
 
+    @Modifying
+    @Query(value = """
+            delete from refresh_token
+            where id in (
+                select id from refresh_token
+                where expires_at < :cutoff
+                   or revoked_at < :cutoff
+                limit :limit
+            )
+            """, nativeQuery = true)
+    int deleteExpiredBatch(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
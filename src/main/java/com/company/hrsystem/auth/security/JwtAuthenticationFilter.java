@@ -14,7 +14,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -27,9 +26,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
     private final ObjectMapper objectMapper;
-    private final RoleHierarchy roleHierarchy;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -60,7 +58,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             var tokenTenantId = claims.tenantId();
             CompanyContext.setCompanyId(tokenTenantId);
 
-            var userDetails = customUserDetailsService.loadByIdAndTenant(claims.userId(), tokenTenantId);
+            var principal = principalCache.get(claims.userId(), tokenTenantId);
+            var userDetails = principal.userDetails();
             if (userDetails.getRole() != claims.role()) {
                 writeErrorResponse(
                         response,
@@ -71,11 +70,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            var reachableAuthorities = roleHierarchy.getReachableGrantedAuthorities(userDetails.getAuthorities());
             var authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
-                    reachableAuthorities);
+                    principal.authorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
             SecurityContextHolder.getContext().setAuthentication(authentication);
         } catch (Exception ex) {
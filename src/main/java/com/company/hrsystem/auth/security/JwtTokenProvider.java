@@ -1,7 +1,7 @@
 package com.company.hrsystem.auth.security;
 
 import com.company.hrsystem.auth.entity.Role;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -30,17 +30,19 @@ public class JwtTokenProvider {
     @Value("${security.jwt.expiration-seconds:3600}")
     private long expirationSeconds;
 
+    private final ThreadLocal<Mac> signer = ThreadLocal.withInitial(this::newMac);
+
     public String generateToken(CustomUserDetails principal) {
         try {
             var now = Instant.now().getEpochSecond();
             var header = Map.of("alg", "HS256", "typ", "JWT");
-            var payload = Map.of(
-                    "sub", principal.getUsername(),
-                    "userId", principal.getUserId().toString(),
-                    "tenantId", principal.getTenantId().toString(),
-                    "role", principal.getRole().name(),
-                    "iat", now,
-                    "exp", now + expirationSeconds);
+            var payload = new TokenPayload(
+                    principal.getUsername(),
+                    principal.getUserId().toString(),
+                    principal.getTenantId().toString(),
+                    principal.getRole().name(),
+                    now,
+                    now + expirationSeconds);
 
             var encodedHeader = encode(objectMapper.writeValueAsBytes(header));
             var encodedPayload = encode(objectMapper.writeValueAsBytes(payload));
@@ -54,40 +56,45 @@ public class JwtTokenProvider {
 
     public JwtClaims parseAndValidate(String token) {
         try {
-            var parts = token.split("\\.");
-            if (parts.length != 3) {
+            var headerEnd = token.indexOf('.');
+            var payloadEnd = token.indexOf('.', headerEnd + 1);
+            if (headerEnd < 0 || payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
                 throw new IllegalArgumentException("Invalid JWT format");
             }
 
-            var unsignedToken = parts[0] + "." + parts[1];
-            var expectedSignature = sign(unsignedToken);
-            var providedSignature = URL_DECODER.decode(parts[2]);
+            var expectedSignature = sign(token.substring(0, payloadEnd));
+            var providedSignature = URL_DECODER.decode(token.substring(payloadEnd + 1));
             if (!MessageDigest.isEqual(expectedSignature, providedSignature)) {
                 throw new IllegalArgumentException("Invalid JWT signature");
             }
 
-            var payloadJson = URL_DECODER.decode(parts[1]);
-            var payload = objectMapper.readValue(payloadJson, new TypeReference<Map<String, Object>>() {
-            });
-            var exp = ((Number) payload.get("exp")).longValue();
-            if (Instant.now().getEpochSecond() >= exp) {
+            var payloadJson = URL_DECODER.decode(token.substring(headerEnd + 1, payloadEnd));
+            var payload = objectMapper.readValue(payloadJson, TokenPayload.class);
+            if (Instant.now().getEpochSecond() >= payload.exp()) {
                 throw new IllegalArgumentException("JWT token has expired");
             }
 
             return new JwtClaims(
-                    UUID.fromString(payload.get("userId").toString()),
-                    UUID.fromString(payload.get("tenantId").toString()),
-                    Role.valueOf(payload.get("role").toString()));
+                    UUID.fromString(payload.userId()),
+                    UUID.fromString(payload.tenantId()),
+                    Role.valueOf(payload.role()));
         } catch (Exception ex) {
             throw new IllegalArgumentException("Invalid JWT token", ex);
         }
     }
 
-    private byte[] sign(String value) throws Exception {
-        var mac = Mac.getInstance("HmacSHA256");
-        var secretKey = new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
-        mac.init(secretKey);
-        return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    private byte[] sign(String value) {
+        return signer.get().doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            var mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return mac;
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unable to initialize JWT signer", ex);
+        }
     }
 
     private String encode(byte[] value) {
@@ -96,4 +103,8 @@ public class JwtTokenProvider {
 
     public record JwtClaims(UUID userId, UUID tenantId, Role role) {
     }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record TokenPayload(String sub, String userId, String tenantId, String role, long iat, long exp) {
+    }
 }
@@ -0,0 +1,67 @@
+package com.company.hrsystem.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.hierarchicalroles.RoleHierarchy;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class PrincipalCache {
+
+    private final CustomUserDetailsService customUserDetailsService;
+    private final RoleHierarchy roleHierarchy;
+    private final Cache<PrincipalKey, AuthenticatedPrincipal> principals;
+
+    public PrincipalCache(
+            CustomUserDetailsService customUserDetailsService,
+            RoleHierarchy roleHierarchy,
+            @Value("${security.principal-cache.max-size:50000}") long maxSize,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.roleHierarchy = roleHierarchy;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public AuthenticatedPrincipal get(UUID userId, UUID tenantId) {
+        return principals.get(new PrincipalKey(userId, tenantId), this::load);
+    }
+
+    public void evictAfterCompletion(UUID userId, UUID tenantId) {
+        var key = new PrincipalKey(userId, tenantId);
+        principals.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    principals.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private AuthenticatedPrincipal load(PrincipalKey key) {
+        var userDetails = customUserDetailsService.loadByIdAndTenant(key.userId(), key.tenantId());
+        return new AuthenticatedPrincipal(
+                userDetails,
+                List.copyOf(roleHierarchy.getReachableGrantedAuthorities(userDetails.getAuthorities())));
+    }
+
+    private record PrincipalKey(UUID userId, UUID tenantId) {
+    }
+
+    public record AuthenticatedPrincipal(
+            CustomUserDetails userDetails,
+            Collection<? extends GrantedAuthority> authorities) {
+    }
+}
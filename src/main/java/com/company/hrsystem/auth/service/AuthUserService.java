@@ -3,6 +3,8 @@ package com.company.hrsystem.auth.service;
 import com.company.hrsystem.auth.entity.AuthUser;
 import com.company.hrsystem.auth.entity.Role;
 import com.company.hrsystem.auth.repository.AuthUserRepository;
+import com.company.hrsystem.auth.security.PrincipalCache;
+import jakarta.persistence.EntityNotFoundException;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -15,6 +17,7 @@ public class AuthUserService {
 
     private final AuthUserRepository authUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public AuthUser createUser(
@@ -38,4 +41,25 @@ public class AuthUserService {
         authUser.setEnabled(enabled);
         return authUserRepository.save(authUser);
     }
+
+    @Transactional
+    public AuthUser changeRole(UUID tenantId, UUID userId, Role role) {
+        var authUser = getUserForTenant(tenantId, userId);
+        authUser.setRole(role);
+        principalCache.evictAfterCompletion(userId, tenantId);
+        return authUserRepository.save(authUser);
+    }
+
+    @Transactional
+    public AuthUser setEnabled(UUID tenantId, UUID userId, boolean enabled) {
+        var authUser = getUserForTenant(tenantId, userId);
+        authUser.setEnabled(enabled);
+        principalCache.evictAfterCompletion(userId, tenantId);
+        return authUserRepository.save(authUser);
+    }
+
+    private AuthUser getUserForTenant(UUID tenantId, UUID userId) {
+        return authUserRepository.findByIdAndTenantId(userId, tenantId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found in tenant context"));
+    }
 }
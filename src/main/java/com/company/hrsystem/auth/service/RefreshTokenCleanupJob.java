@@ -0,0 +1,47 @@
+package com.company.hrsystem.auth.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenCleanupJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenCleanupJob.class);
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("${security.refresh-token.cleanup-batch-size:1000}")
+    private int batchSize;
+
+    @Value("${security.refresh-token.cleanup-retention-hours:24}")
+    private long retentionHours;
+
+    @Scheduled(cron = "${security.refresh-token.cleanup-cron:0 17 * * * *}", zone = "UTC")
+    public void deleteExpiredTokens() {
+        var startedAt = Instant.now();
+        var retention = Duration.ofHours(retentionHours);
+        long deleted = 0;
+        try {
+            int batchDeleted;
+            do {
+                batchDeleted = refreshTokenService.cleanupExpiredBatch(retention, batchSize);
+                deleted += batchDeleted;
+            } while (batchDeleted == batchSize);
+        } catch (RuntimeException ex) {
+            log.error("refresh_token_cleanup_failed deleted={}", deleted, ex);
+            return;
+        }
+
+        if (deleted > 0) {
+            log.info("refresh_token_cleanup_complete deleted={} duration_ms={}",
+                    deleted, Duration.between(startedAt, Instant.now()).toMillis());
+        }
+    }
+}
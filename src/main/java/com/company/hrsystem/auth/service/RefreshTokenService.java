@@ -2,8 +2,12 @@ package com.company.hrsystem.auth.service;
 
 import com.company.hrsystem.auth.entity.RefreshToken;
 import com.company.hrsystem.auth.repository.RefreshTokenRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedRefreshTokenFilter revokedRefreshTokenFilter;
 
     @Value("${security.jwt.refresh-expiration-seconds:604800}")
     private long refreshExpirationSeconds;
@@ -23,9 +28,10 @@ public class RefreshTokenService {
     public String issue(UUID tenantId, UUID userId) {
         var token = UUID.randomUUID().toString();
         var entity = new RefreshToken();
+        entity.setCompanyId(tenantId);
         entity.setTenantId(tenantId);
         entity.setUserId(userId);
-        entity.setToken(token);
+        entity.setTokenHash(hash(token));
         entity.setExpiresAt(Instant.now().plusSeconds(refreshExpirationSeconds));
         entity.setRevokedAt(null);
         refreshTokenRepository.save(entity);
@@ -34,7 +40,11 @@ public class RefreshTokenService {
 
     @Transactional(readOnly = true)
     public RefreshToken requireValid(String refreshToken) {
-        var token = refreshTokenRepository.findByTokenAndRevokedAtIsNull(refreshToken)
+        var tokenHash = hash(refreshToken);
+        if (revokedRefreshTokenFilter.mightBeRevoked(tokenHash)) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        var token = refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
         if (Instant.now().isAfter(token.getExpiresAt())) {
             throw new IllegalArgumentException("Refresh token expired");
@@ -44,18 +54,31 @@ public class RefreshTokenService {
 
     @Transactional
     public void revoke(String refreshToken) {
-        var token = refreshTokenRepository.findByTokenAndRevokedAtIsNull(refreshToken).orElse(null);
+        var tokenHash = hash(refreshToken);
+        var token = refreshTokenRepository.findByTokenHashAndRevokedAtIsNull(tokenHash).orElse(null);
         if (token == null) {
             return;
         }
         token.setRevokedAt(Instant.now());
         refreshTokenRepository.save(token);
+        revokedRefreshTokenFilter.addAfterCommit(tokenHash);
     }
 
     @Transactional
-    public long cleanupExpired(Duration retention) {
+    public int cleanupExpiredBatch(Duration retention, int batchSize) {
         var cutoff = Instant.now().minus(retention);
-        return refreshTokenRepository.deleteByExpiresAtBefore(cutoff);
+        return refreshTokenRepository.deleteExpiredBatch(cutoff, batchSize);
     }
-}
 
+    private String hash(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
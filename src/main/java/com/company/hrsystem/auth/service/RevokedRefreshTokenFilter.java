@@ -0,0 +1,128 @@
+package com.company.hrsystem.auth.service;
+
+import com.company.hrsystem.auth.repository.RefreshTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class RevokedRefreshTokenFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RevokedRefreshTokenFilter.class);
+    private static final int MIN_EXPECTED_TOKENS = 1_024;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate readOnlyTemplate;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+
+    public RevokedRefreshTokenFilter(
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${security.refresh-token.bloom-false-positive-rate:0.000001}") double falsePositiveRate) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = BloomFilter.create(MIN_EXPECTED_TOKENS, falsePositiveRate);
+    }
+
+    public boolean mightBeRevoked(String tokenHash) {
+        return filter.mightContain(tokenHash);
+    }
+
+    public void addAfterCommit(String tokenHash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            filter.put(tokenHash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                filter.put(tokenHash);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.refresh-token.bloom-rebuild-interval-ms:60000}",
+            fixedDelayString = "${security.refresh-token.bloom-rebuild-interval-ms:60000}")
+    public void rebuild() {
+        var startedAt = Instant.now();
+        try {
+            var rebuilt = readOnlyTemplate.execute(status -> {
+                var expectedTokens = refreshTokenRepository.countRevokedOrExpired(startedAt);
+                var next = BloomFilter.create(Math.max(MIN_EXPECTED_TOKENS, expectedTokens + expectedTokens / 4), falsePositiveRate);
+                try (var tokenHashes = refreshTokenRepository.streamRevokedOrExpiredTokenHashes(startedAt)) {
+                    tokenHashes.forEach(next::put);
+                }
+                return next;
+            });
+            filter = rebuilt;
+            log.debug("refresh_token_filter_rebuilt bits={} duration_ms={}",
+                    rebuilt.bitSize(), Duration.between(startedAt, Instant.now()).toMillis());
+        } catch (RuntimeException ex) {
+            log.error("refresh_token_filter_rebuild_failed", ex);
+        }
+    }
+
+    private static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashFunctions;
+
+        private BloomFilter(long bitSize, int hashFunctions) {
+            this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+            this.bitSize = bitSize;
+            this.hashFunctions = hashFunctions;
+        }
+
+        static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+            var ln2 = Math.log(2);
+            var bitSize = Math.max(64L, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+            var hashFunctions = (int) Math.max(1, Math.min(30, Math.round((double) bitSize / expectedInsertions * ln2)));
+            return new BloomFilter(bitSize, hashFunctions);
+        }
+
+        long bitSize() {
+            return bitSize;
+        }
+
+        void put(String tokenHash) {
+            var h1 = HexFormat.fromHexDigitsToLong(tokenHash, 0, 16);
+            var h2 = HexFormat.fromHexDigitsToLong(tokenHash, 16, 32);
+            for (int i = 0; i < hashFunctions; i++) {
+                var index = Math.floorMod(h1 + i * h2, bitSize);
+                var word = (int) (index >>> 6);
+                var mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String tokenHash) {
+            var h1 = HexFormat.fromHexDigitsToLong(tokenHash, 0, 16);
+            var h2 = HexFormat.fromHexDigitsToLong(tokenHash, 16, 32);
+            for (int i = 0; i < hashFunctions; i++) {
+                var index = Math.floorMod(h1 + i * h2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
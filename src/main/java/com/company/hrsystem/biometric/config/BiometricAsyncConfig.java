@@ -1,9 +1,31 @@
 package com.company.hrsystem.biometric.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 @EnableAsync
 public class BiometricAsyncConfig {
+
+    public static final String BIOMETRIC_EVENT_EXECUTOR = "biometricEventExecutor";
+
+    @Bean(name = BIOMETRIC_EVENT_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor biometricEventExecutor(
+            @Value("${biometric.events.workers:4}") int workers,
+            @Value("${biometric.events.queue-capacity:1000}") int queueCapacity,
+            @Value("${biometric.events.shutdown-timeout-seconds:30}") int shutdownTimeoutSeconds) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("biometric-event-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+        return executor;
+    }
 }
@@ -5,6 +5,7 @@ import com.company.hrsystem.biometric.dto.BiometricPunchRequest;
 import com.company.hrsystem.biometric.dto.BiometricPunchResponse;
 import com.company.hrsystem.biometric.service.BiometricService;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -32,4 +33,10 @@ public class BiometricController {
         var response = biometricService.processPunch(request);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/punches:batch")
+    public ResponseEntity<List<BiometricPunchResponse>> receivePunchBatch(@RequestBody List<BiometricPunchRequest> requests) {
+        var responses = biometricService.processPunchBatch(requests);
+        return ResponseEntity.ok(responses);
+    }
 }
@@ -6,6 +6,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
@@ -15,7 +16,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "biometric_event_log",
         indexes = {
-                @Index(name = "idx_biometric_event_log_company_id", columnList = "company_id")
+                @Index(name = "idx_biometric_event_log_company_id", columnList = "company_id"),
+                @Index(name = "idx_biometric_event_log_unprocessed", columnList = "created_at")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uq_biometric_event_log_company_device_log", columnNames = {"company_id", "device_log_id"})
@@ -39,4 +41,13 @@ public class BiometricEventLog extends BaseEntity {
 
     @Column(name = "processed", nullable = false)
     private Boolean processed;
+
+    @Column(name = "processing_attempts", nullable = false)
+    private Integer processingAttempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "dead_lettered_at")
+    private Instant deadLetteredAt;
 }
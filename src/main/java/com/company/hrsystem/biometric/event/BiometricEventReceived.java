@@ -1,6 +1,7 @@
 package com.company.hrsystem.biometric.event;
 
+import java.time.Instant;
 import java.util.UUID;
 
-public record BiometricEventReceived(UUID biometricEventLogId, UUID companyId) {
+public record BiometricEventReceived(UUID biometricEventLogId, UUID companyId, Instant receivedAt) {
 }
@@ -0,0 +1,9 @@
+package com.company.hrsystem.biometric.repository;
+
+import com.company.hrsystem.biometric.entity.BiometricEventLog;
+import java.util.List;
+
+public interface BiometricEventLogBatchRepository {
+
+    void insertAll(List<BiometricEventLog> eventLogs);
+}
@@ -0,0 +1,53 @@
+package com.company.hrsystem.biometric.repository;
+
+import com.company.hrsystem.biometric.entity.BiometricEventLog;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class BiometricEventLogBatchRepositoryImpl implements BiometricEventLogBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into biometric_event_log
+                (id, company_id, device_id, device_log_id, employee_code, event_type, event_time, processed,
+                 processing_attempts, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<BiometricEventLog> eventLogs) {
+        if (eventLogs.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(eventLogs.size());
+        for (var eventLog : eventLogs) {
+            if (eventLog.getId() == null) {
+                eventLog.setId(UUID.randomUUID());
+            }
+            eventLog.setCreatedAt(now);
+            eventLog.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    eventLog.getId(),
+                    eventLog.getCompanyId(),
+                    eventLog.getDeviceId(),
+                    eventLog.getDeviceLogId(),
+                    eventLog.getEmployeeCode(),
+                    eventLog.getEventType(),
+                    eventLog.getEventTime(),
+                    Boolean.TRUE.equals(eventLog.getProcessed()),
+                    eventLog.getProcessingAttempts() == null ? 0 : eventLog.getProcessingAttempts(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
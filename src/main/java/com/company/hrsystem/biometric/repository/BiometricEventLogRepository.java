@@ -1,13 +1,84 @@
 package com.company.hrsystem.biometric.repository;
 
 import com.company.hrsystem.biometric.entity.BiometricEventLog;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface BiometricEventLogRepository extends JpaRepository<BiometricEventLog, UUID> {
+public interface BiometricEventLogRepository extends JpaRepository<BiometricEventLog, UUID>, BiometricEventLogBatchRepository {
 
     boolean existsByDeviceLogIdAndCompanyId(String deviceLogId, UUID companyId);
 
+    @Query("""
+            select bel.deviceLogId from BiometricEventLog bel
+            where bel.companyId = :companyId
+              and bel.deviceLogId in :deviceLogIds
+            """)
+    Set<String> findExistingDeviceLogIds(
+            @Param("companyId") UUID companyId,
+            @Param("deviceLogIds") Collection<String> deviceLogIds);
+
     Optional<BiometricEventLog> findByIdAndCompanyId(UUID id, UUID companyId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select bel from BiometricEventLog bel
+            where bel.id = :id
+              and bel.companyId = :companyId
+            """)
+    Optional<BiometricEventLog> findForUpdate(@Param("id") UUID id, @Param("companyId") UUID companyId);
+
+    @Query(value = """
+            select * from biometric_event_log
+            where processed = false
+              and dead_lettered_at is null
+              and created_at < :createdBefore
+            order by created_at
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<BiometricEventLog> claimUnprocessed(
+            @Param("createdBefore") Instant createdBefore,
+            @Param("limit") int limit);
+
+    @Query(value = """
+            select * from biometric_event_log
+            where id = :id
+              and processed = false
+              and dead_lettered_at is null
+            for update skip locked
+            """, nativeQuery = true)
+    Optional<BiometricEventLog> claimUnprocessedById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("""
+            update BiometricEventLog bel
+            set bel.processingAttempts = bel.processingAttempts + 1,
+                bel.lastError = :lastError
+            where bel.id = :id
+            """)
+    int recordFailedAttempt(@Param("id") UUID id, @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("""
+            update BiometricEventLog bel
+            set bel.deadLetteredAt = :deadLetteredAt
+            where bel.id = :id
+              and bel.processed = false
+              and bel.deadLetteredAt is null
+              and bel.processingAttempts >= :maxAttempts
+            """)
+    int deadLetterIfExhausted(
+            @Param("id") UUID id,
+            @Param("maxAttempts") int maxAttempts,
+            @Param("deadLetteredAt") Instant deadLetteredAt);
 }
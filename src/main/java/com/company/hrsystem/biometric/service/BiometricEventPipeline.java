@@ -0,0 +1,50 @@
+package com.company.hrsystem.biometric.service;
+
+import com.company.hrsystem.biometric.config.BiometricAsyncConfig;
+import com.company.hrsystem.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BiometricEventPipeline {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public BiometricEventPipeline(
+            @Qualifier(BiometricAsyncConfig.BIOMETRIC_EVENT_EXECUTOR) ThreadPoolTaskExecutor executor,
+            MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = meterRegistry.counter("biometric.events.rejected");
+        Gauge.builder("biometric.events.queue.depth", executor, pool -> pool.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("biometric.events.workers.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    public void ensureCapacity() {
+        if (executor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+            rejectedCounter.increment();
+            throw new ServiceOverloadedException("Biometric event pipeline is saturated, retry later");
+        }
+    }
+
+    public void recordRejected() {
+        rejectedCounter.increment();
+    }
+
+    public void recordProcessed(Instant receivedAt, Duration processingTime) {
+        meterRegistry.timer("biometric.events.processing").record(processingTime);
+        if (receivedAt != null) {
+            meterRegistry.timer("biometric.events.latency").record(Duration.between(receivedAt, Instant.now()));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.company.hrsystem.biometric.service;
+
+import com.company.hrsystem.biometric.entity.BiometricEventLog;
+import com.company.hrsystem.biometric.repository.BiometricEventLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@RequiredArgsConstructor
+public class BiometricOutboxPoller {
+
+    private static final Logger log = LoggerFactory.getLogger(BiometricOutboxPoller.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final BiometricEventLogRepository biometricEventLogRepository;
+    private final BiometricEventProcessor biometricEventProcessor;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${biometric.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${biometric.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${biometric.outbox.min-age-seconds:60}")
+    private long minAgeSeconds;
+
+    @Scheduled(
+            initialDelayString = "${biometric.outbox.poll-interval-ms:30000}",
+            fixedDelayString = "${biometric.outbox.poll-interval-ms:30000}")
+    public void replayUnprocessed() {
+        var startedAt = Instant.now();
+        var txTemplate = new TransactionTemplate(transactionManager);
+        var processed = 0;
+        var claimed = batchSize;
+        while (claimed == batchSize) {
+            var createdBefore = Instant.now().minus(Duration.ofSeconds(minAgeSeconds));
+            var claimedIds = new ArrayList<UUID>();
+            try {
+                var batchCount = txTemplate.execute(status -> {
+                    var eventLogs = biometricEventLogRepository.claimUnprocessed(createdBefore, batchSize);
+                    eventLogs.stream().map(BiometricEventLog::getId).forEach(claimedIds::add);
+                    eventLogs.forEach(biometricEventProcessor::process);
+                    return eventLogs.size();
+                });
+                claimed = batchCount == null ? 0 : batchCount;
+                processed += claimed;
+            } catch (RuntimeException ex) {
+                log.warn("biometric_outbox_batch_failed claimed={} fallback=per_row", claimedIds.size(), ex);
+                processed += replayIndividually(txTemplate, claimedIds);
+                break;
+            }
+        }
+
+        if (processed > 0) {
+            log.info("biometric_outbox_replayed processed={} duration_ms={}",
+                    processed, Duration.between(startedAt, Instant.now()).toMillis());
+        }
+    }
+
+    private int replayIndividually(TransactionTemplate rowTemplate, List<UUID> eventLogIds) {
+        var processed = 0;
+        for (var eventLogId : eventLogIds) {
+            try {
+                var replayed = rowTemplate.execute(status -> biometricEventLogRepository.claimUnprocessedById(eventLogId)
+                        .map(eventLog -> {
+                            biometricEventProcessor.process(eventLog);
+                            return Boolean.TRUE;
+                        })
+                        .orElse(Boolean.FALSE));
+                if (Boolean.TRUE.equals(replayed)) {
+                    processed++;
+                }
+            } catch (RuntimeException ex) {
+                log.error("biometric_outbox_event_failed biometric_event_log_id={}", eventLogId, ex);
+                recordFailure(rowTemplate, eventLogId, ex);
+            }
+        }
+        return processed;
+    }
+
+    private void recordFailure(TransactionTemplate rowTemplate, UUID eventLogId, RuntimeException failure) {
+        var deadLettered = rowTemplate.execute(status -> {
+            biometricEventLogRepository.recordFailedAttempt(eventLogId, truncate(failure.getMessage()));
+            return biometricEventLogRepository.deadLetterIfExhausted(eventLogId, maxAttempts, Instant.now());
+        });
+        if (deadLettered != null && deadLettered > 0) {
+            meterRegistry.counter("biometric.outbox.dead_lettered").increment();
+            log.error("biometric_outbox_event_dead_lettered biometric_event_log_id={} max_attempts={}",
+                    eventLogId, maxAttempts);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
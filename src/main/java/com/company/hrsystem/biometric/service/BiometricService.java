@@ -8,19 +8,30 @@ import com.company.hrsystem.biometric.entity.BiometricEventLog;
 import com.company.hrsystem.biometric.event.BiometricEventReceived;
 import com.company.hrsystem.biometric.exception.EmployeeNotFoundException;
 import com.company.hrsystem.biometric.exception.InvalidPunchException;
-import com.company.hrsystem.biometric.repository.BiometricEmployeeLookupRepository;
 import com.company.hrsystem.biometric.repository.BiometricEventLogRepository;
 import com.company.hrsystem.common.context.CompanyContext;
-import com.company.hrsystem.common.entity.CommonAuditEntry;
-import com.company.hrsystem.common.repository.CommonAuditEntryRepository;
+import com.company.hrsystem.common.service.CommonAuditSink;
+import com.company.hrsystem.employee.dto.EmployeeSnapshot;
+import com.company.hrsystem.employee.service.EmployeeDirectory;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -31,17 +42,20 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 public class BiometricService {
 
     private static final Logger log = LoggerFactory.getLogger(BiometricService.class);
+    private static final int MAX_PUNCH_BATCH_SIZE = 5_000;
 
     private final BiometricEventLogRepository biometricEventLogRepository;
-    private final BiometricEmployeeLookupRepository biometricEmployeeLookupRepository;
+    private final EmployeeDirectory employeeDirectory;
     private final AttendanceService attendanceService;
-    private final CommonAuditEntryRepository commonAuditEntryRepository;
+    private final CommonAuditSink commonAuditSink;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BiometricEventPipeline biometricEventPipeline;
 
     @Transactional
     public void receiveEvent(BiometricEventRequest request) {
         var companyId = CompanyContext.getCompanyId()
                 .orElseThrow(() -> new IllegalStateException("Company context is missing"));
+        biometricEventPipeline.ensureCapacity();
 
         if (biometricEventLogRepository.existsByDeviceLogIdAndCompanyId(request.deviceLogId(), companyId)) {
             throw new IllegalStateException("Duplicate biometric event for deviceLogId");
@@ -57,7 +71,7 @@ public class BiometricService {
         eventLog.setProcessed(Boolean.FALSE);
 
         var savedEventLog = biometricEventLogRepository.save(eventLog);
-        publishAfterCommit(new BiometricEventReceived(savedEventLog.getId(), companyId));
+        publishAfterCommit(new BiometricEventReceived(savedEventLog.getId(), companyId, Instant.now()));
     }
 
     @Transactional
@@ -72,21 +86,18 @@ public class BiometricService {
         log.info("biometric_punch_received tenant_id={} employee_id={} device_id={} timestamp={}",
                 companyId, request.employeeId(), request.deviceId(), request.timestamp());
 
-        com.company.hrsystem.employee.entity.Employee employee;
+        EmployeeSnapshot employee;
         try {
             employee = findEmployee(companyId, request.employeeId());
         } catch (EmployeeNotFoundException ex) {
-            saveAudit(
+            commonAuditSink.record(
                     companyId,
                     "BIOMETRIC_PUNCH_EMPLOYEE_NOT_FOUND",
-                    Map.of(
-                            "employeeId", request.employeeId(),
-                            "deviceId", request.deviceId(),
-                            "timestamp", request.timestamp().toString()));
+                    punchAuditPayload(request, null));
             throw ex;
         }
 
-        if (!Boolean.TRUE.equals(employee.getActive())) {
+        if (!Boolean.TRUE.equals(employee.active())) {
             throw new InvalidPunchException("Inactive employee cannot punch attendance");
         }
 
@@ -94,13 +105,10 @@ public class BiometricService {
         if (biometricEventLogRepository.existsByDeviceLogIdAndCompanyId(generatedDeviceLogId, companyId)) {
             log.warn("biometric_punch_duplicate_device_log tenant_id={} employee_id={} device_id={} device_log_id={}",
                     companyId, request.employeeId(), request.deviceId(), generatedDeviceLogId);
-            saveAudit(
+            commonAuditSink.recordAfterCommit(List.of(new CommonAuditSink.Entry(
                     companyId,
                     "BIOMETRIC_PUNCH_DUPLICATE",
-                    Map.of(
-                            "employeeId", request.employeeId(),
-                            "deviceId", request.deviceId(),
-                            "timestamp", request.timestamp().toString()));
+                    punchAuditPayload(request, null))));
             return new BiometricPunchResponse(
                     request.employeeId(),
                     request.timestamp(),
@@ -116,15 +124,8 @@ public class BiometricService {
                 request.timestamp().toInstant(ZoneOffset.UTC),
                 generatedDeviceLogId);
 
-        var eventLog = new BiometricEventLog();
-        eventLog.setCompanyId(companyId);
-        eventLog.setDeviceId(request.deviceId());
-        eventLog.setDeviceLogId(generatedDeviceLogId);
-        eventLog.setEmployeeCode(employee.getEmployeeCode());
-        eventLog.setEventType(mapPunchTypeToBiometricEventType(attendanceOutcome.punchType()));
-        eventLog.setEventTime(request.timestamp());
-        eventLog.setProcessed(Boolean.TRUE);
-        biometricEventLogRepository.save(eventLog);
+        biometricEventLogRepository.save(
+                newPunchEventLog(companyId, request, employee, generatedDeviceLogId, attendanceOutcome));
 
         if ("DUPLICATE".equals(attendanceOutcome.punchType())) {
             log.warn("biometric_punch_duplicate tenant_id={} employee_id={} device_id={} timestamp={}",
@@ -134,15 +135,10 @@ public class BiometricService {
         log.info("biometric_punch_processed tenant_id={} employee_id={} punch_type={} status={}",
                 companyId, request.employeeId(), attendanceOutcome.punchType(), attendanceOutcome.status());
 
-        saveAudit(
+        commonAuditSink.recordAfterCommit(List.of(new CommonAuditSink.Entry(
                 companyId,
                 "BIOMETRIC_PUNCH_" + attendanceOutcome.punchType(),
-                Map.of(
-                        "employeeId", request.employeeId(),
-                        "deviceId", request.deviceId(),
-                        "timestamp", request.timestamp().toString(),
-                        "status", attendanceOutcome.status(),
-                        "message", attendanceOutcome.message()));
+                punchAuditPayload(request, attendanceOutcome))));
 
         return new BiometricPunchResponse(
                 request.employeeId(),
@@ -153,25 +149,189 @@ public class BiometricService {
                 attendanceOutcome.message());
     }
 
-    private com.company.hrsystem.employee.entity.Employee findEmployee(UUID companyId, String employeeId) {
-        var byCode = biometricEmployeeLookupRepository.findByCompanyIdAndEmployeeCode(companyId, employeeId);
+    @Transactional
+    public List<BiometricPunchResponse> processPunchBatch(List<BiometricPunchRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidPunchException("At least one punch is required");
+        }
+        if (requests.size() > MAX_PUNCH_BATCH_SIZE) {
+            throw new InvalidPunchException("Punch batch exceeds maximum size: " + MAX_PUNCH_BATCH_SIZE);
+        }
+
+        var companyId = CompanyContext.getCompanyId()
+                .orElseThrow(() -> new IllegalStateException("Company context is missing"));
+        var startedAt = System.nanoTime();
+
+        var responses = new BiometricPunchResponse[requests.size()];
+        var deviceLogIds = new String[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var validationError = validatePunch(request);
+            if (validationError != null) {
+                responses[i] = rejectedPunch(request, validationError);
+                continue;
+            }
+            deviceLogIds[i] = generatePunchDeviceLogId(request);
+        }
+
+        var validRequests = new ArrayList<BiometricPunchRequest>(requests.size());
+        var candidateDeviceLogIds = new HashSet<String>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            if (deviceLogIds[i] != null) {
+                validRequests.add(requests.get(i));
+                candidateDeviceLogIds.add(deviceLogIds[i]);
+            }
+        }
+        var employeesByIdentifier = resolveEmployees(companyId, validRequests);
+        var existingDeviceLogIds = candidateDeviceLogIds.isEmpty()
+                ? Set.<String>of()
+                : biometricEventLogRepository.findExistingDeviceLogIds(companyId, candidateDeviceLogIds);
+
+        var seenDeviceLogIds = new HashSet<String>(candidateDeviceLogIds.size());
+        var acceptedIndexes = new ArrayList<Integer>(requests.size());
+        var commands = new ArrayList<AttendanceService.BiometricPunchCommand>(requests.size());
+        var auditEntries = new ArrayList<CommonAuditSink.Entry>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            var deviceLogId = deviceLogIds[i];
+            if (deviceLogId == null) {
+                continue;
+            }
+
+            var request = requests.get(i);
+            var employee = employeesByIdentifier.get(request.employeeId());
+            if (employee == null) {
+                log.error("biometric_punch_employee_not_found tenant_id={} employee_id={}", companyId, request.employeeId());
+                auditEntries.add(new CommonAuditSink.Entry(
+                        companyId,
+                        "BIOMETRIC_PUNCH_EMPLOYEE_NOT_FOUND",
+                        punchAuditPayload(request, null)));
+                responses[i] = rejectedPunch(request, "Employee not found for biometric punch");
+                continue;
+            }
+            if (!Boolean.TRUE.equals(employee.active())) {
+                responses[i] = rejectedPunch(request, "Inactive employee cannot punch attendance");
+                continue;
+            }
+            if (existingDeviceLogIds.contains(deviceLogId) || !seenDeviceLogIds.add(deviceLogId)) {
+                log.warn("biometric_punch_duplicate_device_log tenant_id={} employee_id={} device_id={} device_log_id={}",
+                        companyId, request.employeeId(), request.deviceId(), deviceLogId);
+                auditEntries.add(new CommonAuditSink.Entry(
+                        companyId,
+                        "BIOMETRIC_PUNCH_DUPLICATE",
+                        punchAuditPayload(request, null)));
+                responses[i] = new BiometricPunchResponse(
+                        request.employeeId(),
+                        request.timestamp(),
+                        request.deviceId(),
+                        "DUPLICATE",
+                        "IGNORED",
+                        "Duplicate punch ignored");
+                continue;
+            }
+
+            acceptedIndexes.add(i);
+            commands.add(new AttendanceService.BiometricPunchCommand(
+                    employee,
+                    request.timestamp().toInstant(ZoneOffset.UTC),
+                    deviceLogId));
+        }
+
+        var outcomes = attendanceService.recordBiometricPunches(companyId, commands);
+        var eventLogs = new ArrayList<BiometricEventLog>(outcomes.size());
+        for (int j = 0; j < outcomes.size(); j++) {
+            var index = acceptedIndexes.get(j);
+            var request = requests.get(index);
+            var command = commands.get(j);
+            var outcome = outcomes.get(j);
+
+            eventLogs.add(newPunchEventLog(companyId, request, command.employee(), command.deviceLogId(), outcome));
+            auditEntries.add(new CommonAuditSink.Entry(
+                    companyId,
+                    "BIOMETRIC_PUNCH_" + outcome.punchType(),
+                    punchAuditPayload(request, outcome)));
+            responses[index] = new BiometricPunchResponse(
+                    request.employeeId(),
+                    request.timestamp(),
+                    request.deviceId(),
+                    outcome.punchType(),
+                    outcome.status(),
+                    outcome.message());
+        }
+
+        biometricEventLogRepository.insertAll(eventLogs);
+        commonAuditSink.recordAfterCommit(auditEntries);
+
+        var durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        log.info("biometric_punch_batch_processed tenant_id={} total={} accepted={} duration_ms={}",
+                companyId, requests.size(), commands.size(), durationMs);
+        return Arrays.asList(responses);
+    }
+
+    private String validatePunch(BiometricPunchRequest request) {
+        if (request == null) {
+            return "Punch payload is required";
+        }
+        if (request.employeeId() == null || request.employeeId().isBlank()) {
+            return "employeeId is required";
+        }
+        if (request.deviceId() == null || request.deviceId().isBlank()) {
+            return "deviceId is required";
+        }
+        if (request.timestamp() == null) {
+            return "timestamp is required";
+        }
+        return null;
+    }
+
+    private BiometricPunchResponse rejectedPunch(BiometricPunchRequest request, String message) {
+        if (request == null) {
+            return new BiometricPunchResponse(null, null, null, null, "REJECTED", message);
+        }
+        return new BiometricPunchResponse(
+                request.employeeId(),
+                request.timestamp(),
+                request.deviceId(),
+                null,
+                "REJECTED",
+                message);
+    }
+
+    private Map<String, EmployeeSnapshot> resolveEmployees(UUID companyId, List<BiometricPunchRequest> requests) {
+        var resolved = new HashMap<String, EmployeeSnapshot>();
+        for (var request : requests) {
+            var identifier = request.employeeId();
+            if (!resolved.containsKey(identifier)) {
+                lookupEmployee(companyId, identifier).ifPresent(employee -> resolved.put(identifier, employee));
+            }
+        }
+        return resolved;
+    }
+
+    private Optional<EmployeeSnapshot> lookupEmployee(UUID companyId, String employeeId) {
+        var byCode = employeeDirectory.findByCode(companyId, employeeId);
         if (byCode.isPresent()) {
-            return byCode.get();
+            return byCode;
         }
+        return parseUuid(employeeId).flatMap(id -> employeeDirectory.findById(companyId, id));
+    }
 
+    private Optional<UUID> parseUuid(String value) {
         try {
-            var id = UUID.fromString(employeeId);
-            return biometricEmployeeLookupRepository.findByIdAndCompanyId(id, companyId)
-                    .orElseThrow(() -> {
-                        log.error("biometric_punch_employee_not_found tenant_id={} employee_id={}", companyId, employeeId);
-                        return new EmployeeNotFoundException("Employee not found for biometric punch");
-                    });
+            return Optional.of(UUID.fromString(value));
         } catch (IllegalArgumentException invalidUuid) {
-            log.error("biometric_punch_employee_not_found tenant_id={} employee_id={}", companyId, employeeId);
-            throw new EmployeeNotFoundException("Employee not found for biometric punch");
+            return Optional.empty();
         }
     }
 
+    private EmployeeSnapshot findEmployee(UUID companyId, String employeeId) {
+        return lookupEmployee(companyId, employeeId)
+                .orElseThrow(() -> {
+                    log.error("biometric_punch_employee_not_found tenant_id={} employee_id={}", companyId, employeeId);
+                    return new EmployeeNotFoundException("Employee not found for biometric punch");
+                });
+    }
+
     private String generatePunchDeviceLogId(BiometricPunchRequest request) {
         return (request.deviceId()
                 + "-"
@@ -195,19 +355,56 @@ public class BiometricService {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    applicationEventPublisher.publishEvent(event);
+                    publish(event);
                 }
             });
             return;
         }
-        applicationEventPublisher.publishEvent(event);
+        publish(event);
+    }
+
+    private void publish(BiometricEventReceived event) {
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (TaskRejectedException ex) {
+            biometricEventPipeline.recordRejected();
+            log.warn("biometric_event_dispatch_rejected tenant_id={} biometric_event_log_id={}",
+                    event.companyId(), event.biometricEventLogId());
+        }
+    }
+
+    private BiometricEventLog newPunchEventLog(
+            UUID companyId,
+            BiometricPunchRequest request,
+            EmployeeSnapshot employee,
+            String deviceLogId,
+            AttendanceService.BiometricPunchResult outcome) {
+        var eventLog = new BiometricEventLog();
+        eventLog.setCompanyId(companyId);
+        eventLog.setDeviceId(request.deviceId());
+        eventLog.setDeviceLogId(deviceLogId);
+        eventLog.setEmployeeCode(employee.employeeCode());
+        eventLog.setEventType(mapPunchTypeToBiometricEventType(outcome.punchType()));
+        eventLog.setEventTime(request.timestamp());
+        eventLog.setProcessed(Boolean.TRUE);
+        return eventLog;
+    }
+
+    private PunchAuditPayload punchAuditPayload(
+            BiometricPunchRequest request,
+            AttendanceService.BiometricPunchResult outcome) {
+        return new PunchAuditPayload(
+                request.employeeId(),
+                request.deviceId(),
+                request.timestamp().toString(),
+                outcome == null ? null : outcome.status());
     }
 
-    private void saveAudit(UUID companyId, String eventType, Map<String, String> payload) {
-        var auditEntry = new CommonAuditEntry();
-        auditEntry.setCompanyId(companyId);
-        auditEntry.setEventType(eventType);
-        auditEntry.setPayload(payload.toString());
-        commonAuditEntryRepository.save(auditEntry);
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record PunchAuditPayload(
+            @JsonProperty("emp") String employeeId,
+            @JsonProperty("dev") String deviceId,
+            @JsonProperty("ts") String timestamp,
+            @JsonProperty("st") String status) {
     }
 }
@@ -3,7 +3,11 @@ package com.company.hrsystem.common.audit;
 import com.company.hrsystem.common.context.CompanyContext;
 import com.company.hrsystem.common.service.AuditLogService;
 import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -23,6 +27,7 @@ public class AuditAspect {
     private static final Logger log = LoggerFactory.getLogger(AuditAspect.class);
 
     private final AuditLogService auditLogService;
+    private final ConcurrentMap<AccessorKey, Optional<Method>> accessors = new ConcurrentHashMap<>();
 
     @Around("@annotation(auditable)")
     public Object aroundAuditable(ProceedingJoinPoint joinPoint, Auditable auditable) throws Throwable {
@@ -91,25 +96,10 @@ public class AuditAspect {
         if (result == null) {
             return null;
         }
-        try {
-            var getId = result.getClass().getMethod("getId");
-            var value = getId.invoke(result);
-            if (value instanceof UUID id) {
-                return id;
-            }
-        } catch (Exception ignored) {
-            // Ignore and continue with other extraction paths.
+        if (invoke(result, "getId") instanceof UUID id) {
+            return id;
         }
-        try {
-            var idAccessor = result.getClass().getMethod("id");
-            var value = idAccessor.invoke(result);
-            if (value instanceof UUID id) {
-                return id;
-            }
-        } catch (Exception ignored) {
-            // Ignore if no record accessor.
-        }
-        return null;
+        return invoke(result, "id") instanceof UUID id ? id : null;
     }
 
     private String resolveClientIpAddress() {
@@ -135,22 +125,37 @@ public class AuditAspect {
     }
 
     private UUID extractUuid(Object principal, String methodName) {
+        return invoke(principal, methodName) instanceof UUID uuid ? uuid : null;
+    }
+
+    private String extractString(Object principal, String methodName) {
+        var value = invoke(principal, methodName);
+        return value == null ? null : value.toString();
+    }
+
+    private Object invoke(Object target, String methodName) {
+        var accessor = accessors.computeIfAbsent(
+                new AccessorKey(target.getClass(), methodName), AuditAspect::findAccessor);
+        if (accessor.isEmpty()) {
+            return null;
+        }
         try {
-            var method = principal.getClass().getMethod(methodName);
-            var value = method.invoke(principal);
-            return value instanceof UUID uuid ? uuid : null;
+            return accessor.get().invoke(target);
         } catch (Exception ignored) {
             return null;
         }
     }
 
-    private String extractString(Object principal, String methodName) {
+    private static Optional<Method> findAccessor(AccessorKey key) {
         try {
-            var method = principal.getClass().getMethod(methodName);
-            var value = method.invoke(principal);
-            return value == null ? null : value.toString();
-        } catch (Exception ignored) {
-            return null;
+            var method = key.type().getMethod(key.methodName());
+            method.trySetAccessible();
+            return Optional.of(method);
+        } catch (NoSuchMethodException ignored) {
+            return Optional.empty();
         }
     }
+
+    private record AccessorKey(Class<?> type, String methodName) {
+    }
 }
@@ -0,0 +1,8 @@
+package com.company.hrsystem.common.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.company.hrsystem.common.repository;
+
+import com.company.hrsystem.common.entity.AuditLog;
+import java.util.List;
+
+public interface AuditLogBatchRepository {
+
+    void insertAll(List<AuditLog> auditLogs);
+}
@@ -0,0 +1,54 @@
+package com.company.hrsystem.common.repository;
+
+import com.company.hrsystem.common.entity.AuditLog;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class AuditLogBatchRepositoryImpl implements AuditLogBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into audit_log
+                (id, company_id, tenant_id, user_id, username, action, module, entity_id,
+                 audit_timestamp, ip_address, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<AuditLog> auditLogs) {
+        if (auditLogs.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(auditLogs.size());
+        for (var auditLog : auditLogs) {
+            if (auditLog.getId() == null) {
+                auditLog.setId(UUID.randomUUID());
+            }
+            auditLog.setCreatedAt(now);
+            auditLog.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    auditLog.getId(),
+                    auditLog.getCompanyId(),
+                    auditLog.getTenantId(),
+                    auditLog.getUserId(),
+                    auditLog.getUsername(),
+                    auditLog.getAction(),
+                    auditLog.getModule(),
+                    auditLog.getEntityId(),
+                    auditLog.getTimestamp().atOffset(ZoneOffset.UTC),
+                    auditLog.getIpAddress(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -4,5 +4,5 @@ import com.company.hrsystem.common.entity.AuditLog;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID>, AuditLogBatchRepository {
 }
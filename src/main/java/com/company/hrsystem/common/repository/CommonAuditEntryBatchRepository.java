@@ -0,0 +1,9 @@
+package com.company.hrsystem.common.repository;
+
+import com.company.hrsystem.common.entity.CommonAuditEntry;
+import java.util.List;
+
+public interface CommonAuditEntryBatchRepository {
+
+    void insertAll(List<CommonAuditEntry> auditEntries);
+}
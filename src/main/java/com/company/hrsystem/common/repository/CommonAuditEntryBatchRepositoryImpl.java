@@ -0,0 +1,46 @@
+package com.company.hrsystem.common.repository;
+
+import com.company.hrsystem.common.entity.CommonAuditEntry;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CommonAuditEntryBatchRepositoryImpl implements CommonAuditEntryBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into common_audit_entry (id, company_id, event_type, payload, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<CommonAuditEntry> auditEntries) {
+        if (auditEntries.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(auditEntries.size());
+        for (var auditEntry : auditEntries) {
+            if (auditEntry.getId() == null) {
+                auditEntry.setId(UUID.randomUUID());
+            }
+            auditEntry.setCreatedAt(now);
+            auditEntry.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    auditEntry.getId(),
+                    auditEntry.getCompanyId(),
+                    auditEntry.getEventType(),
+                    auditEntry.getPayload(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -4,5 +4,5 @@ import com.company.hrsystem.common.entity.CommonAuditEntry;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CommonAuditEntryRepository extends JpaRepository<CommonAuditEntry, UUID> {
+public interface CommonAuditEntryRepository extends JpaRepository<CommonAuditEntry, UUID>, CommonAuditEntryBatchRepository {
 }
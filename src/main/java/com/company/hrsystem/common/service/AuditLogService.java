@@ -2,26 +2,50 @@ package com.company.hrsystem.common.service;
 
 import com.company.hrsystem.common.entity.AuditLog;
 import com.company.hrsystem.common.repository.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
-public class AuditLogService {
+public class AuditLogService implements SmartLifecycle {
 
     private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
 
     private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BufferedBatchWriter<AuditRecord> writer;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    public AuditLogService(
+            AuditLogRepository auditLogRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${audit.buffer.capacity:10000}") int capacity,
+            @Value("${audit.flush.batch-size:500}") int batchSize,
+            @Value("${audit.flush.interval-ms:200}") long flushIntervalMs,
+            @Value("${audit.flush.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.auditLogRepository = auditLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.droppedCounter = meterRegistry.counter("audit.records.dropped");
+        this.writtenCounter = meterRegistry.counter("audit.records.written");
+        this.writer = new BufferedBatchWriter<>(
+                "audit-log-writer", capacity, batchSize, flushIntervalMs, shutdownTimeoutMs, this::flush,
+                droppedCounter::increment);
+        Gauge.builder("audit.buffer.depth", writer, BufferedBatchWriter::depth).register(meterRegistry);
+    }
 
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void record(
             UUID tenantId,
             UUID userId,
@@ -30,23 +54,62 @@ public class AuditLogService {
             String module,
             UUID entityId,
             String ipAddress) {
-        try {
-            var auditLog = new AuditLog();
-            auditLog.setCompanyId(tenantId);
-            auditLog.setTenantId(tenantId);
-            auditLog.setUserId(userId);
-            auditLog.setUsername(username);
-            auditLog.setAction(action);
-            auditLog.setModule(module);
-            auditLog.setEntityId(entityId);
-            auditLog.setTimestamp(Instant.now());
-            auditLog.setIpAddress(ipAddress);
-            auditLogRepository.save(auditLog);
-            log.info("business_audit_saved tenant_id={} user_id={} module={} action={} entity_id={}",
+        var auditRecord = new AuditRecord(tenantId, userId, username, action, module, entityId, ipAddress, Instant.now());
+        if (!writer.offer(auditRecord)) {
+            droppedCounter.increment();
+            log.error("business_audit_dropped tenant_id={} user_id={} module={} action={} entity_id={}",
                     tenantId, userId, module, action, entityId);
-        } catch (Exception ex) {
-            log.error("business_audit_save_failed tenant_id={} user_id={} module={} action={} entity_id={}",
-                    tenantId, userId, module, action, entityId, ex);
         }
     }
+
+    @Override
+    public void start() {
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        writer.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer.isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 3072;
+    }
+
+    private void flush(List<AuditRecord> batch) {
+        var auditLogs = new ArrayList<AuditLog>(batch.size());
+        for (var auditRecord : batch) {
+            var auditLog = new AuditLog();
+            auditLog.setCompanyId(auditRecord.tenantId());
+            auditLog.setTenantId(auditRecord.tenantId());
+            auditLog.setUserId(auditRecord.userId());
+            auditLog.setUsername(auditRecord.username());
+            auditLog.setAction(auditRecord.action());
+            auditLog.setModule(auditRecord.module());
+            auditLog.setEntityId(auditRecord.entityId());
+            auditLog.setTimestamp(auditRecord.timestamp());
+            auditLog.setIpAddress(auditRecord.ipAddress());
+            auditLogs.add(auditLog);
+        }
+        transactionTemplate.executeWithoutResult(status -> auditLogRepository.insertAll(auditLogs));
+        writtenCounter.increment(auditLogs.size());
+        log.debug("business_audit_flushed records={}", auditLogs.size());
+    }
+
+    private record AuditRecord(
+            UUID tenantId,
+            UUID userId,
+            String username,
+            String action,
+            String module,
+            UUID entityId,
+            String ipAddress,
+            Instant timestamp) {
+    }
 }
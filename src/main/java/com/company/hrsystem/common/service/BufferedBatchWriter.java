@@ -0,0 +1,150 @@
+package com.company.hrsystem.common.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class BufferedBatchWriter<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(BufferedBatchWriter.class);
+
+    private final String name;
+    private final BlockingQueue<T> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMs;
+    private final Consumer<List<T>> flusher;
+    private final IntConsumer dropListener;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantReadWriteLock stateLock = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private boolean stopped;
+    private volatile Thread writer;
+
+    public BufferedBatchWriter(
+            String name,
+            int capacity,
+            int batchSize,
+            long flushIntervalMs,
+            long shutdownTimeoutMs,
+            Consumer<List<T>> flusher,
+            IntConsumer dropListener) {
+        this.name = name;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.flusher = flusher;
+        this.dropListener = dropListener;
+    }
+
+    public boolean offer(T item) {
+        stateLock.readLock().lock();
+        try {
+            return !stopped && buffer.offer(item);
+        } finally {
+            stateLock.readLock().unlock();
+        }
+    }
+
+    public int depth() {
+        return buffer.size();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void start() {
+        stateLock.writeLock().lock();
+        try {
+            stopped = false;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        running = true;
+        writer = Thread.ofPlatform().name(name).daemon().start(this::writeLoop);
+    }
+
+    public void stop() {
+        stateLock.writeLock().lock();
+        try {
+            stopped = true;
+        } finally {
+            stateLock.writeLock().unlock();
+        }
+        running = false;
+        var current = writer;
+        if (current != null) {
+            try {
+                current.join(shutdownTimeoutMs);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (current.isAlive()) {
+                log.warn("buffered_batch_writer_stop_timeout writer={} timeout_ms={} pending={}",
+                        name, shutdownTimeoutMs, buffer.size());
+            }
+        }
+        var remaining = new ArrayList<T>(buffer.size());
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+    }
+
+    private void writeLoop() {
+        var batch = new ArrayList<T>(batchSize);
+        while (running) {
+            try {
+                var first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                var deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    buffer.drainTo(batch, batchSize - batch.size());
+                    var remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    var next = buffer.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            flusher.accept(batch);
+        } catch (Exception ex) {
+            log.error("buffered_batch_flush_failed writer={} records={}", name, batch.size(), ex);
+            dropListener.accept(batch.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
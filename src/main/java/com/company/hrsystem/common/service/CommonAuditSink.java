@@ -0,0 +1,132 @@
+package com.company.hrsystem.common.service;
+
+import com.company.hrsystem.common.entity.CommonAuditEntry;
+import com.company.hrsystem.common.repository.CommonAuditEntryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class CommonAuditSink implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CommonAuditSink.class);
+    private static final int MAX_PAYLOAD_LENGTH = 4000;
+
+    private final CommonAuditEntryRepository commonAuditEntryRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BufferedBatchWriter<Entry> writer;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+
+    public CommonAuditSink(
+            CommonAuditEntryRepository commonAuditEntryRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${audit.common.buffer.capacity:50000}") int capacity,
+            @Value("${audit.common.flush.batch-size:1000}") int batchSize,
+            @Value("${audit.common.flush.interval-ms:250}") long flushIntervalMs,
+            @Value("${audit.common.flush.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.commonAuditEntryRepository = commonAuditEntryRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.droppedCounter = meterRegistry.counter("audit.common.records.dropped");
+        this.writtenCounter = meterRegistry.counter("audit.common.records.written");
+        this.writer = new BufferedBatchWriter<>(
+                "common-audit-writer", capacity, batchSize, flushIntervalMs, shutdownTimeoutMs, this::flush,
+                droppedCounter::increment);
+        Gauge.builder("audit.common.buffer.depth", writer, BufferedBatchWriter::depth).register(meterRegistry);
+    }
+
+    public void record(UUID companyId, String eventType, Object payload) {
+        record(new Entry(companyId, eventType, payload));
+    }
+
+    public void recordAfterCommit(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.forEach(this::record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(CommonAuditSink.this::record);
+            }
+        });
+    }
+
+    @Override
+    public void start() {
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        writer.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer.isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 3072;
+    }
+
+    private void record(Entry entry) {
+        if (!writer.offer(entry)) {
+            droppedCounter.increment();
+            log.error("common_audit_dropped tenant_id={} event_type={}", entry.companyId(), entry.eventType());
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        var auditEntries = new ArrayList<CommonAuditEntry>(batch.size());
+        for (var entry : batch) {
+            var auditEntry = new CommonAuditEntry();
+            auditEntry.setCompanyId(entry.companyId());
+            auditEntry.setEventType(entry.eventType());
+            auditEntry.setPayload(encode(entry.payload()));
+            auditEntries.add(auditEntry);
+        }
+        transactionTemplate.executeWithoutResult(status -> commonAuditEntryRepository.insertAll(auditEntries));
+        writtenCounter.increment(auditEntries.size());
+        log.debug("common_audit_flushed records={}", auditEntries.size());
+    }
+
+    private String encode(Object payload) {
+        if (payload == null) {
+            return null;
+        }
+        String encoded;
+        try {
+            encoded = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            encoded = payload.toString();
+        }
+        return encoded.length() <= MAX_PAYLOAD_LENGTH ? encoded : encoded.substring(0, MAX_PAYLOAD_LENGTH);
+    }
+
+    public record Entry(UUID companyId, String eventType, Object payload) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.company.hrsystem.company.repository;
 
 import com.company.hrsystem.company.entity.Company;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
+
+    Optional<Company> findFirstByCompanyId(UUID companyId);
 }
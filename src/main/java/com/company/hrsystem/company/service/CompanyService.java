@@ -22,6 +22,7 @@ public class CompanyService {
     private static final Logger log = LoggerFactory.getLogger(CompanyService.class);
 
     private final CompanyRepository companyRepository;
+    private final CompanyZoneResolver companyZoneResolver;
 
     @Transactional
     @Auditable(action = "TENANT_CREATE", module = "TENANT")
@@ -32,6 +33,7 @@ public class CompanyService {
         company.setCode(request.code());
         company.setTimezone(request.timezone());
         var saved = companyRepository.save(company);
+        companyZoneResolver.evictAfterCompletion(saved.getCompanyId());
         log.info("tenant_created company_id={} id={}", saved.getCompanyId(), saved.getId());
         return toDto(saved);
     }
@@ -48,6 +50,7 @@ public class CompanyService {
         company.setCode(request.code());
         company.setTimezone(request.timezone());
         var saved = companyRepository.save(company);
+        companyZoneResolver.evictAfterCompletion(saved.getCompanyId());
         log.info("tenant_updated company_id={} id={}", saved.getCompanyId(), saved.getId());
         return toDto(saved);
     }
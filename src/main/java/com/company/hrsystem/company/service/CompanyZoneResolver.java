@@ -0,0 +1,64 @@
+package com.company.hrsystem.company.service;
+
+import com.company.hrsystem.company.repository.CompanyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class CompanyZoneResolver {
+
+    private final CompanyRepository companyRepository;
+    private final Cache<UUID, ZoneId> zones;
+
+    public CompanyZoneResolver(
+            CompanyRepository companyRepository,
+            @Value("${company.zone-cache.max-entries:10000}") long maxEntries,
+            @Value("${company.zone-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.companyRepository = companyRepository;
+        this.zones = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public ZoneId zoneOf(UUID companyId) {
+        return zones.get(companyId, this::load);
+    }
+
+    public void evictAfterCompletion(UUID companyId) {
+        zones.invalidate(companyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    zones.invalidate(companyId);
+                }
+            });
+        }
+    }
+
+    public static ZoneId resolve(String timezone) {
+        if (timezone == null || timezone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timezone);
+        } catch (Exception ex) {
+            return ZoneOffset.UTC;
+        }
+    }
+
+    private ZoneId load(UUID companyId) {
+        return companyRepository.findFirstByCompanyId(companyId)
+                .map(company -> resolve(company.getTimezone()))
+                .orElse(ZoneOffset.UTC);
+    }
+}
@@ -4,6 +4,7 @@ import com.company.hrsystem.auth.security.JwtAuthenticationFilter;
 import com.company.hrsystem.common.context.CompanyFilter;
 import com.company.hrsystem.common.exception.ApiErrorResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import java.time.Instant;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +42,7 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v2/auth/login", "/api/v2/auth/refresh", "/api/v2/auth/logout").permitAll()
                         .requestMatchers("/h2-console/**", "/api/h2-console/**").permitAll()
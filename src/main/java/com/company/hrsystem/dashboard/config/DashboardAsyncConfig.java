@@ -0,0 +1,49 @@
+package com.company.hrsystem.dashboard.config;
+
+import com.company.hrsystem.common.context.CompanyContext;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@Configuration
+public class DashboardAsyncConfig {
+
+    public static final String DASHBOARD_SECTION_EXECUTOR = "dashboardSectionExecutor";
+
+    @Bean(name = DASHBOARD_SECTION_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor dashboardSectionExecutor(
+            @Value("${dashboard.sections.workers:8}") int workers,
+            @Value("${dashboard.sections.queue-capacity:200}") int queueCapacity) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("dashboard-section-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(requestContextPropagation());
+        return executor;
+    }
+
+    private TaskDecorator requestContextPropagation() {
+        return task -> {
+            var companyId = CompanyContext.getCompanyId().orElse(null);
+            var securityContext = SecurityContextHolder.getContext();
+            return () -> {
+                var previousCompanyId = CompanyContext.getCompanyId().orElse(null);
+                var previousSecurityContext = SecurityContextHolder.getContext();
+                CompanyContext.setCompanyId(companyId);
+                SecurityContextHolder.setContext(securityContext);
+                try {
+                    task.run();
+                } finally {
+                    SecurityContextHolder.setContext(previousSecurityContext);
+                    CompanyContext.setCompanyId(previousCompanyId);
+                }
+            };
+        };
+    }
+}
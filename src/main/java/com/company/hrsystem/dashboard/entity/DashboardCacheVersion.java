@@ -0,0 +1,35 @@
+package com.company.hrsystem.dashboard.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import com.company.hrsystem.dashboard.service.DashboardCache.Section;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "dashboard_cache_version",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_dashboard_cache_version_scope_section",
+                        columnNames = {"company_id", "scope_id", "section"})
+        })
+public class DashboardCacheVersion extends BaseEntity {
+
+    @Column(name = "scope_id", nullable = false)
+    private UUID scopeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "section", nullable = false, length = 32)
+    private Section section;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
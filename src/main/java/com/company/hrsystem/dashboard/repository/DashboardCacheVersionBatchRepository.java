@@ -0,0 +1,10 @@
+package com.company.hrsystem.dashboard.repository;
+
+import com.company.hrsystem.dashboard.service.DashboardCache.Section;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface DashboardCacheVersionBatchRepository {
+
+    void bumpAll(UUID companyId, Collection<UUID> scopeIds, Collection<Section> sections);
+}
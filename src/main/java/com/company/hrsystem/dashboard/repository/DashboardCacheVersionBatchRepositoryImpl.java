@@ -0,0 +1,79 @@
+package com.company.hrsystem.dashboard.repository;
+
+import com.company.hrsystem.dashboard.service.DashboardCache.Section;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.TreeSet;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class DashboardCacheVersionBatchRepositoryImpl implements DashboardCacheVersionBatchRepository {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String POSTGRES_UPSERT_SQL = """
+            insert into dashboard_cache_version
+                (id, company_id, scope_id, section, version, created_at, updated_at)
+            values (?, ?, ?, ?, 1, ?, ?)
+            on conflict (company_id, scope_id, section) do update set
+                version = dashboard_cache_version.version + 1,
+                updated_at = excluded.updated_at
+            """;
+    private static final String MERGE_SQL = """
+            merge into dashboard_cache_version dcv
+            using (values (?, ?, ?, ?, ?, ?))
+                as src (id, company_id, scope_id, section, created_at, updated_at)
+            on dcv.company_id = src.company_id
+                and dcv.scope_id = src.scope_id
+                and dcv.section = src.section
+            when matched then update set
+                version = dcv.version + 1,
+                updated_at = src.updated_at
+            when not matched then insert
+                (id, company_id, scope_id, section, version, created_at, updated_at)
+            values (src.id, src.company_id, src.scope_id, src.section, 1, src.created_at, src.updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    @Override
+    public void bumpAll(UUID companyId, Collection<UUID> scopeIds, Collection<Section> sections) {
+        if (scopeIds.isEmpty() || sections.isEmpty()) {
+            return;
+        }
+
+        var rows = new ArrayList<ScopeSection>(scopeIds.size() * sections.size());
+        for (var scopeId : new TreeSet<>(scopeIds)) {
+            for (var section : new TreeSet<>(sections)) {
+                rows.add(new ScopeSection(scopeId, section));
+            }
+        }
+
+        var now = Instant.now().atOffset(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(resolveUpsertSql(), rows, BATCH_SIZE, (statement, row) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setObject(2, companyId);
+            statement.setObject(3, row.scopeId());
+            statement.setString(4, row.section().name());
+            statement.setObject(5, now);
+            statement.setObject(6, now);
+        });
+    }
+
+    private String resolveUpsertSql() {
+        if (upsertSql == null) {
+            var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            upsertSql = "PostgreSQL".equalsIgnoreCase(productName) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+        }
+        return upsertSql;
+    }
+
+    private record ScopeSection(UUID scopeId, Section section) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.hrsystem.dashboard.repository;
+
+import com.company.hrsystem.dashboard.entity.DashboardCacheVersion;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DashboardCacheVersionRepository
+        extends JpaRepository<DashboardCacheVersion, UUID>, DashboardCacheVersionBatchRepository {
+
+    List<DashboardCacheVersion> findByCompanyIdAndScopeIdIn(UUID companyId, Collection<UUID> scopeIds);
+}
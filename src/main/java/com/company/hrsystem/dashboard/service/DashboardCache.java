@@ -0,0 +1,122 @@
+package com.company.hrsystem.dashboard.service;
+
+import com.company.hrsystem.dashboard.repository.DashboardCacheVersionRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class DashboardCache {
+
+    private final DashboardCacheVersionRepository dashboardCacheVersionRepository;
+    private final Cache<SectionKey, CachedSection> sections;
+
+    public DashboardCache(
+            DashboardCacheVersionRepository dashboardCacheVersionRepository,
+            @Value("${dashboard.cache.max-size:100000}") long maxSize,
+            @Value("${dashboard.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.dashboardCacheVersionRepository = dashboardCacheVersionRepository;
+        this.sections = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Map<Section, Long> versions(UUID companyId, UUID employeeId) {
+        var versions = new EnumMap<Section, Long>(Section.class);
+        for (var section : Section.values()) {
+            versions.put(section, 0L);
+        }
+        for (var row : dashboardCacheVersionRepository.findByCompanyIdAndScopeIdIn(
+                companyId, List.of(employeeId, companyId))) {
+            versions.merge(row.getSection(), row.getVersion(), Long::sum);
+        }
+        return versions;
+    }
+
+    public CachedSection get(UUID companyId, UUID employeeId, Section section, LocalDate asOf, long version) {
+        var cached = sections.getIfPresent(SectionKey.of(companyId, employeeId, section));
+        return cached != null && asOf.equals(cached.asOf()) && cached.version() == version ? cached : null;
+    }
+
+    public void put(UUID companyId, UUID employeeId, CachedSection cached) {
+        sections.asMap().merge(
+                SectionKey.of(companyId, employeeId, cached.section()),
+                cached,
+                (current, computed) -> computed.version() >= current.version() ? computed : current);
+    }
+
+    public void evictEmployeeAfterCompletion(UUID companyId, UUID employeeId, Section... evicted) {
+        evictEmployeesAfterCompletion(companyId, List.of(employeeId), evicted);
+    }
+
+    public void evictEmployeesAfterCompletion(UUID companyId, Collection<UUID> employeeIds, Section... evicted) {
+        var employeeSections = EnumSet.noneOf(Section.class);
+        var tenantSections = EnumSet.noneOf(Section.class);
+        var keys = new ArrayList<SectionKey>(employeeIds.size() * evicted.length);
+        for (var section : evicted) {
+            (section.tenantWide ? tenantSections : employeeSections).add(section);
+            for (var employeeId : employeeIds) {
+                keys.add(SectionKey.of(companyId, employeeId, section));
+            }
+        }
+        dashboardCacheVersionRepository.bumpAll(companyId, employeeIds, employeeSections);
+        dashboardCacheVersionRepository.bumpAll(companyId, List.of(companyId), tenantSections);
+        runNowAndAfterCompletion(() -> sections.invalidateAll(keys));
+    }
+
+    public void evictTenantAfterCompletion(UUID companyId, Section... evicted) {
+        var evictedSections = EnumSet.of(evicted[0], evicted);
+        dashboardCacheVersionRepository.bumpAll(companyId, List.of(companyId), evictedSections);
+        runNowAndAfterCompletion(() -> sections.asMap().keySet().removeIf(key ->
+                key.companyId().equals(companyId) && evictedSections.contains(key.section())));
+    }
+
+    private void runNowAndAfterCompletion(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    public enum Section {
+        PROFILE(false),
+        LEAVE_BALANCES(false),
+        LEAVES(false),
+        HOLIDAYS(true),
+        ATTENDANCE(false);
+
+        private final boolean tenantWide;
+
+        Section(boolean tenantWide) {
+            this.tenantWide = tenantWide;
+        }
+    }
+
+    public record CachedSection(Section section, LocalDate asOf, long version, Object value) {
+    }
+
+    private record SectionKey(UUID companyId, UUID employeeId, Section section) {
+
+        static SectionKey of(UUID companyId, UUID employeeId, Section section) {
+            return new SectionKey(companyId, section.tenantWide ? null : employeeId, section);
+        }
+    }
+}
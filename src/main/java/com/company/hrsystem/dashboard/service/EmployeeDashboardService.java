@@ -0,0 +1,147 @@
+package com.company.hrsystem.dashboard.service;
+
+import com.company.hrsystem.attendance.dto.MyAttendanceRangeResponse;
+import com.company.hrsystem.attendance.service.AttendanceSelfService;
+import com.company.hrsystem.auth.security.CustomUserDetails;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.company.service.CompanyZoneResolver;
+import com.company.hrsystem.dashboard.config.DashboardAsyncConfig;
+import com.company.hrsystem.dashboard.dto.v2.EmployeeDashboardResponse;
+import com.company.hrsystem.dashboard.service.DashboardCache.CachedSection;
+import com.company.hrsystem.dashboard.service.DashboardCache.Section;
+import com.company.hrsystem.employee.dto.EmployeeDto;
+import com.company.hrsystem.employee.service.EmployeeSelfService;
+import com.company.hrsystem.holiday.dto.HolidayDto;
+import com.company.hrsystem.holiday.service.HolidayService;
+import com.company.hrsystem.leave.dto.LeaveRequestDto;
+import com.company.hrsystem.leave.dto.MyLeaveBalanceDto;
+import com.company.hrsystem.leave.service.LeaveBalanceSelfService;
+import com.company.hrsystem.leave.service.LeaveRequestService;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EmployeeDashboardService {
+
+    private final EmployeeSelfService employeeSelfService;
+    private final LeaveBalanceSelfService leaveBalanceSelfService;
+    private final LeaveRequestService leaveRequestService;
+    private final HolidayService holidayService;
+    private final AttendanceSelfService attendanceSelfService;
+    private final DashboardCache dashboardCache;
+    private final CompanyZoneResolver companyZoneResolver;
+    private final Executor sectionExecutor;
+
+    public EmployeeDashboardService(
+            EmployeeSelfService employeeSelfService,
+            LeaveBalanceSelfService leaveBalanceSelfService,
+            LeaveRequestService leaveRequestService,
+            HolidayService holidayService,
+            AttendanceSelfService attendanceSelfService,
+            DashboardCache dashboardCache,
+            CompanyZoneResolver companyZoneResolver,
+            @Qualifier(DashboardAsyncConfig.DASHBOARD_SECTION_EXECUTOR) Executor sectionExecutor) {
+        this.employeeSelfService = employeeSelfService;
+        this.leaveBalanceSelfService = leaveBalanceSelfService;
+        this.leaveRequestService = leaveRequestService;
+        this.holidayService = holidayService;
+        this.attendanceSelfService = attendanceSelfService;
+        this.dashboardCache = dashboardCache;
+        this.companyZoneResolver = companyZoneResolver;
+        this.sectionExecutor = sectionExecutor;
+    }
+
+    public EmployeeDashboard employeeDashboard() {
+        var companyId = CompanyContext.getCompanyId()
+                .orElseThrow(() -> new IllegalStateException("Company context is missing"));
+        var employeeId = requireCurrentEmployeeId();
+        var today = LocalDate.now(companyZoneResolver.zoneOf(companyId));
+        var versions = dashboardCache.versions(companyId, employeeId);
+
+        var sections = new EnumMap<Section, CachedSection>(Section.class);
+        var pending = new EnumMap<Section, CompletableFuture<CachedSection>>(Section.class);
+        for (var section : Section.values()) {
+            var version = versions.get(section);
+            var cached = dashboardCache.get(companyId, employeeId, section, today, version);
+            if (cached != null) {
+                sections.put(section, cached);
+            } else {
+                pending.put(section, CompletableFuture.supplyAsync(
+                        () -> compute(section, today, version), sectionExecutor));
+            }
+        }
+        pending.forEach((section, future) -> {
+            var computed = join(future);
+            dashboardCache.put(companyId, employeeId, computed);
+            sections.put(section, computed);
+        });
+
+        var response = new EmployeeDashboardResponse(
+                (EmployeeDto) sections.get(Section.PROFILE).value(),
+                castList(sections.get(Section.LEAVE_BALANCES).value(), MyLeaveBalanceDto.class),
+                castList(sections.get(Section.LEAVES).value(), LeaveRequestDto.class),
+                castList(sections.get(Section.HOLIDAYS).value(), HolidayDto.class),
+                (MyAttendanceRangeResponse) sections.get(Section.ATTENDANCE).value());
+        return new EmployeeDashboard(response, etag(today, versions));
+    }
+
+    private CachedSection compute(Section section, LocalDate today, long version) {
+        Object value = switch (section) {
+            case PROFILE -> employeeSelfService.getMyProfile();
+            case LEAVE_BALANCES -> leaveBalanceSelfService.myBalances();
+            case LEAVES -> leaveRequestService.listRecentMyRequests();
+            case HOLIDAYS -> holidayService.list(today.minusMonths(1), today.plusMonths(3));
+            case ATTENDANCE -> attendanceSelfService.getAttendance(today.withDayOfMonth(1), today);
+        };
+        return new CachedSection(section, today, version, value);
+    }
+
+    private CachedSection join(CompletableFuture<CachedSection> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private String etag(LocalDate today, Map<Section, Long> versions) {
+        var etag = new StringBuilder("W/\"").append(today);
+        versions.values().forEach(version -> etag.append('-').append(version));
+        return etag.append('"').toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> castList(Object value, Class<T> elementType) {
+        return (List<T>) value;
+    }
+
+    private UUID requireCurrentEmployeeId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new AccessDeniedException("Authenticated user not found");
+        }
+        if (!(authentication.getPrincipal() instanceof CustomUserDetails principal)) {
+            throw new AccessDeniedException("Authenticated employee identity is not available");
+        }
+        if (principal.getEmployeeId() == null) {
+            throw new AccessDeniedException("Authenticated user is not mapped to employee profile");
+        }
+        return principal.getEmployeeId();
+    }
+
+    public record EmployeeDashboard(EmployeeDashboardResponse response, String etag) {
+    }
+}
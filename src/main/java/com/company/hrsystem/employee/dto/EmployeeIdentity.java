@@ -0,0 +1,9 @@
+package com.company.hrsystem.employee.dto;
+
+import java.util.UUID;
+
+public record EmployeeIdentity(
+        UUID id,
+        String employeeCode,
+        String email) {
+}
@@ -0,0 +1,11 @@
+package com.company.hrsystem.employee.dto;
+
+import java.util.UUID;
+
+public record EmployeeSnapshot(
+        UUID id,
+        String employeeCode,
+        Boolean active,
+        UUID shiftId,
+        UUID managerId) {
+}
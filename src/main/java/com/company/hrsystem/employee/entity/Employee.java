@@ -20,7 +20,8 @@ import lombok.Setter;
 @Table(name = "employee",
         indexes = {
                 @Index(name = "idx_employee_company_id", columnList = "company_id"),
-                @Index(name = "idx_employee_manager_id", columnList = "manager_id")
+                @Index(name = "idx_employee_manager_id", columnList = "manager_id"),
+                @Index(name = "idx_employee_company_manager", columnList = "company_id, manager_id")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uq_employee_company_id_employee_code", columnNames = {"company_id", "employee_code"})
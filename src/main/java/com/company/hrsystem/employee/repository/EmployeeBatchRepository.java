@@ -0,0 +1,9 @@
+package com.company.hrsystem.employee.repository;
+
+import com.company.hrsystem.employee.entity.Employee;
+import java.util.List;
+
+public interface EmployeeBatchRepository {
+
+    void insertAll(List<Employee> employees);
+}
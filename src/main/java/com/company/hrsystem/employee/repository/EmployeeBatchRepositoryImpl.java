@@ -0,0 +1,55 @@
+package com.company.hrsystem.employee.repository;
+
+import com.company.hrsystem.employee.entity.Employee;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class EmployeeBatchRepositoryImpl implements EmployeeBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into employee
+                (id, company_id, company_ref_id, shift_id, employee_code, first_name, last_name, email, active,
+                 remaining_wfh_balance, manager_id, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(employees.size());
+        for (var employee : employees) {
+            if (employee.getId() == null) {
+                employee.setId(UUID.randomUUID());
+            }
+            employee.setCreatedAt(now);
+            employee.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    employee.getId(),
+                    employee.getCompanyId(),
+                    employee.getCompany().getId(),
+                    employee.getShift() == null ? null : employee.getShift().getId(),
+                    employee.getEmployeeCode(),
+                    employee.getFirstName(),
+                    employee.getLastName(),
+                    employee.getEmail(),
+                    employee.getActive(),
+                    employee.getRemainingWfhBalance(),
+                    employee.getManagerId(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -1,13 +1,22 @@
 package com.company.hrsystem.employee.repository;
 
+import com.company.hrsystem.employee.dto.EmployeeIdentity;
+import com.company.hrsystem.employee.dto.EmployeeSnapshot;
 import com.company.hrsystem.employee.entity.Employee;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, EmployeeBatchRepository {
 
     List<Employee> findByCompanyId(UUID companyId);
 
@@ -18,8 +27,60 @@ public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
 
     List<Employee> findByCompanyIdAndActiveTrue(UUID companyId);
 
+    @Query("""
+            select e from Employee e
+            where e.companyId = :companyId
+              and e.active = true
+              and not exists (
+                select ds.id from DailySummary ds
+                where ds.companyId = :companyId
+                  and ds.employee = e
+                  and ds.date = :date
+              )
+            """)
+    List<Employee> findActiveWithoutDailySummary(
+            @Param("companyId") UUID companyId,
+            @Param("date") LocalDate date);
+
     Optional<Employee> findByIdAndCompanyId(UUID id, UUID companyId);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from Employee e
+            where e.companyId = :companyId
+              and e.id in :ids
+            order by e.id
+            """)
+    List<Employee> findByCompanyIdAndIdInForUpdate(
+            @Param("companyId") UUID companyId,
+            @Param("ids") Collection<UUID> ids);
+
+    @Modifying
+    @Query("""
+            update Employee e
+            set e.remainingWfhBalance = e.remainingWfhBalance - 1
+            where e.companyId = :companyId
+              and e.id in :ids
+              and e.remainingWfhBalance > 0
+            """)
+    int deductWfhBalance(@Param("companyId") UUID companyId, @Param("ids") Collection<UUID> ids);
+
+    @Query("""
+            select new com.company.hrsystem.employee.dto.EmployeeSnapshot(
+                e.id, e.employeeCode, e.active, s.id, e.managerId)
+            from Employee e
+            left join e.shift s
+            where e.companyId = :companyId
+            """)
+    List<EmployeeSnapshot> findSnapshotsByCompanyId(@Param("companyId") UUID companyId);
+
+    @Query("""
+            select new com.company.hrsystem.employee.dto.EmployeeIdentity(e.id, e.employeeCode, e.email)
+            from Employee e
+            where e.companyId = :companyId
+            """)
+    List<EmployeeIdentity> findIdentitiesByCompanyId(@Param("companyId") UUID companyId);
+
     boolean existsByCompanyIdAndEmployeeCodeIgnoreCase(UUID companyId, String employeeCode);
 
     boolean existsByCompanyIdAndEmailIgnoreCase(UUID companyId, String email);
@@ -0,0 +1,97 @@
+package com.company.hrsystem.employee.service;
+
+import com.company.hrsystem.employee.dto.EmployeeSnapshot;
+import com.company.hrsystem.employee.repository.EmployeeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class EmployeeDirectory {
+
+    private final EmployeeRepository employeeRepository;
+    private final Cache<UUID, TenantDirectory> tenants;
+    private final Duration missReloadInterval;
+
+    public EmployeeDirectory(
+            EmployeeRepository employeeRepository,
+            @Value("${employee.directory.max-entries:200000}") long maxEntries,
+            @Value("${employee.directory.ttl-seconds:600}") long ttlSeconds,
+            @Value("${employee.directory.miss-reload-seconds:30}") long missReloadSeconds) {
+        this.employeeRepository = employeeRepository;
+        this.missReloadInterval = Duration.ofSeconds(missReloadSeconds);
+        this.tenants = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .weigher((UUID companyId, TenantDirectory directory) -> Math.max(1, directory.byId().size()))
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<EmployeeSnapshot> findById(UUID companyId, UUID employeeId) {
+        var directory = tenant(companyId);
+        var snapshot = directory.byId().get(employeeId);
+        if (snapshot == null && reloadOnMiss(companyId, directory)) {
+            snapshot = tenant(companyId).byId().get(employeeId);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    public Optional<EmployeeSnapshot> findByCode(UUID companyId, String employeeCode) {
+        var directory = tenant(companyId);
+        var snapshot = directory.byCode().get(employeeCode);
+        if (snapshot == null && reloadOnMiss(companyId, directory)) {
+            snapshot = tenant(companyId).byCode().get(employeeCode);
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    public void evictAfterCompletion(UUID companyId) {
+        tenants.invalidate(companyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    tenants.invalidate(companyId);
+                }
+            });
+        }
+    }
+
+    private TenantDirectory tenant(UUID companyId) {
+        return tenants.get(companyId, this::load);
+    }
+
+    private boolean reloadOnMiss(UUID companyId, TenantDirectory directory) {
+        if (directory.loadedAt().plus(missReloadInterval).isAfter(Instant.now())) {
+            return false;
+        }
+        tenants.asMap().remove(companyId, directory);
+        return true;
+    }
+
+    private TenantDirectory load(UUID companyId) {
+        var snapshots = employeeRepository.findSnapshotsByCompanyId(companyId);
+        var byId = new HashMap<UUID, EmployeeSnapshot>(snapshots.size());
+        var byCode = new HashMap<String, EmployeeSnapshot>(snapshots.size());
+        for (var snapshot : snapshots) {
+            byId.put(snapshot.id(), snapshot);
+            byCode.put(snapshot.employeeCode(), snapshot);
+        }
+        return new TenantDirectory(Map.copyOf(byId), Map.copyOf(byCode), Instant.now());
+    }
+
+    private record TenantDirectory(
+            Map<UUID, EmployeeSnapshot> byId,
+            Map<String, EmployeeSnapshot> byCode,
+            Instant loadedAt) {
+    }
+}
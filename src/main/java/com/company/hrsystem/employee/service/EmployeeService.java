@@ -3,6 +3,7 @@ package com.company.hrsystem.employee.service;
 import com.company.hrsystem.common.context.CompanyContext;
 import com.company.hrsystem.company.entity.Company;
 import com.company.hrsystem.company.repository.CompanyRepository;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.employee.dto.EmployeeCreateRequest;
 import com.company.hrsystem.employee.dto.EmployeeDto;
 import com.company.hrsystem.employee.dto.EmployeeUpdateRequest;
@@ -26,6 +27,8 @@ public class EmployeeService {
     private final CompanyRepository companyRepository;
     private final ShiftRepository shiftRepository;
     private final LeaveEntitlementService leaveEntitlementService;
+    private final EmployeeDirectory employeeDirectory;
+    private final DashboardCache dashboardCache;
 
     @Transactional
     public EmployeeDto createEmployee(EmployeeCreateRequest request) {
@@ -42,6 +45,7 @@ public class EmployeeService {
         employee.setActive(Boolean.TRUE);
         employee.setRemainingWfhBalance(defaultZero(request.remainingWfhBalance()));
         var saved = employeeRepository.save(employee);
+        employeeDirectory.evictAfterCompletion(companyId);
         leaveEntitlementService.ensureDefaultBalancesForEmployee(companyId, saved.getId(), LeaveEntitlementService.currentYear());
         return toDto(saved);
     }
@@ -70,6 +74,8 @@ public class EmployeeService {
         if (request.remainingWfhBalance() != null) {
             employee.setRemainingWfhBalance(defaultZero(request.remainingWfhBalance()));
         }
+        employeeDirectory.evictAfterCompletion(companyId);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.PROFILE);
         return toDto(employeeRepository.save(employee));
     }
 
@@ -78,6 +84,8 @@ public class EmployeeService {
         var companyId = requireCompanyId();
         var employee = getEmployeeForCompany(companyId, employeeId);
         employee.setActive(Boolean.FALSE);
+        employeeDirectory.evictAfterCompletion(companyId);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.PROFILE);
         return toDto(employeeRepository.save(employee));
     }
 
@@ -91,6 +99,7 @@ public class EmployeeService {
             throw new IllegalArgumentException("remainingWfhBalance cannot be negative");
         }
         employee.setRemainingWfhBalance(updated);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.PROFILE);
         return toDto(employeeRepository.save(employee));
     }
 
@@ -2,6 +2,7 @@ package com.company.hrsystem.holiday.service;
 
 import com.company.hrsystem.common.audit.Auditable;
 import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.holiday.dto.HolidayCreateRequest;
 import com.company.hrsystem.holiday.dto.HolidayDto;
 import com.company.hrsystem.holiday.dto.HolidayUpdateRequest;
@@ -24,6 +25,7 @@ public class HolidayService {
     private static final Logger log = LoggerFactory.getLogger(HolidayService.class);
 
     private final HolidayRepository holidayRepository;
+    private final DashboardCache dashboardCache;
 
     @Transactional
     @Auditable(action = "HOLIDAY_CREATE", module = "HOLIDAY")
@@ -40,6 +42,7 @@ public class HolidayService {
         holiday.setDate(request.date());
         holiday.setName(request.name());
         var saved = holidayRepository.save(holiday);
+        evictDashboards(companyId);
         log.info("holiday_created tenant_id={} holiday_id={} date={}", companyId, saved.getId(), saved.getDate());
         return toDto(saved);
     }
@@ -83,6 +86,7 @@ public class HolidayService {
         holiday.setDate(request.date());
         holiday.setName(request.name());
         var saved = holidayRepository.save(holiday);
+        evictDashboards(companyId);
         log.info("holiday_updated tenant_id={} holiday_id={} date={}", companyId, holidayId, saved.getDate());
         return toDto(saved);
     }
@@ -94,9 +98,17 @@ public class HolidayService {
         var holiday = holidayRepository.findByIdAndCompanyId(holidayId, companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Holiday not found"));
         holidayRepository.delete(holiday);
+        evictDashboards(companyId);
         log.info("holiday_deleted tenant_id={} holiday_id={}", companyId, holidayId);
     }
 
+    private void evictDashboards(UUID companyId) {
+        dashboardCache.evictTenantAfterCompletion(
+                companyId,
+                DashboardCache.Section.HOLIDAYS,
+                DashboardCache.Section.ATTENDANCE);
+    }
+
     private UUID requireCompanyId() {
         return CompanyContext.getCompanyId().orElseThrow(() -> new IllegalStateException("Company context is missing"));
     }
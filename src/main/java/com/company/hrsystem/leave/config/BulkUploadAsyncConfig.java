@@ -0,0 +1,44 @@
+package com.company.hrsystem.leave.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BulkUploadAsyncConfig {
+
+    public static final String PASSWORD_HASH_EXECUTOR = "bulkUploadPasswordHashExecutor";
+    public static final String JOB_EXECUTOR = "bulkUploadJobExecutor";
+
+    @Bean(name = PASSWORD_HASH_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor bulkUploadPasswordHashExecutor(
+            @Value("${bulk-upload.password-hashing.workers:0}") int workers,
+            @Value("${bulk-upload.password-hashing.queue-capacity:1000}") int queueCapacity) {
+        var poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bulk-upload-hash-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean(name = JOB_EXECUTOR, defaultCandidate = false)
+    public ThreadPoolTaskExecutor bulkUploadJobExecutor(
+            @Value("${bulk-upload.jobs.workers:2}") int workers,
+            @Value("${bulk-upload.jobs.queue-capacity:20}") int queueCapacity,
+            @Value("${bulk-upload.jobs.shutdown-timeout-seconds:60}") int shutdownTimeoutSeconds) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bulk-upload-job-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(shutdownTimeoutSeconds);
+        return executor;
+    }
+}
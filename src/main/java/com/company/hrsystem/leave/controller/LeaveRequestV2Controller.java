@@ -0,0 +1,37 @@
+package com.company.hrsystem.leave.controller;
+
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import com.company.hrsystem.leave.dto.LeaveRequestPageDto;
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import com.company.hrsystem.leave.service.LeaveRequestService;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2/admin/leaves")
+@RequiredArgsConstructor
+public class LeaveRequestV2Controller {
+
+    private final LeaveRequestService leaveRequestService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('HR')")
+    public LeaveRequestPageDto list(
+            @RequestParam(required = false) LeaveStatus status,
+            @RequestParam(required = false) UUID employeeId,
+            @RequestParam(required = false) String leaveType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var filter = new LeaveRequestFilter(status, employeeId, leaveType, from, to);
+        return leaveRequestService.list(filter, cursor, limit);
+    }
+}
@@ -0,0 +1,35 @@
+package com.company.hrsystem.leave.controller;
+
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import com.company.hrsystem.leave.dto.LeaveRequestPageDto;
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import com.company.hrsystem.leave.service.LeaveRequestService;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2/leave")
+@RequiredArgsConstructor
+public class LeaveWorkflowV2Controller {
+
+    private final LeaveRequestService leaveRequestService;
+
+    @GetMapping("/my")
+    @PreAuthorize("hasRole('EMPLOYEE')")
+    public LeaveRequestPageDto myRequests(
+            @RequestParam(required = false) LeaveStatus status,
+            @RequestParam(required = false) String leaveType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        var filter = new LeaveRequestFilter(status, null, leaveType, from, to);
+        return leaveRequestService.listMyRequests(filter, cursor, limit);
+    }
+}
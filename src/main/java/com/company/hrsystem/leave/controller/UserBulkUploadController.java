@@ -1,10 +1,17 @@
 package com.company.hrsystem.leave.controller;
 
+import com.company.hrsystem.leave.dto.BulkUploadJobDto;
 import com.company.hrsystem.leave.dto.BulkUploadResultDto;
+import com.company.hrsystem.leave.service.BulkUploadJobService;
 import com.company.hrsystem.leave.service.EmployeeBulkUploadService;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -16,11 +23,33 @@ import org.springframework.web.multipart.MultipartFile;
 @RequiredArgsConstructor
 public class UserBulkUploadController {
 
+    private static final String BULK_UPLOAD_JOBS_LINK = "</api/v1/admin/users/bulk-upload/jobs>; rel=\"successor-version\"";
+
     private final EmployeeBulkUploadService employeeBulkUploadService;
+    private final BulkUploadJobService bulkUploadJobService;
 
+    @Deprecated
     @PostMapping(value = "/bulk-upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     @PreAuthorize("hasRole('HR')")
-    public BulkUploadResultDto bulkUpload(@RequestParam("file") MultipartFile file) {
-        return employeeBulkUploadService.bulkUpload(file);
+    public ResponseEntity<BulkUploadResultDto> bulkUpload(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.ok()
+                .header("Deprecation", "true")
+                .header(HttpHeaders.LINK, BULK_UPLOAD_JOBS_LINK)
+                .body(employeeBulkUploadService.bulkUpload(file));
+    }
+
+    @PostMapping(value = "/bulk-upload/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<BulkUploadJobDto> submitBulkUpload(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(bulkUploadJobService.submit(file));
+    }
+
+    @GetMapping("/bulk-upload/jobs/{jobId}")
+    @PreAuthorize("hasRole('HR')")
+    public BulkUploadJobDto bulkUploadStatus(
+            @PathVariable UUID jobId,
+            @RequestParam(required = false) Integer errorsAfterRow,
+            @RequestParam(defaultValue = "100") int errorLimit) {
+        return bulkUploadJobService.status(jobId, errorsAfterRow, errorLimit);
     }
 }
@@ -0,0 +1,22 @@
+package com.company.hrsystem.leave.dto;
+
+import com.company.hrsystem.leave.entity.BulkUploadJobStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record BulkUploadJobDto(
+        UUID jobId,
+        String filename,
+        BulkUploadJobStatus status,
+        int totalRows,
+        int processedRows,
+        int successCount,
+        int failedCount,
+        String failureReason,
+        Instant createdAt,
+        Instant startedAt,
+        Instant completedAt,
+        List<BulkUploadRowErrorDto> errorDetails,
+        Integer nextErrorsAfterRow) {
+}
@@ -0,0 +1,13 @@
+package com.company.hrsystem.leave.dto;
+
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record LeaveRequestFilter(
+        LeaveStatus status,
+        UUID employeeId,
+        String leaveType,
+        LocalDate fromDate,
+        LocalDate toDate) {
+}
@@ -0,0 +1,6 @@
+package com.company.hrsystem.leave.dto;
+
+import java.util.List;
+
+public record LeaveRequestPageDto(List<LeaveRequestDto> items, String nextCursor) {
+}
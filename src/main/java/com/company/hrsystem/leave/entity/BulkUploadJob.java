@@ -0,0 +1,50 @@
+package com.company.hrsystem.leave.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "bulk_upload_job")
+public class BulkUploadJob extends BaseEntity {
+
+    @Column(name = "requested_by")
+    private UUID requestedBy;
+
+    @Column(name = "filename", nullable = false, length = 255)
+    private String filename;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BulkUploadJobStatus status;
+
+    @Column(name = "total_rows", nullable = false)
+    private Integer totalRows;
+
+    @Column(name = "processed_rows", nullable = false)
+    private Integer processedRows;
+
+    @Column(name = "success_count", nullable = false)
+    private Integer successCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount;
+
+    @Column(name = "failure_reason", length = 1000)
+    private String failureReason;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,29 @@
+package com.company.hrsystem.leave.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "bulk_upload_job_error",
+        indexes = {
+                @Index(name = "idx_bulk_upload_job_error_job_row", columnList = "job_id, source_row_number")
+        })
+public class BulkUploadJobError extends BaseEntity {
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "source_row_number", nullable = false)
+    private Integer rowNumber;
+
+    @Column(name = "message", nullable = false, length = 1000)
+    private String message;
+}
@@ -0,0 +1,8 @@
+package com.company.hrsystem.leave.entity;
+
+public enum BulkUploadJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
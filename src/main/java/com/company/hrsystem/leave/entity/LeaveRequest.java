@@ -19,7 +19,12 @@ import lombok.Setter;
         @Index(name = "idx_leave_request_company_id", columnList = "company_id"),
         @Index(name = "idx_leave_request_employee_id", columnList = "employee_id"),
         @Index(name = "idx_leave_request_approver_id", columnList = "approver_id"),
-        @Index(name = "idx_leave_request_status", columnList = "status")
+        @Index(name = "idx_leave_request_status", columnList = "status"),
+        @Index(name = "idx_leave_request_company_status_dates", columnList = "company_id, status, from_date, to_date"),
+        @Index(name = "idx_leave_request_company_from_date_id", columnList = "company_id, from_date desc, id desc"),
+        @Index(
+                name = "idx_leave_request_company_employee_from_date_id",
+                columnList = "company_id, employee_id, from_date desc, id desc")
 })
 public class LeaveRequest extends BaseEntity {
 
@@ -0,0 +1,15 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.entity.BulkUploadJobError;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BulkUploadJobErrorRepository extends JpaRepository<BulkUploadJobError, UUID> {
+
+    List<BulkUploadJobError> findByJobIdAndRowNumberGreaterThanOrderByRowNumberAsc(
+            UUID jobId,
+            int rowNumber,
+            Pageable pageable);
+}
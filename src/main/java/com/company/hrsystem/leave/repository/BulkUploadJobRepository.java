@@ -0,0 +1,92 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.entity.BulkUploadJob;
+import com.company.hrsystem.leave.entity.BulkUploadJobStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BulkUploadJobRepository extends JpaRepository<BulkUploadJob, UUID> {
+
+    Optional<BulkUploadJob> findByIdAndCompanyId(UUID id, UUID companyId);
+
+    @Modifying
+    @Query("""
+            update BulkUploadJob j
+            set j.status = :status,
+                j.startedAt = :startedAt,
+                j.updatedAt = :startedAt
+            where j.id = :id
+            """)
+    int markStarted(
+            @Param("id") UUID id,
+            @Param("status") BulkUploadJobStatus status,
+            @Param("startedAt") Instant startedAt);
+
+    @Modifying
+    @Query("""
+            update BulkUploadJob j
+            set j.totalRows = :totalRows,
+                j.processedRows = :processedRows,
+                j.successCount = :successCount,
+                j.failedCount = :failedCount,
+                j.updatedAt = :updatedAt
+            where j.id = :id
+            """)
+    int recordProgress(
+            @Param("id") UUID id,
+            @Param("totalRows") int totalRows,
+            @Param("processedRows") int processedRows,
+            @Param("successCount") int successCount,
+            @Param("failedCount") int failedCount,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            update BulkUploadJob j
+            set j.status = :status,
+                j.failureReason = :failureReason,
+                j.completedAt = :completedAt,
+                j.updatedAt = :completedAt
+            where j.id = :id
+            """)
+    int markFinished(
+            @Param("id") UUID id,
+            @Param("status") BulkUploadJobStatus status,
+            @Param("failureReason") String failureReason,
+            @Param("completedAt") Instant completedAt);
+
+    @Modifying
+    @Query("""
+            update BulkUploadJob j
+            set j.updatedAt = :updatedAt
+            where j.id in :ids
+              and j.status in :statuses
+            """)
+    int touch(
+            @Param("ids") Collection<UUID> ids,
+            @Param("statuses") Collection<BulkUploadJobStatus> statuses,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            update BulkUploadJob j
+            set j.status = :failed,
+                j.failureReason = :failureReason,
+                j.completedAt = :completedAt,
+                j.updatedAt = :completedAt
+            where j.status in :statuses
+              and j.updatedAt < :staleBefore
+            """)
+    int failStale(
+            @Param("statuses") Collection<BulkUploadJobStatus> statuses,
+            @Param("staleBefore") Instant staleBefore,
+            @Param("failed") BulkUploadJobStatus failed,
+            @Param("failureReason") String failureReason,
+            @Param("completedAt") Instant completedAt);
+}
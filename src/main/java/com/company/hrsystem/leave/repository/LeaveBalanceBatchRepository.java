@@ -0,0 +1,9 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.entity.LeaveBalance;
+import java.util.List;
+
+public interface LeaveBalanceBatchRepository {
+
+    void insertAll(List<LeaveBalance> leaveBalances);
+}
@@ -0,0 +1,53 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.entity.LeaveBalance;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LeaveBalanceBatchRepositoryImpl implements LeaveBalanceBatchRepository {
+
+    private static final String INSERT_SQL = """
+            insert into leave_balance
+                (id, company_id, tenant_id, employee_id, leave_type_id, balance_year, allocated, used, remaining,
+                 created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<LeaveBalance> leaveBalances) {
+        if (leaveBalances.isEmpty()) {
+            return;
+        }
+
+        var now = Instant.now();
+        var batchArgs = new ArrayList<Object[]>(leaveBalances.size());
+        for (var leaveBalance : leaveBalances) {
+            if (leaveBalance.getId() == null) {
+                leaveBalance.setId(UUID.randomUUID());
+            }
+            leaveBalance.setCreatedAt(now);
+            leaveBalance.setUpdatedAt(now);
+            batchArgs.add(new Object[]{
+                    leaveBalance.getId(),
+                    leaveBalance.getCompanyId(),
+                    leaveBalance.getTenantId(),
+                    leaveBalance.getEmployeeId(),
+                    leaveBalance.getLeaveTypeId(),
+                    leaveBalance.getYear(),
+                    leaveBalance.getAllocated(),
+                    leaveBalance.getUsed(),
+                    leaveBalance.getRemaining(),
+                    now.atOffset(ZoneOffset.UTC),
+                    now.atOffset(ZoneOffset.UTC)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, UUID> {
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, UUID>, LeaveBalanceBatchRepository {
 
     Optional<LeaveBalance> findByIdAndCompanyId(UUID id, UUID companyId);
 
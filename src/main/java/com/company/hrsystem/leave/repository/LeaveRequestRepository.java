@@ -11,14 +11,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, UUID> {
+public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, UUID>, LeaveRequestSearchRepository {
 
     Optional<LeaveRequest> findByIdAndCompanyId(UUID id, UUID companyId);
 
-    List<LeaveRequest> findByCompanyIdOrderByFromDateDesc(UUID companyId);
-
-    List<LeaveRequest> findByCompanyIdAndEmployeeIdOrderByFromDateDesc(UUID companyId, UUID employeeId);
-
     @Query("""
             select lr from LeaveRequest lr, Employee e
             where lr.companyId = :companyId
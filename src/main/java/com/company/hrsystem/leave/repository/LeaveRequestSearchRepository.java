@@ -0,0 +1,17 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.dto.LeaveRequestDto;
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface LeaveRequestSearchRepository {
+
+    List<LeaveRequestDto> search(
+            UUID companyId,
+            LeaveRequestFilter filter,
+            LocalDate afterFromDate,
+            UUID afterId,
+            int limit);
+}
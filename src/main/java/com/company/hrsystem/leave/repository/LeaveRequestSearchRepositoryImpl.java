@@ -0,0 +1,79 @@
+package com.company.hrsystem.leave.repository;
+
+import com.company.hrsystem.leave.dto.LeaveRequestDto;
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LeaveRequestSearchRepositoryImpl implements LeaveRequestSearchRepository {
+
+    private static final String SELECT_SQL = """
+            select lr.id, lr.employee_id, lr.from_date, lr.to_date, lr.leave_type, lr.reason, lr.status,
+                   lr.approver_id, lr.remarks
+            from leave_request lr
+            where lr.company_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<LeaveRequestDto> search(
+            UUID companyId,
+            LeaveRequestFilter filter,
+            LocalDate afterFromDate,
+            UUID afterId,
+            int limit) {
+        var sql = new StringBuilder(SELECT_SQL);
+        var args = new ArrayList<Object>();
+        args.add(companyId);
+        if (filter.employeeId() != null) {
+            sql.append("  and lr.employee_id = ?\n");
+            args.add(filter.employeeId());
+        }
+        if (filter.status() != null) {
+            sql.append("  and lr.status = ?\n");
+            args.add(filter.status().name());
+        }
+        if (filter.leaveType() != null) {
+            sql.append("  and lr.leave_type = ?\n");
+            args.add(filter.leaveType());
+        }
+        if (filter.fromDate() != null) {
+            sql.append("  and lr.to_date >= ?\n");
+            args.add(filter.fromDate());
+        }
+        if (filter.toDate() != null) {
+            sql.append("  and lr.from_date <= ?\n");
+            args.add(filter.toDate());
+        }
+        if (afterFromDate != null && afterId != null) {
+            sql.append("  and (lr.from_date, lr.id) < (?, ?)\n");
+            args.add(afterFromDate);
+            args.add(afterId);
+        }
+        sql.append("order by lr.from_date desc, lr.id desc\nlimit ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), this::mapRow, args.toArray());
+    }
+
+    private LeaveRequestDto mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new LeaveRequestDto(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("employee_id", UUID.class),
+                resultSet.getObject("from_date", LocalDate.class),
+                resultSet.getObject("to_date", LocalDate.class),
+                resultSet.getString("leave_type"),
+                resultSet.getString("reason"),
+                LeaveStatus.valueOf(resultSet.getString("status")),
+                resultSet.getObject("approver_id", UUID.class),
+                resultSet.getString("remarks"));
+    }
+}
@@ -0,0 +1,281 @@
+package com.company.hrsystem.leave.service;
+
+import com.company.hrsystem.auth.security.CustomUserDetails;
+import com.company.hrsystem.common.audit.Auditable;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.common.exception.ServiceOverloadedException;
+import com.company.hrsystem.leave.config.BulkUploadAsyncConfig;
+import com.company.hrsystem.leave.dto.BulkUploadJobDto;
+import com.company.hrsystem.leave.dto.BulkUploadRowErrorDto;
+import com.company.hrsystem.leave.entity.BulkUploadJob;
+import com.company.hrsystem.leave.entity.BulkUploadJobError;
+import com.company.hrsystem.leave.entity.BulkUploadJobStatus;
+import com.company.hrsystem.leave.repository.BulkUploadJobErrorRepository;
+import com.company.hrsystem.leave.repository.BulkUploadJobRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+@Service
+public class BulkUploadJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkUploadJobService.class);
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final int MAX_ERROR_PAGE_SIZE = 1000;
+    private static final List<BulkUploadJobStatus> UNFINISHED_STATUSES =
+            List.of(BulkUploadJobStatus.QUEUED, BulkUploadJobStatus.RUNNING);
+    private static final String ORPHANED_REASON = "Bulk upload job was interrupted by a server restart";
+
+    private final EmployeeBulkUploadService employeeBulkUploadService;
+    private final BulkUploadJobRepository bulkUploadJobRepository;
+    private final BulkUploadJobErrorRepository bulkUploadJobErrorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor jobExecutor;
+    private final Duration staleAfter;
+    private final Set<UUID> activeJobIds = ConcurrentHashMap.newKeySet();
+
+    public BulkUploadJobService(
+            EmployeeBulkUploadService employeeBulkUploadService,
+            BulkUploadJobRepository bulkUploadJobRepository,
+            BulkUploadJobErrorRepository bulkUploadJobErrorRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(BulkUploadAsyncConfig.JOB_EXECUTOR) ThreadPoolTaskExecutor jobExecutor,
+            @Value("${bulk-upload.jobs.stale-after-seconds:300}") long staleAfterSeconds) {
+        this.employeeBulkUploadService = employeeBulkUploadService;
+        this.bulkUploadJobRepository = bulkUploadJobRepository;
+        this.bulkUploadJobErrorRepository = bulkUploadJobErrorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobExecutor = jobExecutor;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    }
+
+    @Auditable(action = "BULK_EMPLOYEE_UPLOAD_SUBMIT", module = "EMPLOYEE")
+    public BulkUploadJobDto submit(MultipartFile file) {
+        var companyId = requireCompanyId();
+        employeeBulkUploadService.validateFile(file);
+        if (jobExecutor.getThreadPoolExecutor().getQueue().remainingCapacity() == 0) {
+            throw new ServiceOverloadedException("Bulk upload queue is full, retry later");
+        }
+
+        var filename = file.getOriginalFilename();
+        var upload = spool(file);
+
+        var job = new BulkUploadJob();
+        job.setCompanyId(companyId);
+        job.setRequestedBy(currentUserId());
+        job.setFilename(filename);
+        job.setStatus(BulkUploadJobStatus.QUEUED);
+        job.setTotalRows(0);
+        job.setProcessedRows(0);
+        job.setSuccessCount(0);
+        job.setFailedCount(0);
+        job = bulkUploadJobRepository.save(job);
+
+        var jobId = job.getId();
+        var securityContext = SecurityContextHolder.getContext();
+        activeJobIds.add(jobId);
+        try {
+            jobExecutor.execute(() -> run(jobId, companyId, filename, upload, securityContext));
+        } catch (TaskRejectedException ex) {
+            activeJobIds.remove(jobId);
+            deleteQuietly(upload);
+            finish(jobId, BulkUploadJobStatus.FAILED, "Bulk upload queue is full");
+            throw new ServiceOverloadedException("Bulk upload queue is full, retry later");
+        }
+
+        log.info("employee_bulk_upload_job_queued tenant_id={} job_id={} filename={} size_bytes={}",
+                companyId, jobId, filename, file.getSize());
+        return toDto(job, List.of(), null);
+    }
+
+    public BulkUploadJobDto status(UUID jobId, Integer errorsAfterRow, int errorLimit) {
+        if (errorLimit < 1 || errorLimit > MAX_ERROR_PAGE_SIZE) {
+            throw new IllegalArgumentException("errorLimit must be between 1 and " + MAX_ERROR_PAGE_SIZE);
+        }
+        var companyId = requireCompanyId();
+        var job = bulkUploadJobRepository.findByIdAndCompanyId(jobId, companyId)
+                .orElseThrow(() -> new EntityNotFoundException("Bulk upload job not found"));
+        var errors = bulkUploadJobErrorRepository.findByJobIdAndRowNumberGreaterThanOrderByRowNumberAsc(
+                        jobId,
+                        errorsAfterRow == null ? 0 : errorsAfterRow,
+                        PageRequest.of(0, errorLimit + 1)).stream()
+                .map(error -> new BulkUploadRowErrorDto(error.getRowNumber(), error.getMessage()))
+                .toList();
+
+        Integer nextErrorsAfterRow = null;
+        if (errors.size() > errorLimit) {
+            errors = errors.subList(0, errorLimit);
+            nextErrorsAfterRow = errors.get(errorLimit - 1).rowNumber();
+        }
+        return toDto(job, errors, nextErrorsAfterRow);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${bulk-upload.jobs.heartbeat-interval-ms:60000}",
+            fixedDelayString = "${bulk-upload.jobs.heartbeat-interval-ms:60000}")
+    public void maintainJobs() {
+        var now = Instant.now();
+        try {
+            var failed = transactionTemplate.execute(status -> {
+                if (!activeJobIds.isEmpty()) {
+                    bulkUploadJobRepository.touch(List.copyOf(activeJobIds), UNFINISHED_STATUSES, now);
+                }
+                return bulkUploadJobRepository.failStale(
+                        UNFINISHED_STATUSES, now.minus(staleAfter), BulkUploadJobStatus.FAILED, ORPHANED_REASON, now);
+            });
+            if (failed != null && failed > 0) {
+                log.warn("employee_bulk_upload_orphaned_jobs_failed count={} stale_after_seconds={}",
+                        failed, staleAfter.toSeconds());
+            }
+        } catch (RuntimeException ex) {
+            log.error("employee_bulk_upload_job_maintenance_failed", ex);
+        }
+    }
+
+    private void run(UUID jobId, UUID companyId, String filename, Path upload, SecurityContext securityContext) {
+        CompanyContext.setCompanyId(companyId);
+        SecurityContextHolder.setContext(securityContext);
+        try {
+            var startedAt = Instant.now();
+            transactionTemplate.executeWithoutResult(status ->
+                    bulkUploadJobRepository.markStarted(jobId, BulkUploadJobStatus.RUNNING, startedAt));
+
+            var rows = employeeBulkUploadService.rows(new FileSystemResource(upload), filename);
+            var result = employeeBulkUploadService.provision(companyId, rows,
+                    (totalRows, processedRows, successCount, newErrors) ->
+                            recordProgress(companyId, jobId, totalRows, processedRows, successCount, newErrors));
+
+            finish(jobId, BulkUploadJobStatus.COMPLETED, null);
+            log.info("employee_bulk_upload_job_complete tenant_id={} job_id={} total_rows={} success_count={} failed_count={}",
+                    companyId, jobId, result.totalRows(), result.successCount(), result.failedCount());
+        } catch (Exception ex) {
+            log.error("employee_bulk_upload_job_failed tenant_id={} job_id={}", companyId, jobId, ex);
+            finish(jobId, BulkUploadJobStatus.FAILED, failureReason(ex));
+        } finally {
+            activeJobIds.remove(jobId);
+            deleteQuietly(upload);
+            SecurityContextHolder.clearContext();
+            CompanyContext.clear();
+        }
+    }
+
+    private void recordProgress(
+            UUID companyId,
+            UUID jobId,
+            int totalRows,
+            int processedRows,
+            int successCount,
+            List<BulkUploadRowErrorDto> newErrors) {
+        var errorRows = new ArrayList<BulkUploadJobError>(newErrors.size());
+        for (var error : newErrors) {
+            var errorRow = new BulkUploadJobError();
+            errorRow.setCompanyId(companyId);
+            errorRow.setJobId(jobId);
+            errorRow.setRowNumber(error.rowNumber());
+            errorRow.setMessage(truncate(error.message()));
+            errorRows.add(errorRow);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            bulkUploadJobErrorRepository.saveAll(errorRows);
+            bulkUploadJobRepository.recordProgress(
+                    jobId, totalRows, processedRows, successCount, processedRows - successCount, Instant.now());
+        });
+    }
+
+    private void finish(UUID jobId, BulkUploadJobStatus status, String failureReason) {
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    bulkUploadJobRepository.markFinished(jobId, status, failureReason, Instant.now()));
+        } catch (RuntimeException ex) {
+            log.error("employee_bulk_upload_job_status_update_failed job_id={} status={}", jobId, status, ex);
+        }
+    }
+
+    private Path spool(MultipartFile file) {
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("bulk-upload-", ".upload");
+            file.transferTo(upload);
+            return upload;
+        } catch (IOException ex) {
+            deleteQuietly(upload);
+            throw new IllegalArgumentException("Unable to read upload file");
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.warn("employee_bulk_upload_temp_file_cleanup_failed path={}", path, ex);
+        }
+    }
+
+    private BulkUploadJobDto toDto(BulkUploadJob job, List<BulkUploadRowErrorDto> errors, Integer nextErrorsAfterRow) {
+        return new BulkUploadJobDto(
+                job.getId(),
+                job.getFilename(),
+                job.getStatus(),
+                job.getTotalRows(),
+                job.getProcessedRows(),
+                job.getSuccessCount(),
+                job.getFailedCount(),
+                job.getFailureReason(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt(),
+                errors,
+                nextErrorsAfterRow);
+    }
+
+    private String failureReason(Exception ex) {
+        var message = ex.getMessage();
+        return truncate(message == null || message.isBlank() ? "Unexpected bulk upload error" : message);
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private UUID currentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+
+    private UUID requireCompanyId() {
+        return CompanyContext.getCompanyId()
+                .orElseThrow(() -> new IllegalStateException("Company context is missing"));
+    }
+}
@@ -1,27 +1,27 @@
 package com.company.hrsystem.leave.service;
 
+import com.company.hrsystem.auth.entity.AuthUser;
 import com.company.hrsystem.auth.entity.Role;
 import com.company.hrsystem.auth.repository.AuthUserRepository;
-import com.company.hrsystem.auth.service.AuthUserService;
 import com.company.hrsystem.common.audit.Auditable;
 import com.company.hrsystem.common.context.CompanyContext;
 import com.company.hrsystem.company.entity.Company;
 import com.company.hrsystem.company.repository.CompanyRepository;
 import com.company.hrsystem.employee.entity.Employee;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
+import com.company.hrsystem.employee.service.EmployeeDirectory;
+import com.company.hrsystem.leave.config.BulkUploadAsyncConfig;
 import com.company.hrsystem.leave.dto.BulkUploadResultDto;
 import com.company.hrsystem.leave.dto.BulkUploadRowErrorDto;
 import com.company.hrsystem.leave.entity.LeaveBalance;
 import com.company.hrsystem.leave.entity.LeaveType;
 import com.company.hrsystem.leave.repository.LeaveBalanceRepository;
 import com.company.hrsystem.leave.repository.LeaveTypeRepository;
+import com.company.hrsystem.leave.service.EmployeeUploadParser.RawUploadRow;
 import jakarta.persistence.EntityNotFoundException;
-import java.io.InputStream;
-import java.time.LocalDate;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -29,122 +29,153 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.DateUtil;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
-@RequiredArgsConstructor
 public class EmployeeBulkUploadService {
 
     private static final Logger log = LoggerFactory.getLogger(EmployeeBulkUploadService.class);
 
     private static final String DEFAULT_PASSWORD = "ChangeMe@123";
-    private static final int MAX_ALLOWED_ROWS = 10_000;
-    private static final long MAX_ALLOWED_FILE_BYTES = 10L * 1024 * 1024;
-
-    private static final List<String> REQUIRED_HEADERS = List.of(
-            "employeeId",
-            "firstName",
-            "lastName",
-            "email",
-            "role",
-            "managerEmployeeId",
-            "joiningDate",
-            "leaveBalance");
-
-    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
-    private static final DateTimeFormatter DMY_DASH = DateTimeFormatter.ofPattern("dd-MM-uuuu");
-    private static final DateTimeFormatter DMY_SLASH = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+    private static final int MAX_ALLOWED_ROWS = 100_000;
+    private static final long MAX_ALLOWED_FILE_BYTES = 50L * 1024 * 1024;
+    private static final int MAX_SYNC_ROWS = 10_000;
+    private static final long MAX_SYNC_FILE_BYTES = 10L * 1024 * 1024;
+    private static final long MAX_LEGACY_WORKBOOK_BYTES = 10L * 1024 * 1024;
+    private static final int PERSIST_CHUNK_SIZE = 500;
 
     private final EmployeeRepository employeeRepository;
+    private final EmployeeDirectory employeeDirectory;
     private final CompanyRepository companyRepository;
     private final AuthUserRepository authUserRepository;
-    private final AuthUserService authUserService;
+    private final PasswordEncoder passwordEncoder;
     private final LeaveTypeRepository leaveTypeRepository;
     private final LeaveBalanceRepository leaveBalanceRepository;
+    private final EmployeeUploadParser employeeUploadParser;
     private final PlatformTransactionManager transactionManager;
+    private final Executor passwordHashExecutor;
+
+    public EmployeeBulkUploadService(
+            EmployeeRepository employeeRepository,
+            EmployeeDirectory employeeDirectory,
+            CompanyRepository companyRepository,
+            AuthUserRepository authUserRepository,
+            PasswordEncoder passwordEncoder,
+            LeaveTypeRepository leaveTypeRepository,
+            LeaveBalanceRepository leaveBalanceRepository,
+            EmployeeUploadParser employeeUploadParser,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(BulkUploadAsyncConfig.PASSWORD_HASH_EXECUTOR) Executor passwordHashExecutor) {
+        this.employeeRepository = employeeRepository;
+        this.employeeDirectory = employeeDirectory;
+        this.companyRepository = companyRepository;
+        this.authUserRepository = authUserRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.leaveTypeRepository = leaveTypeRepository;
+        this.leaveBalanceRepository = leaveBalanceRepository;
+        this.employeeUploadParser = employeeUploadParser;
+        this.transactionManager = transactionManager;
+        this.passwordHashExecutor = passwordHashExecutor;
+    }
 
     @Auditable(action = "BULK_EMPLOYEE_UPLOAD", module = "EMPLOYEE")
     public BulkUploadResultDto bulkUpload(MultipartFile file) {
         var companyId = requireCompanyId();
-        validateFile(file);
+        validateFile(file, MAX_SYNC_FILE_BYTES);
 
         log.info("employee_bulk_upload_start tenant_id={} filename={} size_bytes={}",
                 companyId, file.getOriginalFilename(), file.getSize());
 
-        List<RawUploadRow> rows;
-        try (var inputStream = file.getInputStream()) {
-            rows = parseExcel(inputStream);
-        } catch (RuntimeException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new IllegalArgumentException("Unable to read upload file");
-        }
+        return provision(companyId, rows(file, file.getOriginalFilename(), MAX_SYNC_ROWS),
+                (totalRows, processedRows, successCount, newErrors) -> {
+                });
+    }
+
+    RowSource rows(InputStreamSource source, String filename) {
+        return rows(source, filename, MAX_ALLOWED_ROWS);
+    }
 
-        if (rows.isEmpty()) {
+    private RowSource rows(InputStreamSource source, String filename, int maxRows) {
+        return sink -> {
+            try (var inputStream = source.getInputStream()) {
+                return employeeUploadParser.parse(inputStream, filename, maxRows, sink);
+            }
+        };
+    }
+
+    BulkUploadResultDto provision(UUID companyId, RowSource rows, ProgressListener progress) {
+        var employeeIdCounts = new HashMap<String, Integer>();
+        var emailCounts = new HashMap<String, Integer>();
+        var totalRows = read(rows, row -> {
+            count(employeeIdCounts, row.employeeId());
+            count(emailCounts, row.email());
+        });
+        if (totalRows == 0) {
             throw new IllegalArgumentException("Upload file has no data rows");
         }
-        if (rows.size() > MAX_ALLOWED_ROWS) {
-            throw new IllegalArgumentException("Upload file exceeds maximum rows: " + MAX_ALLOWED_ROWS);
-        }
-
-        var duplicateEmployeeIds = duplicates(rows, RawUploadRow::employeeId);
-        var duplicateEmails = duplicates(rows, RawUploadRow::email);
+        var duplicateEmployeeIds = duplicates(employeeIdCounts);
+        var duplicateEmails = duplicates(emailCounts);
         var leaveTypes = leaveTypeRepository.findByCompanyIdOrderByNameAsc(companyId);
+        var company = findCompanyByCompanyId(companyId);
+        var tenantKeys = loadTenantKeys(companyId);
 
-        var transactionTemplate = new TransactionTemplate(transactionManager);
-        var errors = new ArrayList<BulkUploadRowErrorDto>();
-        int successCount = 0;
-
-        for (var row : rows) {
+        var writer = new ChunkWriter(companyId, totalRows, progress);
+        read(rows, row -> {
+            StagedRow staged;
             try {
-                validateRow(row, companyId, duplicateEmployeeIds, duplicateEmails, leaveTypes);
-                transactionTemplate.executeWithoutResult(status ->
-                        persistRow(companyId, row, leaveTypes));
-                successCount++;
+                validateRow(row, duplicateEmployeeIds, duplicateEmails, leaveTypes, tenantKeys);
+                staged = stage(companyId, company, row, leaveTypes, tenantKeys);
             } catch (Exception ex) {
-                errors.add(new BulkUploadRowErrorDto(row.rowNumber(), rootMessage(ex)));
-                log.warn("employee_bulk_upload_row_failed tenant_id={} row={} reason={}",
-                        companyId, row.rowNumber(), rootMessage(ex));
+                writer.reject(row, ex);
+                return;
             }
-        }
+            writer.add(staged);
+        });
+        var result = writer.finish();
 
-        var result = new BulkUploadResultDto(
-                rows.size(),
-                successCount,
-                errors.size(),
-                List.copyOf(errors));
+        if (result.successCount() > 0) {
+            employeeDirectory.evictAfterCompletion(companyId);
+        }
         log.info("employee_bulk_upload_complete tenant_id={} total_rows={} success_count={} failed_count={}",
                 companyId, result.totalRows(), result.successCount(), result.failedCount());
         return result;
     }
 
-    private void validateFile(MultipartFile file) {
+    void validateFile(MultipartFile file) {
+        validateFile(file, MAX_ALLOWED_FILE_BYTES);
+    }
+
+    private void validateFile(MultipartFile file, long maxBytes) {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("Upload file is empty");
         }
-        if (file.getSize() > MAX_ALLOWED_FILE_BYTES) {
-            throw new IllegalArgumentException("Upload file exceeds max size of 10 MB");
+        if (file.getSize() > maxBytes) {
+            throw new IllegalArgumentException("Upload file exceeds max size of " + maxBytes / (1024 * 1024) + " MB");
+        }
+        var filename = file.getOriginalFilename();
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".xls")
+                && file.getSize() > MAX_LEGACY_WORKBOOK_BYTES) {
+            throw new IllegalArgumentException("Legacy .xls uploads are limited to 10 MB; use .xlsx or .csv");
         }
     }
 
     private void validateRow(
             RawUploadRow row,
-            UUID companyId,
             Set<String> duplicateEmployeeIds,
             Set<String> duplicateEmails,
-            List<LeaveType> leaveTypes) {
+            List<LeaveType> leaveTypes,
+            TenantKeys tenantKeys) {
         if (leaveTypes.isEmpty()) {
             throw new IllegalStateException("At least one leave type must exist before bulk upload");
         }
@@ -175,186 +206,187 @@ public class EmployeeBulkUploadService {
             throw new IllegalArgumentException("Duplicate email exists inside file");
         }
 
-        if (employeeRepository.existsByCompanyIdAndEmployeeCodeIgnoreCase(companyId, row.employeeId())) {
+        if (tenantKeys.employeeCodes().contains(row.employeeId().toLowerCase(Locale.ROOT))) {
             throw new IllegalArgumentException("employeeId already exists for tenant");
         }
-        if (employeeRepository.existsByCompanyIdAndEmailIgnoreCase(companyId, row.email())) {
+        if (tenantKeys.emails().contains(row.email().toLowerCase(Locale.ROOT))) {
             throw new IllegalArgumentException("email already exists for tenant");
         }
-        if (authUserRepository.existsByTenantIdAndUsernameIgnoreCase(companyId, row.employeeId())) {
+        if (tenantKeys.usernames().contains(row.employeeId().toLowerCase(Locale.ROOT))) {
             throw new IllegalArgumentException("Auth username already exists for tenant");
         }
 
         if (row.managerEmployeeId() != null && !row.managerEmployeeId().isBlank()) {
-            var manager = employeeRepository.findByCompanyIdAndEmployeeCode(companyId, row.managerEmployeeId().trim())
-                    .orElseThrow(() -> new IllegalArgumentException("managerEmployeeId does not exist in tenant"));
-            if (manager.getEmployeeCode().equalsIgnoreCase(row.employeeId())) {
+            var managerCode = row.managerEmployeeId().trim();
+            if (!tenantKeys.employeeIdsByCode().containsKey(managerCode)) {
+                throw new IllegalArgumentException("managerEmployeeId does not exist in tenant");
+            }
+            if (managerCode.equalsIgnoreCase(row.employeeId())) {
                 throw new IllegalArgumentException("Employee cannot be their own manager");
             }
         }
     }
 
-    private void persistRow(UUID companyId, RawUploadRow row, List<LeaveType> leaveTypes) {
+    private StagedRow stage(
+            UUID companyId,
+            Company company,
+            RawUploadRow row,
+            List<LeaveType> leaveTypes,
+            TenantKeys tenantKeys) {
         var employee = new Employee();
+        employee.setId(UUID.randomUUID());
         employee.setCompanyId(companyId);
-        employee.setCompany(findCompanyByCompanyId(companyId));
+        employee.setCompany(company);
         employee.setEmployeeCode(row.employeeId());
         employee.setFirstName(row.firstName());
         employee.setLastName(row.lastName());
         employee.setEmail(row.email());
         employee.setActive(Boolean.TRUE);
         employee.setRemainingWfhBalance(0);
-        employee.setManagerId(resolveManagerId(companyId, row));
-        var savedEmployee = employeeRepository.save(employee);
-
-        authUserService.createUser(
-                companyId,
-                row.employeeId(),
-                DEFAULT_PASSWORD,
-                row.role(),
-                savedEmployee.getId(),
-                true);
-
+        employee.setManagerId(row.managerEmployeeId() == null
+                ? null
+                : tenantKeys.employeeIdsByCode().get(row.managerEmployeeId().trim()));
+
+        var authUser = new AuthUser();
+        authUser.setCompanyId(companyId);
+        authUser.setTenantId(companyId);
+        authUser.setUsername(row.employeeId().trim());
+        authUser.setRole(row.role());
+        authUser.setEmployeeId(employee.getId());
+        authUser.setEnabled(Boolean.TRUE);
+
+        var leaveBalances = new ArrayList<LeaveBalance>(leaveTypes.size());
         for (var leaveType : leaveTypes) {
             var leaveBalance = new LeaveBalance();
             leaveBalance.setCompanyId(companyId);
             leaveBalance.setTenantId(companyId);
-            leaveBalance.setEmployeeId(savedEmployee.getId());
+            leaveBalance.setEmployeeId(employee.getId());
             leaveBalance.setLeaveTypeId(leaveType.getId());
             leaveBalance.setYear(row.joiningDate().getYear());
             leaveBalance.setAllocated(row.leaveBalance());
             leaveBalance.setUsed(0);
             leaveBalance.setRemaining(row.leaveBalance());
-            leaveBalanceRepository.save(leaveBalance);
+            leaveBalances.add(leaveBalance);
         }
+
+        tenantKeys.employeeCodes().add(row.employeeId().toLowerCase(Locale.ROOT));
+        tenantKeys.emails().add(row.email().toLowerCase(Locale.ROOT));
+        tenantKeys.usernames().add(row.employeeId().toLowerCase(Locale.ROOT));
+        tenantKeys.employeeIdsByCode().put(row.employeeId(), employee.getId());
+        return new StagedRow(row, employee, authUser, leaveBalances);
     }
 
-    private UUID resolveManagerId(UUID companyId, RawUploadRow row) {
-        if (row.managerEmployeeId() == null || row.managerEmployeeId().isBlank()) {
-            return null;
+    private CompletableFuture<Void> hashPasswords(List<StagedRow> chunk) {
+        var hashes = new CompletableFuture<?>[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            var authUser = chunk.get(i).authUser();
+            hashes[i] = CompletableFuture.runAsync(
+                    () -> authUser.setPassword(passwordEncoder.encode(DEFAULT_PASSWORD)), passwordHashExecutor);
         }
-        return employeeRepository.findByCompanyIdAndEmployeeCode(companyId, row.managerEmployeeId().trim())
-                .map(Employee::getId)
-                .orElseThrow(() -> new IllegalArgumentException("managerEmployeeId does not exist in tenant"));
+        return CompletableFuture.allOf(hashes);
     }
 
-    private List<RawUploadRow> parseExcel(InputStream inputStream) {
-        try (var workbook = WorkbookFactory.create(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            if (sheet == null) {
-                throw new IllegalArgumentException("Workbook must contain at least one sheet");
-            }
-
-            Row headerRow = sheet.getRow(0);
-            if (headerRow == null) {
-                throw new IllegalArgumentException("Missing header row");
+    private int persistChunk(
+            UUID companyId,
+            List<StagedRow> chunk,
+            TransactionTemplate transactionTemplate,
+            List<BulkUploadRowErrorDto> errors,
+            Set<UUID> failedEmployeeIds) {
+        if (!hasFailedManager(chunk, failedEmployeeIds)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(chunk));
+                return chunk.size();
+            } catch (RuntimeException ex) {
+                log.warn("employee_bulk_upload_chunk_fallback tenant_id={} first_row={} rows={} reason={}",
+                        companyId, chunk.get(0).row().rowNumber(), chunk.size(), rootMessage(ex));
             }
+        }
 
-            var headerIndex = extractHeaderIndex(headerRow);
-            for (var required : REQUIRED_HEADERS) {
-                if (!headerIndex.containsKey(required.toLowerCase(Locale.ROOT))) {
-                    throw new IllegalArgumentException("Missing required column: " + required);
-                }
+        int count = 0;
+        for (var staged : chunk) {
+            var managerId = staged.employee().getManagerId();
+            if (managerId != null && failedEmployeeIds.contains(managerId)) {
+                failedEmployeeIds.add(staged.employee().getId());
+                recordFailure(companyId, errors, staged.row(),
+                        new IllegalArgumentException("managerEmployeeId does not exist in tenant"));
+                continue;
             }
-
-            int lastRowNum = sheet.getLastRowNum();
-            var rows = new ArrayList<RawUploadRow>();
-            for (int rowNum = 1; rowNum <= lastRowNum; rowNum++) {
-                Row row = sheet.getRow(rowNum);
-                if (row == null) {
-                    continue;
-                }
-
-                var raw = mapRow(row, rowNum + 1, headerIndex);
-                if (isDataRowEmpty(raw)) {
-                    continue;
-                }
-                rows.add(raw);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(List.of(staged)));
+                count++;
+            } catch (RuntimeException ex) {
+                failedEmployeeIds.add(staged.employee().getId());
+                recordFailure(companyId, errors, staged.row(), ex);
             }
-            return rows;
-        } catch (IllegalArgumentException ex) {
-            throw ex;
-        } catch (Exception ex) {
-            throw new IllegalArgumentException("Invalid Excel file format");
         }
+        return count;
     }
 
-    private Map<String, Integer> extractHeaderIndex(Row headerRow) {
-        var map = new HashMap<String, Integer>();
-        short lastCellNum = headerRow.getLastCellNum();
-        if (lastCellNum < 0) {
-            return map;
+    private boolean hasFailedManager(List<StagedRow> chunk, Set<UUID> failedEmployeeIds) {
+        if (failedEmployeeIds.isEmpty()) {
+            return false;
         }
-        for (int i = 0; i < lastCellNum; i++) {
-            var header = cellString(headerRow, i);
-            if (!header.isBlank()) {
-                map.put(header.trim().toLowerCase(Locale.ROOT), i);
+        for (var staged : chunk) {
+            if (failedEmployeeIds.contains(staged.employee().getManagerId())) {
+                return true;
             }
         }
-        return map;
+        return false;
     }
 
-    private RawUploadRow mapRow(
-            Row row,
-            int rowNumber,
-            Map<String, Integer> headerIndex) {
-        return new RawUploadRow(
-                rowNumber,
-                normalized(cellString(row, headerIndex.get("employeeid"))),
-                normalized(cellString(row, headerIndex.get("firstname"))),
-                normalized(cellString(row, headerIndex.get("lastname"))),
-                normalized(cellString(row, headerIndex.get("email"))),
-                parseRole(normalized(cellString(row, headerIndex.get("role")))),
-                normalizedNullable(cellString(row, headerIndex.get("manageremployeeid"))),
-                parseDate(normalized(cellString(row, headerIndex.get("joiningdate")))),
-                parseNonNegativeInt(normalized(cellString(row, headerIndex.get("leavebalance")))));
+    private void insert(List<StagedRow> rows) {
+        var employees = new ArrayList<Employee>(rows.size());
+        var authUsers = new ArrayList<AuthUser>(rows.size());
+        var leaveBalances = new ArrayList<LeaveBalance>();
+        for (var staged : rows) {
+            employees.add(staged.employee());
+            authUsers.add(staged.authUser());
+            leaveBalances.addAll(staged.leaveBalances());
+        }
+        employeeRepository.insertAll(employees);
+        authUserRepository.insertAll(authUsers);
+        leaveBalanceRepository.insertAll(leaveBalances);
     }
 
-    private String cellString(Row row, Integer cellIndex) {
-        if (cellIndex == null) {
-            return "";
-        }
-        Cell cell = row.getCell(cellIndex, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
-        if (cell == null) {
-            return "";
-        }
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case NUMERIC -> numericCellToString(cell);
-            case FORMULA -> {
-                var cachedType = cell.getCachedFormulaResultType();
-                if (cachedType == CellType.NUMERIC) {
-                    yield numericCellToString(cell);
-                }
-                yield String.valueOf(cell);
-            }
-            case BLANK -> "";
-            default -> String.valueOf(cell).trim();
-        };
+    private TenantKeys loadTenantKeys(UUID companyId) {
+        var identities = employeeRepository.findIdentitiesByCompanyId(companyId);
+        var employeeCodes = new HashSet<String>(identities.size() * 2);
+        var emails = new HashSet<String>(identities.size() * 2);
+        var employeeIdsByCode = new HashMap<String, UUID>(identities.size() * 2);
+        for (var identity : identities) {
+            employeeCodes.add(identity.employeeCode().toLowerCase(Locale.ROOT));
+            emails.add(identity.email().toLowerCase(Locale.ROOT));
+            employeeIdsByCode.put(identity.employeeCode(), identity.id());
+        }
+        var usernames = new HashSet<String>();
+        for (var username : authUserRepository.findUsernamesByTenantId(companyId)) {
+            usernames.add(username.toLowerCase(Locale.ROOT));
+        }
+        return new TenantKeys(employeeCodes, emails, usernames, employeeIdsByCode);
     }
 
-    private String numericCellToString(Cell cell) {
-        if (DateUtil.isCellDateFormatted(cell)) {
-            return cell.getDateCellValue().toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString();
-        }
-        double value = cell.getNumericCellValue();
-        if (value == Math.rint(value)) {
-            return String.valueOf((long) value);
+    private void recordFailure(UUID companyId, List<BulkUploadRowErrorDto> errors, RawUploadRow row, Exception ex) {
+        errors.add(new BulkUploadRowErrorDto(row.rowNumber(), rootMessage(ex)));
+        log.warn("employee_bulk_upload_row_failed tenant_id={} row={} reason={}",
+                companyId, row.rowNumber(), rootMessage(ex));
+    }
+
+    private int read(RowSource rows, Consumer<RawUploadRow> sink) {
+        try {
+            return rows.forEach(sink);
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Unable to read upload file");
         }
-        return String.valueOf(value);
     }
 
-    private Set<String> duplicates(List<RawUploadRow> rows, java.util.function.Function<RawUploadRow, String> field) {
-        var counts = new HashMap<String, Integer>();
-        for (var row : rows) {
-            var value = normalizedNullable(field.apply(row));
-            if (value == null) {
-                continue;
-            }
+    private void count(Map<String, Integer> counts, String field) {
+        var value = normalizedNullable(field);
+        if (value != null) {
             counts.merge(value.toLowerCase(Locale.ROOT), 1, Integer::sum);
         }
+    }
+
+    private Set<String> duplicates(Map<String, Integer> counts) {
         var duplicates = new HashSet<String>();
         counts.forEach((key, count) -> {
             if (count > 1) {
@@ -364,53 +396,6 @@ public class EmployeeBulkUploadService {
         return duplicates;
     }
 
-    private Role parseRole(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        try {
-            return Role.valueOf(value.trim().toUpperCase(Locale.ROOT));
-        } catch (Exception ex) {
-            return null;
-        }
-    }
-
-    private LocalDate parseDate(String value) {
-        if (value == null || value.isBlank()) {
-            return null;
-        }
-        for (var formatter : List.of(ISO_DATE, DMY_DASH, DMY_SLASH)) {
-            try {
-                return LocalDate.parse(value, formatter);
-            } catch (DateTimeParseException ignored) {
-                // try next format
-            }
-        }
-        return null;
-    }
-
-    private int parseNonNegativeInt(String value) {
-        if (value == null || value.isBlank()) {
-            throw new IllegalArgumentException("leaveBalance is required");
-        }
-        try {
-            var parsed = Integer.parseInt(value);
-            if (parsed < 0) {
-                throw new IllegalArgumentException("leaveBalance must be greater than or equal to 0");
-            }
-            return parsed;
-        } catch (NumberFormatException ex) {
-            throw new IllegalArgumentException("leaveBalance must be a valid integer");
-        }
-    }
-
-    private boolean isDataRowEmpty(RawUploadRow row) {
-        return row.employeeId().isBlank()
-                && row.firstName().isBlank()
-                && row.lastName().isBlank()
-                && row.email().isBlank();
-    }
-
     private String normalized(String value) {
         return value == null ? "" : value.trim();
     }
@@ -421,9 +406,7 @@ public class EmployeeBulkUploadService {
     }
 
     private Company findCompanyByCompanyId(UUID companyId) {
-        return companyRepository.findAll().stream()
-                .filter(company -> companyId.equals(company.getCompanyId()))
-                .findFirst()
+        return companyRepository.findFirstByCompanyId(companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Company not found in tenant context"));
     }
 
@@ -444,15 +427,99 @@ public class EmployeeBulkUploadService {
         return "Unexpected row processing error";
     }
 
-    private record RawUploadRow(
-            int rowNumber,
-            String employeeId,
-            String firstName,
-            String lastName,
-            String email,
-            Role role,
-            String managerEmployeeId,
-            LocalDate joiningDate,
-            int leaveBalance) {
+    interface RowSource {
+
+        int forEach(Consumer<RawUploadRow> sink) throws IOException;
+    }
+
+    interface ProgressListener {
+
+        void onProgress(int totalRows, int processedRows, int successCount, List<BulkUploadRowErrorDto> newErrors);
+    }
+
+    private final class ChunkWriter {
+
+        private final UUID companyId;
+        private final int totalRows;
+        private final ProgressListener progress;
+        private final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        private final List<BulkUploadRowErrorDto> errors = new ArrayList<>();
+        private final Set<UUID> failedEmployeeIds = new HashSet<>();
+        private List<StagedRow> staging = new ArrayList<>(PERSIST_CHUNK_SIZE);
+        private List<StagedRow> pending;
+        private CompletableFuture<Void> pendingHashes;
+        private int processedRows;
+        private int successCount;
+        private int reportedErrors;
+
+        private ChunkWriter(UUID companyId, int totalRows, ProgressListener progress) {
+            this.companyId = companyId;
+            this.totalRows = totalRows;
+            this.progress = progress;
+        }
+
+        private void add(StagedRow staged) {
+            staging.add(staged);
+            if (staging.size() == PERSIST_CHUNK_SIZE) {
+                submit();
+            }
+        }
+
+        private void reject(RawUploadRow row, Exception ex) {
+            recordFailure(companyId, errors, row, ex);
+            processedRows++;
+        }
+
+        private BulkUploadResultDto finish() {
+            if (!staging.isEmpty()) {
+                submit();
+            }
+            persistPending();
+            if (reportedErrors < errors.size()) {
+                report();
+            }
+            errors.sort(Comparator.comparingInt(BulkUploadRowErrorDto::rowNumber));
+            return new BulkUploadResultDto(totalRows, successCount, errors.size(), List.copyOf(errors));
+        }
+
+        private void submit() {
+            var hashes = hashPasswords(staging);
+            persistPending();
+            pending = staging;
+            pendingHashes = hashes;
+            staging = new ArrayList<>(PERSIST_CHUNK_SIZE);
+        }
+
+        private void persistPending() {
+            if (pending == null) {
+                return;
+            }
+            pendingHashes.join();
+            successCount += persistChunk(companyId, pending, transactionTemplate, errors, failedEmployeeIds);
+            processedRows += pending.size();
+            pending = null;
+            pendingHashes = null;
+            report();
+        }
+
+        private void report() {
+            progress.onProgress(
+                    totalRows, processedRows, successCount, List.copyOf(errors.subList(reportedErrors, errors.size())));
+            reportedErrors = errors.size();
+        }
+    }
+
+    private record TenantKeys(
+            Set<String> employeeCodes,
+            Set<String> emails,
+            Set<String> usernames,
+            Map<String, UUID> employeeIdsByCode) {
+    }
+
+    private record StagedRow(
+            RawUploadRow row,
+            Employee employee,
+            AuthUser authUser,
+            List<LeaveBalance> leaveBalances) {
     }
 }
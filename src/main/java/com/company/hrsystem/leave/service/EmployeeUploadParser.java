@@ -0,0 +1,412 @@
+package com.company.hrsystem.leave.service;
+
+import com.company.hrsystem.auth.entity.Role;
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.xml.sax.InputSource;
+
+@Component
+public class EmployeeUploadParser {
+
+    private static final List<String> REQUIRED_HEADERS = List.of(
+            "employeeId",
+            "firstName",
+            "lastName",
+            "email",
+            "role",
+            "managerEmployeeId",
+            "joiningDate",
+            "leaveBalance");
+
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final DateTimeFormatter DMY_DASH = DateTimeFormatter.ofPattern("dd-MM-uuuu");
+    private static final DateTimeFormatter DMY_SLASH = DateTimeFormatter.ofPattern("dd/MM/uuuu");
+
+    public int parse(InputStream inputStream, String filename, int maxRows, Consumer<RawUploadRow> sink) throws IOException {
+        var limited = new RowLimit(maxRows, sink);
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".csv")) {
+            parseCsv(inputStream, limited);
+            return limited.count;
+        }
+        var buffered = new BufferedInputStream(inputStream);
+        switch (FileMagic.valueOf(buffered)) {
+            case OOXML -> parseXlsx(buffered, limited);
+            case OLE2 -> parseWorkbook(buffered, limited);
+            default -> throw new IllegalArgumentException("Invalid Excel file format");
+        }
+        return limited.count;
+    }
+
+    private void parseCsv(InputStream inputStream, RowLimit sink) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        var record = new ArrayList<String>();
+        if (!readCsvRecord(reader, record)) {
+            throw new IllegalArgumentException("Missing header row");
+        }
+        var headerIndex = headerIndex(record);
+        var recordNumber = 1;
+        while (readCsvRecord(reader, record)) {
+            recordNumber++;
+            var values = record;
+            accept(sink, recordNumber, headerIndex, column -> column < values.size() ? values.get(column) : "");
+        }
+    }
+
+    private boolean readCsvRecord(Reader reader, List<String> record) throws IOException {
+        record.clear();
+        var field = new StringBuilder();
+        var quoted = false;
+        var any = false;
+        int ch;
+        while ((ch = reader.read()) != -1) {
+            any = true;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"') {
+                quoted = true;
+            } else if (ch == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append((char) ch);
+            }
+        }
+        if (!any) {
+            return false;
+        }
+        record.add(field.toString());
+        return true;
+    }
+
+    private void parseXlsx(InputStream inputStream, RowLimit sink) throws IOException {
+        var tempFile = Files.createTempFile("employee-upload-", ".xlsx");
+        try {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            try (var pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ)) {
+                var reader = new XSSFReader(pkg);
+                var sheets = reader.getSheetsData();
+                if (!sheets.hasNext()) {
+                    throw new IllegalArgumentException("Workbook must contain at least one sheet");
+                }
+                var handler = new SheetRowHandler(sink);
+                var xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new XSSFSheetXMLHandler(
+                        reader.getStylesTable(),
+                        null,
+                        new ReadOnlySharedStringsTable(pkg),
+                        handler,
+                        new IsoDateDataFormatter(),
+                        false));
+                try (var sheet = sheets.next()) {
+                    xmlReader.parse(new InputSource(sheet));
+                }
+                if (handler.headerIndex == null) {
+                    throw new IllegalArgumentException("Missing header row");
+                }
+            }
+        } catch (IllegalArgumentException | IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Invalid Excel file format");
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void parseWorkbook(InputStream inputStream, RowLimit sink) {
+        try (var workbook = WorkbookFactory.create(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            if (sheet == null) {
+                throw new IllegalArgumentException("Workbook must contain at least one sheet");
+            }
+
+            Row headerRow = sheet.getRow(0);
+            if (headerRow == null) {
+                throw new IllegalArgumentException("Missing header row");
+            }
+
+            var headers = new ArrayList<String>();
+            for (int i = 0; i < Math.max(0, headerRow.getLastCellNum()); i++) {
+                headers.add(cellString(headerRow, i));
+            }
+            var headerIndex = headerIndex(headers);
+
+            int lastRowNum = sheet.getLastRowNum();
+            for (int rowNum = 1; rowNum <= lastRowNum; rowNum++) {
+                Row row = sheet.getRow(rowNum);
+                if (row == null) {
+                    continue;
+                }
+                accept(sink, rowNum + 1, headerIndex, column -> cellString(row, column));
+            }
+        } catch (IllegalArgumentException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalArgumentException("Invalid Excel file format");
+        }
+    }
+
+    private Map<String, Integer> headerIndex(List<String> headers) {
+        var map = new HashMap<String, Integer>();
+        for (int i = 0; i < headers.size(); i++) {
+            var header = headers.get(i);
+            if (header != null && !header.isBlank()) {
+                map.put(header.trim().toLowerCase(Locale.ROOT), i);
+            }
+        }
+        for (var required : REQUIRED_HEADERS) {
+            if (!map.containsKey(required.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Missing required column: " + required);
+            }
+        }
+        return map;
+    }
+
+    private void accept(RowLimit sink, int rowNumber, Map<String, Integer> headerIndex, CellSource cells) {
+        var employeeId = normalized(value(cells, headerIndex.get("employeeid")));
+        var firstName = normalized(value(cells, headerIndex.get("firstname")));
+        var lastName = normalized(value(cells, headerIndex.get("lastname")));
+        var email = normalized(value(cells, headerIndex.get("email")));
+        if (employeeId.isBlank() && firstName.isBlank() && lastName.isBlank() && email.isBlank()) {
+            return;
+        }
+        sink.accept(new RawUploadRow(
+                rowNumber,
+                employeeId,
+                firstName,
+                lastName,
+                email,
+                parseRole(normalized(value(cells, headerIndex.get("role")))),
+                normalizedNullable(value(cells, headerIndex.get("manageremployeeid"))),
+                parseDate(normalized(value(cells, headerIndex.get("joiningdate")))),
+                parseNonNegativeInt(normalized(value(cells, headerIndex.get("leavebalance"))))));
+    }
+
+    private String value(CellSource cells, Integer column) {
+        return column == null ? "" : cells.value(column);
+    }
+
+    private String cellString(Row row, int cellIndex) {
+        Cell cell = row.getCell(cellIndex, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
+        if (cell == null) {
+            return "";
+        }
+
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue();
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            case NUMERIC -> numericCellToString(cell);
+            case FORMULA -> {
+                var cachedType = cell.getCachedFormulaResultType();
+                if (cachedType == CellType.NUMERIC) {
+                    yield numericCellToString(cell);
+                }
+                yield String.valueOf(cell);
+            }
+            case BLANK -> "";
+            default -> String.valueOf(cell).trim();
+        };
+    }
+
+    private String numericCellToString(Cell cell) {
+        if (DateUtil.isCellDateFormatted(cell)) {
+            return cell.getDateCellValue().toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString();
+        }
+        return numberToString(cell.getNumericCellValue());
+    }
+
+    private static String numberToString(double value) {
+        if (value == Math.rint(value)) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    private Role parseRole(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Role.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (var formatter : List.of(ISO_DATE, DMY_DASH, DMY_SLASH)) {
+            try {
+                return LocalDate.parse(value, formatter);
+            } catch (DateTimeParseException ignored) {
+                // try next format
+            }
+        }
+        return null;
+    }
+
+    private int parseNonNegativeInt(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("leaveBalance is required");
+        }
+        try {
+            var parsed = Integer.parseInt(value);
+            if (parsed < 0) {
+                throw new IllegalArgumentException("leaveBalance must be greater than or equal to 0");
+            }
+            return parsed;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("leaveBalance must be a valid integer");
+        }
+    }
+
+    private String normalized(String value) {
+        return value == null ? "" : value.trim();
+    }
+
+    private String normalizedNullable(String value) {
+        var normalized = normalized(value);
+        return normalized.isBlank() ? null : normalized;
+    }
+
+    private interface CellSource {
+        String value(int column);
+    }
+
+    private static final class RowLimit implements Consumer<RawUploadRow> {
+
+        private final int maxRows;
+        private final Consumer<RawUploadRow> delegate;
+        private int count;
+
+        private RowLimit(int maxRows, Consumer<RawUploadRow> delegate) {
+            this.maxRows = maxRows;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void accept(RawUploadRow row) {
+            if (++count > maxRows) {
+                throw new IllegalArgumentException("Upload file exceeds maximum rows: " + maxRows);
+            }
+            delegate.accept(row);
+        }
+    }
+
+    private final class SheetRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowLimit sink;
+        private final List<String> cells = new ArrayList<>();
+        private Map<String, Integer> headerIndex;
+        private int currentRow;
+        private int nextColumn;
+
+        private SheetRowHandler(RowLimit sink) {
+            this.sink = sink;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            currentRow = rowNum;
+            nextColumn = 0;
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (headerIndex == null) {
+                if (rowNum != 0) {
+                    throw new IllegalArgumentException("Missing header row");
+                }
+                headerIndex = headerIndex(cells);
+                return;
+            }
+            accept(sink, currentRow + 1, headerIndex, column -> column < cells.size() ? cells.get(column) : "");
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            var column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+            nextColumn = column + 1;
+        }
+    }
+
+    private static final class IsoDateDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getJavaDate(value, use1904Windowing).toInstant().atZone(ZoneOffset.UTC).toLocalDate().toString();
+            }
+            return numberToString(value);
+        }
+    }
+
+    record RawUploadRow(
+            int rowNumber,
+            String employeeId,
+            String firstName,
+            String lastName,
+            String email,
+            Role role,
+            String managerEmployeeId,
+            LocalDate joiningDate,
+            int leaveBalance) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.company.hrsystem.leave.service;
 
 import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
 import com.company.hrsystem.leave.dto.LeaveBalanceAdjustRequest;
 import com.company.hrsystem.leave.dto.LeaveBalanceCreateRequest;
@@ -23,6 +24,7 @@ public class LeaveBalanceService {
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final EmployeeRepository employeeRepository;
     private final LeaveTypeRepository leaveTypeRepository;
+    private final DashboardCache dashboardCache;
 
     @Transactional
     public LeaveBalanceDto createOrUpdate(LeaveBalanceCreateRequest request) {
@@ -41,6 +43,7 @@ public class LeaveBalanceService {
         balance.setUsed(request.used());
         validateUsage(balance.getAllocated(), balance.getUsed());
         recalculateRemaining(balance);
+        evictDashboard(balance);
         return toDto(leaveBalanceRepository.save(balance));
     }
 
@@ -70,6 +73,7 @@ public class LeaveBalanceService {
         balance.setAllocated(newAllocated);
         balance.setUsed(newUsed);
         recalculateRemaining(balance);
+        evictDashboard(balance);
 
         return toDto(leaveBalanceRepository.save(balance));
     }
@@ -93,6 +97,7 @@ public class LeaveBalanceService {
         balance.setUsed(request.used());
         validateUsage(balance.getAllocated(), balance.getUsed());
         recalculateRemaining(balance);
+        evictDashboard(balance);
         return toDto(leaveBalanceRepository.save(balance));
     }
 
@@ -102,6 +107,14 @@ public class LeaveBalanceService {
         var balance = leaveBalanceRepository.findByIdAndCompanyId(balanceId, companyId)
                 .orElseThrow(() -> new EntityNotFoundException("Leave balance not found"));
         leaveBalanceRepository.delete(balance);
+        evictDashboard(balance);
+    }
+
+    private void evictDashboard(LeaveBalance balance) {
+        dashboardCache.evictEmployeeAfterCompletion(
+                balance.getCompanyId(),
+                balance.getEmployeeId(),
+                DashboardCache.Section.LEAVE_BALANCES);
     }
 
     private LeaveBalance newBalance(UUID companyId, UUID employeeId, UUID leaveTypeId, Integer year) {
@@ -3,11 +3,14 @@ package com.company.hrsystem.leave.service;
 import com.company.hrsystem.auth.security.CustomUserDetails;
 import com.company.hrsystem.common.audit.Auditable;
 import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.dashboard.service.DashboardCache;
 import com.company.hrsystem.employee.entity.Employee;
 import com.company.hrsystem.employee.repository.EmployeeRepository;
 import com.company.hrsystem.leave.dto.LeaveApplyRequest;
 import com.company.hrsystem.leave.dto.LeaveRequestCreateRequest;
 import com.company.hrsystem.leave.dto.LeaveRequestDto;
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import com.company.hrsystem.leave.dto.LeaveRequestPageDto;
 import com.company.hrsystem.leave.entity.LeaveBalance;
 import com.company.hrsystem.leave.entity.LeaveRequest;
 import com.company.hrsystem.leave.entity.LeaveStatus;
@@ -18,8 +21,10 @@ import com.company.hrsystem.leave.repository.LeaveTypeRepository;
 import com.company.hrsystem.notification.entity.NotificationType;
 import com.company.hrsystem.notification.service.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -38,6 +43,9 @@ public class LeaveRequestService {
 
     private static final Logger log = LoggerFactory.getLogger(LeaveRequestService.class);
     private static final List<LeaveStatus> OVERLAP_BLOCKING_STATUSES = List.of(LeaveStatus.PENDING, LeaveStatus.APPROVED);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final LeaveRequestFilter NO_FILTER = new LeaveRequestFilter(null, null, null, null, null);
 
     private final LeaveRequestRepository leaveRequestRepository;
     private final EmployeeRepository employeeRepository;
@@ -45,6 +53,7 @@ public class LeaveRequestService {
     private final LeaveBalanceRepository leaveBalanceRepository;
     private final NotificationService notificationService;
     private final LeaveEntitlementService leaveEntitlementService;
+    private final DashboardCache dashboardCache;
 
     @Transactional
     public LeaveRequestDto create(LeaveRequestCreateRequest request) {
@@ -87,21 +96,33 @@ public class LeaveRequestService {
 
     @Transactional(readOnly = true)
     public List<LeaveRequestDto> list() {
+        return searchAll(requireCompanyId(), NO_FILTER);
+    }
+
+    @Transactional(readOnly = true)
+    public LeaveRequestPageDto list(LeaveRequestFilter filter, String cursor, int limit) {
         var companyId = requireCompanyId();
-        return leaveRequestRepository.findByCompanyIdOrderByFromDateDesc(companyId)
-                .stream()
-                .map(this::toDto)
-                .toList();
+        return search(companyId, filter, cursor, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public LeaveRequestPageDto listMyRequests(LeaveRequestFilter filter, String cursor, int limit) {
+        var companyId = requireCompanyId();
+        var currentEmployeeId = requireCurrentEmployeeId();
+        var employeeFilter = new LeaveRequestFilter(
+                filter.status(), currentEmployeeId, filter.leaveType(), filter.fromDate(), filter.toDate());
+        return search(companyId, employeeFilter, cursor, limit);
     }
 
     @Transactional(readOnly = true)
     public List<LeaveRequestDto> listMyRequests() {
         var companyId = requireCompanyId();
         var currentEmployeeId = requireCurrentEmployeeId();
-        return leaveRequestRepository.findByCompanyIdAndEmployeeIdOrderByFromDateDesc(companyId, currentEmployeeId)
-                .stream()
-                .map(this::toDto)
-                .toList();
+        return searchAll(companyId, new LeaveRequestFilter(null, currentEmployeeId, null, null, null));
+    }
+
+    public List<LeaveRequestDto> listRecentMyRequests() {
+        return listMyRequests(NO_FILTER, null, DEFAULT_PAGE_SIZE).items();
     }
 
     @Transactional(readOnly = true)
@@ -202,6 +223,12 @@ public class LeaveRequestService {
         leaveRequest.setApproverId(approverEmployeeId);
         leaveRequest.setRemarks(normalizeNullable(remarks));
         var saved = leaveRequestRepository.save(leaveRequest);
+        dashboardCache.evictEmployeeAfterCompletion(
+                companyId,
+                saved.getEmployeeId(),
+                DashboardCache.Section.LEAVES,
+                DashboardCache.Section.LEAVE_BALANCES,
+                DashboardCache.Section.ATTENDANCE);
         notifyRequesterOnDecision(companyId, saved, status);
         log.info("leave_status_updated tenant_id={} leave_request_id={} from_status={} to_status={} approver_employee_id={}",
                 companyId, leaveRequest.getId(), currentStatus, status, approverEmployeeId);
@@ -227,6 +254,7 @@ public class LeaveRequestService {
         leaveRequest.setStatus(LeaveStatus.PENDING);
         leaveRequest.setApproverId(null);
         leaveRequest.setRemarks(null);
+        dashboardCache.evictEmployeeAfterCompletion(companyId, employeeId, DashboardCache.Section.LEAVES);
         return leaveRequestRepository.save(leaveRequest);
     }
 
@@ -328,6 +356,54 @@ public class LeaveRequestService {
         return principal.getEmployeeId();
     }
 
+    private List<LeaveRequestDto> searchAll(UUID companyId, LeaveRequestFilter filter) {
+        var all = new ArrayList<LeaveRequestDto>();
+        LocalDate afterFromDate = null;
+        UUID afterId = null;
+        while (true) {
+            var rows = leaveRequestRepository.search(companyId, filter, afterFromDate, afterId, MAX_PAGE_SIZE);
+            all.addAll(rows);
+            if (rows.size() < MAX_PAGE_SIZE) {
+                return all;
+            }
+            var last = rows.getLast();
+            afterFromDate = last.fromDate();
+            afterId = last.id();
+        }
+    }
+
+    private LeaveRequestPageDto search(UUID companyId, LeaveRequestFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (filter.fromDate() != null && filter.toDate() != null) {
+            validateDateRange(filter.fromDate(), filter.toDate());
+        }
+
+        LocalDate afterFromDate = null;
+        UUID afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                var separator = decoded.indexOf('|');
+                afterFromDate = LocalDate.parse(decoded.substring(0, separator));
+                afterId = UUID.fromString(decoded.substring(separator + 1));
+            } catch (RuntimeException ex) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+        }
+
+        var rows = leaveRequestRepository.search(companyId, filter, afterFromDate, afterId, limit + 1);
+        if (rows.size() <= limit) {
+            return new LeaveRequestPageDto(rows, null);
+        }
+        var items = rows.subList(0, limit);
+        var last = items.get(limit - 1);
+        var nextCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((last.fromDate() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+        return new LeaveRequestPageDto(List.copyOf(items), nextCursor);
+    }
+
     private void validateDateRange(LocalDate from, LocalDate to) {
         if (from.isAfter(to)) {
             throw new IllegalArgumentException("fromDate must be less than or equal to toDate");
@@ -1,6 +1,7 @@
 package com.company.hrsystem.notification.controller;
 
 import com.company.hrsystem.notification.dto.MyNotificationsResponse;
+import com.company.hrsystem.notification.dto.UnreadCountResponse;
 import com.company.hrsystem.notification.service.NotificationService;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +26,19 @@ public class NotificationController {
         return notificationService.myNotifications();
     }
 
+    @GetMapping("/my/unread-count")
+    @PreAuthorize("hasAnyRole('EMPLOYEE','HR')")
+    public UnreadCountResponse myUnreadCount() {
+        return notificationService.myUnreadCount();
+    }
+
+    @PutMapping("/my/read-all")
+    @PreAuthorize("hasAnyRole('EMPLOYEE','HR')")
+    public ResponseEntity<Void> markAllAsRead() {
+        notificationService.markAllAsRead();
+        return ResponseEntity.noContent().build();
+    }
+
     @PutMapping("/{notificationId}/read")
     @PreAuthorize("hasAnyRole('EMPLOYEE','HR')")
     public ResponseEntity<Void> markAsRead(@PathVariable UUID notificationId) {
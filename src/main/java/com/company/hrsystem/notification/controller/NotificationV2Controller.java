@@ -0,0 +1,26 @@
+package com.company.hrsystem.notification.controller;
+
+import com.company.hrsystem.notification.dto.MyNotificationsPageResponse;
+import com.company.hrsystem.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v2/notifications")
+@RequiredArgsConstructor
+public class NotificationV2Controller {
+
+    private final NotificationService notificationService;
+
+    @GetMapping("/my")
+    @PreAuthorize("hasAnyRole('EMPLOYEE','HR')")
+    public MyNotificationsPageResponse myNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        return notificationService.myNotifications(cursor, limit);
+    }
+}
@@ -0,0 +1,9 @@
+package com.company.hrsystem.notification.dto;
+
+import java.util.List;
+
+public record MyNotificationsPageResponse(
+        long unreadCount,
+        List<NotificationDto> notifications,
+        String nextCursor) {
+}
@@ -0,0 +1,4 @@
+package com.company.hrsystem.notification.dto;
+
+public record UnreadCountResponse(long unreadCount) {
+}
@@ -18,7 +18,11 @@ import lombok.Setter;
         @Index(name = "idx_notification_log_company_id", columnList = "company_id"),
         @Index(name = "idx_notification_log_tenant_id", columnList = "tenant_id"),
         @Index(name = "idx_notification_log_user_id", columnList = "user_id"),
-        @Index(name = "idx_notification_log_read", columnList = "is_read")
+        @Index(name = "idx_notification_log_read", columnList = "is_read"),
+        @Index(
+                name = "idx_notification_log_company_user_created_id",
+                columnList = "company_id, user_id, created_at desc, id desc"),
+        @Index(name = "idx_notification_log_unread", columnList = "company_id, user_id")
 })
 public class NotificationLog extends BaseEntity {
 
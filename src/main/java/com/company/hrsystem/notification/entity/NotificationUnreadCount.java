@@ -0,0 +1,28 @@
+package com.company.hrsystem.notification.entity;
+
+import com.company.hrsystem.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "notification_unread_counter",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uq_notification_unread_counter_user",
+                        columnNames = {"company_id", "user_id"})
+        })
+public class NotificationUnreadCount extends BaseEntity {
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private Long unreadCount;
+}
@@ -1,16 +1,79 @@
 package com.company.hrsystem.notification.repository;
 
+import com.company.hrsystem.notification.dto.NotificationDto;
 import com.company.hrsystem.notification.entity.NotificationLog;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface NotificationLogRepository extends JpaRepository<NotificationLog, UUID> {
 
-    List<NotificationLog> findByCompanyIdAndUserIdOrderByCreatedAtDesc(UUID companyId, UUID userId);
+    @Query("""
+            select new com.company.hrsystem.notification.dto.NotificationDto(
+                n.id, n.title, n.message, n.type, n.referenceId, n.read, n.createdAt)
+            from NotificationLog n
+            where n.companyId = :companyId
+              and n.userId = :userId
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NotificationDto> findInboxPage(
+            @Param("companyId") UUID companyId,
+            @Param("userId") UUID userId,
+            Pageable pageable);
+
+    @Query("""
+            select new com.company.hrsystem.notification.dto.NotificationDto(
+                n.id, n.title, n.message, n.type, n.referenceId, n.read, n.createdAt)
+            from NotificationLog n
+            where n.companyId = :companyId
+              and n.userId = :userId
+              and (n.createdAt < :afterCreatedAt or (n.createdAt = :afterCreatedAt and n.id < :afterId))
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NotificationDto> findInboxPageAfter(
+            @Param("companyId") UUID companyId,
+            @Param("userId") UUID userId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 
     long countByCompanyIdAndUserIdAndReadFalse(UUID companyId, UUID userId);
 
     Optional<NotificationLog> findByIdAndCompanyIdAndUserId(UUID id, UUID companyId, UUID userId);
+
+    @Modifying
+    @Query("""
+            update NotificationLog n
+            set n.read = true,
+                n.updatedAt = :updatedAt
+            where n.id = :id
+              and n.companyId = :companyId
+              and n.userId = :userId
+              and n.read = false
+            """)
+    int markRead(
+            @Param("id") UUID id,
+            @Param("companyId") UUID companyId,
+            @Param("userId") UUID userId,
+            @Param("updatedAt") Instant updatedAt);
+
+    @Modifying
+    @Query("""
+            update NotificationLog n
+            set n.read = true,
+                n.updatedAt = :updatedAt
+            where n.companyId = :companyId
+              and n.userId = :userId
+              and n.read = false
+            """)
+    int markAllRead(
+            @Param("companyId") UUID companyId,
+            @Param("userId") UUID userId,
+            @Param("updatedAt") Instant updatedAt);
 }
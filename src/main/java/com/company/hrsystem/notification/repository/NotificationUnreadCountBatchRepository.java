@@ -0,0 +1,8 @@
+package com.company.hrsystem.notification.repository;
+
+import java.util.UUID;
+
+public interface NotificationUnreadCountBatchRepository {
+
+    void increment(UUID companyId, UUID userId);
+}
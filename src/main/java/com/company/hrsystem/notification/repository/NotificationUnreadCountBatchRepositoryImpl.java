@@ -0,0 +1,52 @@
+package com.company.hrsystem.notification.repository;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NotificationUnreadCountBatchRepositoryImpl implements NotificationUnreadCountBatchRepository {
+
+    private static final String POSTGRES_UPSERT_SQL = """
+            insert into notification_unread_counter
+                (id, company_id, user_id, unread_count, created_at, updated_at)
+            values (?, ?, ?, 1, ?, ?)
+            on conflict (company_id, user_id) do update set
+                unread_count = notification_unread_counter.unread_count + 1,
+                updated_at = excluded.updated_at
+            """;
+    private static final String MERGE_SQL = """
+            merge into notification_unread_counter nuc
+            using (values (?, ?, ?, ?, ?))
+                as src (id, company_id, user_id, created_at, updated_at)
+            on nuc.company_id = src.company_id
+                and nuc.user_id = src.user_id
+            when matched then update set
+                unread_count = nuc.unread_count + 1,
+                updated_at = src.updated_at
+            when not matched then insert
+                (id, company_id, user_id, unread_count, created_at, updated_at)
+            values (src.id, src.company_id, src.user_id, 1, src.created_at, src.updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String upsertSql;
+
+    @Override
+    public void increment(UUID companyId, UUID userId) {
+        var now = Instant.now().atOffset(ZoneOffset.UTC);
+        jdbcTemplate.update(resolveUpsertSql(), UUID.randomUUID(), companyId, userId, now, now);
+    }
+
+    private String resolveUpsertSql() {
+        if (upsertSql == null) {
+            var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            upsertSql = "PostgreSQL".equalsIgnoreCase(productName) ? POSTGRES_UPSERT_SQL : MERGE_SQL;
+        }
+        return upsertSql;
+    }
+}
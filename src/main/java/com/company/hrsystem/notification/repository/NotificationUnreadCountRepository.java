@@ -0,0 +1,30 @@
+package com.company.hrsystem.notification.repository;
+
+import com.company.hrsystem.notification.entity.NotificationUnreadCount;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationUnreadCountRepository
+        extends JpaRepository<NotificationUnreadCount, UUID>, NotificationUnreadCountBatchRepository {
+
+    Optional<NotificationUnreadCount> findByCompanyIdAndUserId(UUID companyId, UUID userId);
+
+    @Modifying
+    @Query("""
+            update NotificationUnreadCount c
+            set c.unreadCount = case when c.unreadCount > :count then c.unreadCount - :count else 0 end,
+                c.updatedAt = :updatedAt
+            where c.companyId = :companyId
+              and c.userId = :userId
+            """)
+    int decrement(
+            @Param("companyId") UUID companyId,
+            @Param("userId") UUID userId,
+            @Param("count") long count,
+            @Param("updatedAt") Instant updatedAt);
+}
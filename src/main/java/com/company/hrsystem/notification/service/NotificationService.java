@@ -2,16 +2,26 @@ package com.company.hrsystem.notification.service;
 
 import com.company.hrsystem.auth.security.CustomUserDetails;
 import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.notification.dto.MyNotificationsPageResponse;
 import com.company.hrsystem.notification.dto.MyNotificationsResponse;
 import com.company.hrsystem.notification.dto.NotificationDto;
+import com.company.hrsystem.notification.dto.UnreadCountResponse;
 import com.company.hrsystem.notification.entity.NotificationLog;
 import com.company.hrsystem.notification.entity.NotificationType;
+import com.company.hrsystem.notification.entity.NotificationUnreadCount;
 import com.company.hrsystem.notification.repository.NotificationLogRepository;
+import com.company.hrsystem.notification.repository.NotificationUnreadCountRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -22,8 +32,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationService {
 
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final NotificationLogRepository notificationLogRepository;
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
 
     @Transactional
     public void createNotification(
@@ -43,6 +55,7 @@ public class NotificationService {
         notification.setReferenceId(referenceId);
         notification.setRead(Boolean.FALSE);
         notificationLogRepository.save(notification);
+        notificationUnreadCountRepository.increment(tenantId, receiverUserId);
         log.info("notification_created tenant_id={} receiver_user_id={} type={} reference_id={}",
                 tenantId, receiverUserId, type, referenceId);
     }
@@ -52,12 +65,49 @@ public class NotificationService {
         var companyId = requireCompanyId();
         var currentEmployeeId = requireCurrentEmployeeId();
 
-        var notifications = notificationLogRepository.findByCompanyIdAndUserIdOrderByCreatedAtDesc(companyId, currentEmployeeId)
-                .stream()
-                .map(this::toDto)
-                .toList();
-        var unreadCount = notificationLogRepository.countByCompanyIdAndUserIdAndReadFalse(companyId, currentEmployeeId);
-        return new MyNotificationsResponse(unreadCount, notifications);
+        var page = PageRequest.of(0, MAX_PAGE_SIZE);
+        var notifications = new ArrayList<NotificationDto>();
+        var rows = notificationLogRepository.findInboxPage(companyId, currentEmployeeId, page);
+        while (true) {
+            notifications.addAll(rows);
+            if (rows.size() < MAX_PAGE_SIZE) {
+                return new MyNotificationsResponse(unreadCount(companyId, currentEmployeeId), notifications);
+            }
+            var last = rows.getLast();
+            rows = notificationLogRepository.findInboxPageAfter(
+                    companyId, currentEmployeeId, last.createdAt(), last.id(), page);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public MyNotificationsPageResponse myNotifications(String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var companyId = requireCompanyId();
+        var currentEmployeeId = requireCurrentEmployeeId();
+
+        var page = PageRequest.of(0, limit + 1);
+        List<NotificationDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationLogRepository.findInboxPage(companyId, currentEmployeeId, page);
+        } else {
+            var after = decodeCursor(cursor);
+            rows = notificationLogRepository.findInboxPageAfter(
+                    companyId, currentEmployeeId, after.createdAt(), after.id(), page);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > limit) {
+            rows = List.copyOf(rows.subList(0, limit));
+            nextCursor = encodeCursor(rows.get(limit - 1));
+        }
+        return new MyNotificationsPageResponse(unreadCount(companyId, currentEmployeeId), rows, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public UnreadCountResponse myUnreadCount() {
+        return new UnreadCountResponse(unreadCount(requireCompanyId(), requireCurrentEmployeeId()));
     }
 
     @Transactional
@@ -65,25 +115,52 @@ public class NotificationService {
         var companyId = requireCompanyId();
         var currentEmployeeId = requireCurrentEmployeeId();
 
-        var notification = notificationLogRepository.findByIdAndCompanyIdAndUserId(notificationId, companyId, currentEmployeeId)
-                .orElseThrow(() -> new EntityNotFoundException("Notification not found"));
-        if (!Boolean.TRUE.equals(notification.getRead())) {
-            notification.setRead(Boolean.TRUE);
-            notificationLogRepository.save(notification);
+        if (notificationLogRepository.findByIdAndCompanyIdAndUserId(notificationId, companyId, currentEmployeeId).isEmpty()) {
+            throw new EntityNotFoundException("Notification not found");
+        }
+        var now = Instant.now();
+        if (notificationLogRepository.markRead(notificationId, companyId, currentEmployeeId, now) > 0) {
+            notificationUnreadCountRepository.decrement(companyId, currentEmployeeId, 1, now);
             log.info("notification_marked_read tenant_id={} user_id={} notification_id={}",
                     companyId, currentEmployeeId, notificationId);
         }
     }
 
-    private NotificationDto toDto(NotificationLog notification) {
-        return new NotificationDto(
-                notification.getId(),
-                notification.getTitle(),
-                notification.getMessage(),
-                notification.getType(),
-                notification.getReferenceId(),
-                Boolean.TRUE.equals(notification.getRead()),
-                notification.getCreatedAt());
+    @Transactional
+    public void markAllAsRead() {
+        var companyId = requireCompanyId();
+        var currentEmployeeId = requireCurrentEmployeeId();
+
+        var now = Instant.now();
+        var updated = notificationLogRepository.markAllRead(companyId, currentEmployeeId, now);
+        if (updated > 0) {
+            notificationUnreadCountRepository.decrement(companyId, currentEmployeeId, updated, now);
+        }
+        log.info("notification_marked_all_read tenant_id={} user_id={} updated={}",
+                companyId, currentEmployeeId, updated);
+    }
+
+    private long unreadCount(UUID companyId, UUID userId) {
+        return notificationUnreadCountRepository.findByCompanyIdAndUserId(companyId, userId)
+                .map(NotificationUnreadCount::getUnreadCount)
+                .orElse(0L);
+    }
+
+    private String encodeCursor(NotificationDto last) {
+        var raw = last.createdAt() + "|" + last.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InboxCursor decodeCursor(String cursor) {
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var separator = decoded.indexOf('|');
+            return new InboxCursor(
+                    Instant.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 
     private UUID requireCompanyId() {
@@ -102,4 +179,7 @@ public class NotificationService {
         }
         return principal.getEmployeeId();
     }
+
+    private record InboxCursor(Instant createdAt, UUID id) {
+    }
 }
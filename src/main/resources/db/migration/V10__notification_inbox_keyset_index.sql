@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_notification_log_company_user_created_id
+    ON notification_log (company_id, user_id, created_at DESC, id DESC);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS attendance_nightly_run (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    last_reconciled_date DATE,
+    last_finalized_date DATE,
+    refinalize_from_date DATE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uq_attendance_nightly_run_company_id UNIQUE (company_id)
+);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS dashboard_cache_version (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    scope_id UUID NOT NULL,
+    section VARCHAR(32) NOT NULL,
+    version BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uq_dashboard_cache_version_scope_section UNIQUE (company_id, scope_id, section)
+);
@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS notification_unread_counter (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    unread_count BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uq_notification_unread_counter_user UNIQUE (company_id, user_id)
+);
+
+INSERT INTO notification_unread_counter
+    (id, company_id, user_id, unread_count, created_at, updated_at)
+SELECT gen_random_uuid(),
+       nl.company_id,
+       nl.user_id,
+       COUNT(*),
+       now(),
+       now()
+FROM notification_log nl
+WHERE nl.is_read = false
+GROUP BY nl.company_id, nl.user_id
+ON CONFLICT (company_id, user_id) DO NOTHING;
@@ -0,0 +1,8 @@
+ALTER TABLE daily_summary ADD COLUMN IF NOT EXISTS open_check_in_time TIMESTAMP WITH TIME ZONE;
+ALTER TABLE daily_summary ADD COLUMN IF NOT EXISTS first_check_in_time TIMESTAMP WITH TIME ZONE;
+ALTER TABLE daily_summary ADD COLUMN IF NOT EXISTS last_check_out_time TIMESTAMP WITH TIME ZONE;
+ALTER TABLE daily_summary ADD COLUMN IF NOT EXISTS last_event_time TIMESTAMP WITH TIME ZONE;
+ALTER TABLE daily_summary ADD COLUMN IF NOT EXISTS office_entry BOOLEAN;
+
+CREATE INDEX IF NOT EXISTS idx_daily_summary_company_date_finalized
+    ON daily_summary (company_id, summary_date, finalized);
@@ -0,0 +1,7 @@
+ALTER TABLE biometric_event_log ADD COLUMN IF NOT EXISTS processing_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE biometric_event_log ADD COLUMN IF NOT EXISTS last_error VARCHAR(500);
+ALTER TABLE biometric_event_log ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX IF NOT EXISTS idx_biometric_event_log_unprocessed
+    ON biometric_event_log (created_at)
+    WHERE processed = false AND dead_lettered_at IS NULL;
@@ -0,0 +1,13 @@
+ALTER TABLE refresh_token ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+
+UPDATE refresh_token
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex')
+WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_token ALTER COLUMN token_hash SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_refresh_token_token_hash ON refresh_token (token_hash);
+ALTER TABLE refresh_token DROP COLUMN IF EXISTS token;
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_revoked_at
+    ON refresh_token (revoked_at)
+    WHERE revoked_at IS NOT NULL;
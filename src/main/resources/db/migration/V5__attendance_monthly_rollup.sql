@@ -0,0 +1,39 @@
+CREATE TABLE IF NOT EXISTS attendance_monthly_rollup (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    employee_id UUID NOT NULL,
+    rollup_month DATE NOT NULL,
+    finalized_days INTEGER NOT NULL,
+    working_days INTEGER NOT NULL,
+    present_days INTEGER NOT NULL,
+    absent_days INTEGER NOT NULL,
+    wfh_days INTEGER NOT NULL,
+    office_days INTEGER NOT NULL,
+    worked_minutes BIGINT NOT NULL,
+    late_days INTEGER NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT uq_attendance_monthly_rollup_company_employee_month UNIQUE (company_id, employee_id, rollup_month)
+);
+
+INSERT INTO attendance_monthly_rollup
+    (id, company_id, employee_id, rollup_month, finalized_days, working_days, present_days, absent_days,
+     wfh_days, office_days, worked_minutes, late_days, created_at, updated_at)
+SELECT gen_random_uuid(),
+       ds.company_id,
+       ds.employee_id,
+       CAST(date_trunc('month', ds.summary_date) AS DATE),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE ds.attendance_status IS NULL OR ds.attendance_status NOT IN ('HOLIDAY', 'WEEK_OFF')),
+       COUNT(*) FILTER (WHERE ds.attendance_status = 'PRESENT'),
+       COUNT(*) FILTER (WHERE ds.attendance_status = 'ABSENT'),
+       COUNT(*) FILTER (WHERE ds.attendance_status = 'PRESENT' AND COALESCE(ds.attendance_mode, 'WFH') = 'WFH'),
+       COUNT(*) FILTER (WHERE ds.attendance_status = 'PRESENT' AND ds.attendance_mode = 'OFFICE'),
+       COALESCE(SUM(ds.worked_minutes), 0),
+       COUNT(*) FILTER (WHERE ds.late_arrival = true),
+       now(),
+       now()
+FROM daily_summary ds
+WHERE ds.finalized = true
+GROUP BY ds.company_id, ds.employee_id, CAST(date_trunc('month', ds.summary_date) AS DATE)
+ON CONFLICT (company_id, employee_id, rollup_month) DO NOTHING;
@@ -0,0 +1,29 @@
+CREATE TABLE IF NOT EXISTS bulk_upload_job (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    requested_by UUID,
+    filename VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    total_rows INTEGER NOT NULL,
+    processed_rows INTEGER NOT NULL,
+    success_count INTEGER NOT NULL,
+    failed_count INTEGER NOT NULL,
+    failure_reason VARCHAR(1000),
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bulk_upload_job_error (
+    id UUID PRIMARY KEY,
+    company_id UUID NOT NULL,
+    job_id UUID NOT NULL REFERENCES bulk_upload_job (id) ON DELETE CASCADE,
+    source_row_number INTEGER NOT NULL,
+    message VARCHAR(1000) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_bulk_upload_job_error_job_row
+    ON bulk_upload_job_error (job_id, source_row_number);
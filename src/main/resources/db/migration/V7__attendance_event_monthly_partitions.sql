@@ -0,0 +1,60 @@
+ALTER TABLE attendance_event RENAME TO attendance_event_legacy;
+ALTER TABLE attendance_event_legacy RENAME CONSTRAINT attendance_event_pkey TO attendance_event_legacy_pkey;
+ALTER TABLE attendance_event_legacy RENAME CONSTRAINT uq_attendance_event_device_log_id TO uq_attendance_event_legacy_device_log_id;
+ALTER INDEX IF EXISTS idx_attendance_event_company_id RENAME TO idx_attendance_event_legacy_company_id;
+ALTER INDEX IF EXISTS idx_attendance_event_employee_time RENAME TO idx_attendance_event_legacy_employee_time;
+
+CREATE TABLE attendance_event (LIKE attendance_event_legacy INCLUDING DEFAULTS)
+    PARTITION BY RANGE (event_time);
+
+ALTER TABLE attendance_event ADD CONSTRAINT attendance_event_pkey PRIMARY KEY (id, event_time);
+ALTER TABLE attendance_event ADD CONSTRAINT uq_attendance_event_device_log_id UNIQUE (device_log_id, event_time);
+CREATE INDEX idx_attendance_event_company_id ON attendance_event (company_id);
+CREATE INDEX idx_attendance_event_employee_time ON attendance_event (company_id, employee_id, event_time);
+
+CREATE TABLE attendance_event_default PARTITION OF attendance_event DEFAULT;
+
+DO $$
+DECLARE
+    partition_month DATE;
+    last_month DATE;
+BEGIN
+    SELECT COALESCE(
+                   CAST(date_trunc('month', MIN(event_time) AT TIME ZONE 'UTC') AS DATE),
+                   CAST(date_trunc('month', now() AT TIME ZONE 'UTC') AS DATE))
+    INTO partition_month
+    FROM attendance_event_legacy;
+    last_month := CAST(date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months' AS DATE);
+
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF attendance_event FOR VALUES FROM (%L) TO (%L)',
+                'attendance_event_' || to_char(partition_month, 'YYYYMM'),
+                to_char(partition_month, 'YYYY-MM-DD') || ' 00:00:00+00',
+                to_char(partition_month + INTERVAL '1 month', 'YYYY-MM-DD') || ' 00:00:00+00');
+        partition_month := CAST(partition_month + INTERVAL '1 month' AS DATE);
+    END LOOP;
+END $$;
+
+INSERT INTO attendance_event SELECT * FROM attendance_event_legacy;
+
+-- Partitioned unique keys must include event_time, so global device_log_id dedup lives in an unpartitioned key table.
+CREATE TABLE attendance_event_device_log (
+    device_log_id VARCHAR(120) PRIMARY KEY
+);
+
+INSERT INTO attendance_event_device_log (device_log_id)
+SELECT device_log_id FROM attendance_event_legacy;
+
+CREATE FUNCTION attendance_event_claim_device_log_id() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO attendance_event_device_log (device_log_id) VALUES (NEW.device_log_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_attendance_event_device_log_id
+    AFTER INSERT ON attendance_event
+    FOR EACH ROW EXECUTE FUNCTION attendance_event_claim_device_log_id();
+
+DROP TABLE attendance_event_legacy;
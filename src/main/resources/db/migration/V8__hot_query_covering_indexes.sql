@@ -0,0 +1,16 @@
+CREATE INDEX IF NOT EXISTS idx_attendance_event_company_type_time
+    ON attendance_event (company_id, event_type, event_time)
+    INCLUDE (employee_id, source);
+
+CREATE INDEX IF NOT EXISTS idx_attendance_event_employee_type_time
+    ON attendance_event (company_id, employee_id, event_type, event_time);
+
+CREATE INDEX IF NOT EXISTS idx_leave_request_company_status_dates
+    ON leave_request (company_id, status, from_date, to_date);
+
+CREATE INDEX IF NOT EXISTS idx_employee_company_manager
+    ON employee (company_id, manager_id);
+
+CREATE INDEX IF NOT EXISTS idx_notification_log_unread
+    ON notification_log (company_id, user_id)
+    WHERE is_read = false;
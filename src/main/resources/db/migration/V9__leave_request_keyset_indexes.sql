@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS idx_leave_request_company_from_date_id
+    ON leave_request (company_id, from_date DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_leave_request_company_employee_from_date_id
+    ON leave_request (company_id, employee_id, from_date DESC, id DESC);
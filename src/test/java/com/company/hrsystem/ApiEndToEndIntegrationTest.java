@@ -1,5 +1,6 @@
 package com.company.hrsystem;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -8,6 +9,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.company.hrsystem.auth.entity.Role;
@@ -25,6 +27,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.Filter;
 import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
@@ -334,10 +337,33 @@ class ApiEndToEndIntegrationTest {
                                 "deviceId", "DEVICE-1",
                                 "employeeCode", regularEmployee.getEmployeeCode(),
                                 "eventType", "CHECK_IN",
-                                "eventTime", java.time.LocalDateTime.now().toString(),
+                                "eventTime", LocalDateTime.now().toString(),
                                 "deviceLogId", "BIO-" + UUID.randomUUID())),
                 200);
 
+        var punchBatchTimestamp = LocalDateTime.now().withNano(0);
+        var punchBatch = performJson(
+                withAuthAndJson(
+                        post("/api/v1/biometric/punches:batch"),
+                        hrToken,
+                        List.of(
+                                Map.of(
+                                        "employeeId", managerEmployee.getEmployeeCode(),
+                                        "timestamp", punchBatchTimestamp.toString(),
+                                        "deviceId", "DEVICE-2"),
+                                Map.of(
+                                        "employeeId", managerEmployee.getEmployeeCode(),
+                                        "timestamp", punchBatchTimestamp.toString(),
+                                        "deviceId", "DEVICE-2"),
+                                Map.of(
+                                        "employeeId", "UNKNOWN-EMP",
+                                        "timestamp", punchBatchTimestamp.toString(),
+                                        "deviceId", "DEVICE-2"))),
+                200);
+        assertEquals("IN", punchBatch.get(0).get("punchType").asText());
+        assertEquals("DUPLICATE", punchBatch.get(1).get("punchType").asText());
+        assertEquals("REJECTED", punchBatch.get(2).get("status").asText());
+
         var firstLeaveDate = LocalDate.now().plusDays(5);
         var secondLeaveDate = LocalDate.now().plusDays(6);
         var thirdLeaveDate = LocalDate.now().plusDays(7);
@@ -454,9 +480,10 @@ class ApiEndToEndIntegrationTest {
                                 .file(buildBulkUploadFile())
                                 .header(AUTHORIZATION, "Bearer " + hrToken))
                 .andExpect(status().isOk())
+                .andExpect(header().string("Deprecation", "true"))
                 .andReturn();
         var bulkUploadResponse = objectMapper.readTree(bulkUploadMvcResult.getResponse().getContentAsString());
-        org.junit.jupiter.api.Assertions.assertEquals(1, bulkUploadResponse.get("successCount").asInt());
+        assertEquals(1, bulkUploadResponse.get("successCount").asInt());
     }
 
     private String loginAndGetToken(String username, String password) throws Exception {
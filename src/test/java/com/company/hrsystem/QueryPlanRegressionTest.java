@@ -0,0 +1,344 @@
+package com.company.hrsystem;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.leave.dto.LeaveRequestFilter;
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import com.company.hrsystem.leave.repository.LeaveRequestRepository;
+import com.company.hrsystem.notification.repository.NotificationLogRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// A private database keeps the index rebuild and selectivity changes away from the shared test context.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query_plan_regression")
+@DirtiesContext
+class QueryPlanRegressionTest {
+
+    private static final String TABLE_SCAN = "tableScan";
+    private static final Pattern MIGRATION_VERSION = Pattern.compile("V(\\d+)__.*\\.sql");
+    private static final Pattern INDEX_TABLE = Pattern.compile("\\bON\\s+(?:ONLY\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern INCLUDE_CLAUSE = Pattern.compile("\\s+INCLUDE\\s*\\([^)]*\\)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PARTIAL_CLAUSE = Pattern.compile("\\s+WHERE\\s+.*$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern PREDICATE_COLUMN = Pattern.compile("(\\w+)\\s*=");
+    private static final Map<String, Integer> COLUMN_SELECTIVITY = Map.ofEntries(
+            entry("attendance_event.company_id", 1),
+            entry("attendance_event.employee_id", 1),
+            entry("attendance_event.event_type", 1),
+            entry("leave_request.company_id", 1),
+            entry("leave_request.employee_id", 2),
+            entry("leave_request.status", 1),
+            entry("notification_log.company_id", 1),
+            entry("notification_log.user_id", 2),
+            entry("notification_log.is_read", 1),
+            entry("employee.company_id", 1),
+            entry("employee.manager_id", 5));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AttendanceEventRepository attendanceEventRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private NotificationLogRepository notificationLogRepository;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final UUID employeeId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void applyMigratedIndexes() {
+        var tables = planTables();
+        for (var table : tables) {
+            jdbcTemplate.queryForList("""
+                    select index_name from information_schema.indexes
+                    where table_schema = 'PUBLIC'
+                      and table_name = ?
+                      and index_type_name = 'INDEX'
+                      and is_generated = false
+                    """, String.class, table.toUpperCase(Locale.ROOT))
+                    .forEach(indexName -> jdbcTemplate.execute("drop index " + indexName));
+        }
+        for (var statement : migrationIndexStatements()) {
+            var matcher = INDEX_TABLE.matcher(statement);
+            if (statement.regionMatches(true, 0, "drop", 0, 4)) {
+                jdbcTemplate.execute(statement);
+            } else if (matcher.find() && tables.contains(matcher.group(1).toLowerCase(Locale.ROOT))) {
+                jdbcTemplate.execute(toH2Index(statement));
+            }
+        }
+    }
+
+    @BeforeEach
+    void applyProductionSelectivity() {
+        // H2 plans against empty tables, so give it the value distribution the indexes were designed for.
+        COLUMN_SELECTIVITY.forEach((column, selectivity) -> {
+            var tableAndColumn = column.split("\\.");
+            jdbcTemplate.execute("alter table " + tableAndColumn[0] + " alter column " + tableAndColumn[1]
+                    + " selectivity " + selectivity);
+        });
+    }
+
+    @Test
+    void attendanceEventNightlyScanUsesCompanyTypeTimeIndex() {
+        assertUsesIndex("IDX_ATTENDANCE_EVENT_COMPANY_TYPE_TIME", "attendance_event", () ->
+                attendanceEventRepository.findByCompanyAndEventTypesAndEventTimeBetween(
+                        tenantId,
+                        Set.of(AttendanceEventType.CHECK_IN, AttendanceEventType.CHECK_OUT),
+                        Instant.parse("2026-01-01T00:00:00Z"),
+                        Instant.parse("2026-01-02T00:00:00Z")));
+    }
+
+    @Test
+    void attendanceEventLatestByEmployeeUsesEmployeeTypeTimeIndex() {
+        assertUsesIndex("IDX_ATTENDANCE_EVENT_EMPLOYEE_TYPE_TIME", "attendance_event", () ->
+                attendanceEventRepository.findTopByEmployeeIdAndEventTypeOrderByEventTimeDesc(
+                        tenantId, employeeId, AttendanceEventType.CHECK_IN));
+    }
+
+    @Test
+    void leaveRequestActiveForDateUsesStatusDatesIndex() {
+        assertUsesIndex("IDX_LEAVE_REQUEST_COMPANY_STATUS_DATES", "leave_request", () ->
+                leaveRequestRepository.findActiveForDate(tenantId, LeaveStatus.APPROVED, LocalDate.of(2026, 1, 15)));
+    }
+
+    @Test
+    void leaveRequestPendingByManagerUsesCompanyStatusDatesIndex() {
+        assertUsesIndex("IDX_LEAVE_REQUEST_COMPANY_STATUS_DATES", "leave_request", () ->
+                leaveRequestRepository.findPendingByManagerId(tenantId, LeaveStatus.PENDING, employeeId));
+    }
+
+    @Test
+    void leaveRequestKeysetPageUsesEmployeeFromDateIndex() {
+        assertUsesIndex("IDX_LEAVE_REQUEST_COMPANY_EMPLOYEE_FROM_DATE_ID", "leave_request", () ->
+                leaveRequestRepository.search(
+                        tenantId,
+                        new LeaveRequestFilter(null, employeeId, null, null, null),
+                        LocalDate.of(2026, 1, 15),
+                        UUID.randomUUID(),
+                        51));
+    }
+
+    @Test
+    void notificationInboxUsesCompanyUserCreatedIndex() {
+        assertUsesIndex("IDX_NOTIFICATION_LOG_COMPANY_USER_CREATED_ID", "notification_log", () ->
+                notificationLogRepository.findInboxPageAfter(
+                        tenantId,
+                        userId,
+                        Instant.parse("2026-01-15T00:00:00Z"),
+                        UUID.randomUUID(),
+                        PageRequest.of(0, 21)));
+    }
+
+    @Test
+    void notificationMarkAllReadUsesUnreadIndex() {
+        assertUsesIndex("IDX_NOTIFICATION_LOG_UNREAD", "notification_log", () ->
+                notificationLogRepository.markAllRead(tenantId, userId, Instant.now()));
+    }
+
+    private void assertUsesIndex(String indexName, String table, Runnable repositoryCall) {
+        StatementCapture.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            repositoryCall.run();
+            status.setRollbackOnly();
+        });
+        var statement = StatementCapture.STATEMENTS.stream()
+                .filter(captured -> captured.sql().toLowerCase(Locale.ROOT).contains(table))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Repository call issued no statement against " + table));
+
+        var plan = jdbcTemplate.execute((Connection connection) -> statement.explain(connection));
+        assertFalse(plan.contains(TABLE_SCAN), () -> "Query fell back to a table scan:\n" + plan);
+        assertTrue(plan.contains("/* PUBLIC." + indexName), () -> "Query did not use " + indexName + ":\n" + plan);
+    }
+
+    private Set<String> planTables() {
+        var tables = new HashSet<String>();
+        COLUMN_SELECTIVITY.keySet().forEach(column -> tables.add(column.substring(0, column.indexOf('.'))));
+        return tables;
+    }
+
+    private List<String> migrationIndexStatements() {
+        try {
+            var migrations = new ArrayList<>(Arrays.asList(new PathMatchingResourcePatternResolver()
+                    .getResources("classpath:db/migration/V*__*.sql")));
+            migrations.sort(Comparator.comparingInt(this::migrationVersion));
+            var statements = new ArrayList<String>();
+            for (var migration : migrations) {
+                var script = migration.getContentAsString(StandardCharsets.UTF_8);
+                for (var statement : script.split(";")) {
+                    var trimmed = statement.strip();
+                    if (trimmed.matches("(?is)(create\\s+(unique\\s+)?index|drop\\s+index)\\b.*")) {
+                        statements.add(trimmed);
+                    }
+                }
+            }
+            return statements;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private int migrationVersion(Resource migration) {
+        var matcher = MIGRATION_VERSION.matcher(migration.getFilename());
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Unexpected migration name " + migration.getFilename());
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private String toH2Index(String statement) {
+        // H2 has neither covering nor partial indexes. A partial index is modelled as one that leads with the
+        // columns of its predicate, so queries that do not filter on the predicate cannot use it.
+        var h2 = INCLUDE_CLAUSE.matcher(statement).replaceAll("");
+        var partial = PARTIAL_CLAUSE.matcher(h2);
+        if (partial.find()) {
+            var predicateColumns = new StringBuilder();
+            var column = PREDICATE_COLUMN.matcher(partial.group());
+            while (column.find()) {
+                predicateColumns.append(column.group(1)).append(", ");
+            }
+            h2 = h2.substring(0, partial.start());
+            var keyStart = h2.indexOf('(') + 1;
+            h2 = h2.substring(0, keyStart) + predicateColumns + h2.substring(keyStart);
+        }
+        return h2.replaceFirst("(?i)^create\\s+(unique\\s+)?index\\s+(if\\s+not\\s+exists\\s+)?",
+                "create $1index if not exists ");
+    }
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capture(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capture(super.getConnection(username, password));
+        }
+
+        private Connection capture(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        var result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement prepared && method.getName().equals("prepareStatement")) {
+                            var captured = new CapturedStatement((String) args[0], new CopyOnWriteArrayList<>());
+                            StatementCapture.STATEMENTS.add(captured);
+                            return capture(prepared, captured);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement capture(PreparedStatement statement, CapturedStatement captured) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && method.getParameterTypes()[0] == int.class) {
+                            captured.bindings().add(new Binding(method, args.clone()));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+    }
+
+    private record CapturedStatement(String sql, List<Binding> bindings) {
+
+        String explain(Connection connection) throws SQLException {
+            try (var explain = connection.prepareStatement("explain " + sql)) {
+                for (var binding : bindings) {
+                    invoke(explain, binding.method(), binding.args());
+                }
+                try (var resultSet = explain.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                throw ex;
+            } catch (Throwable ex) {
+                throw new SQLException(ex);
+            }
+        }
+    }
+
+    private record Binding(Method method, Object[] args) {
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
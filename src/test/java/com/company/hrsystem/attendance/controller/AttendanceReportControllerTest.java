@@ -0,0 +1,84 @@
+package com.company.hrsystem.attendance.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.security.CustomUserDetailsService;
+import com.company.hrsystem.auth.security.JwtTokenProvider;
+import com.company.hrsystem.auth.service.AuthUserService;
+import com.company.hrsystem.support.TenantFixtures;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class AttendanceReportControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private AuthUserService authUserService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private MockMvc mockMvc;
+    private String token;
+
+    @BeforeEach
+    void setUpTenant() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(springSecurityFilterChain)
+                .build();
+        var company = tenantFixtures.company("Export Co", "UTC");
+        var tenantId = company.getCompanyId();
+
+        var user = authUserService.createUser(tenantId, "hr", "secret", Role.HR, null, true);
+        token = "Bearer " + jwtTokenProvider.generateToken(
+                customUserDetailsService.loadByIdAndTenant(user.getId(), tenantId));
+    }
+
+    @Test
+    void reportStreamsWithItsOwnAsyncTimeout() throws Exception {
+        var started = mockMvc.perform(get("/api/v1/admin/attendance/report")
+                        .param("from", "2026-03-01")
+                        .param("to", "2026-03-31")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertEquals(600_000L, started.getRequest().getAsyncContext().getTimeout());
+
+        var body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"attendance-2026-03-01-to-2026-03-31.csv\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertTrue(body.startsWith("Employee Code,"));
+    }
+}
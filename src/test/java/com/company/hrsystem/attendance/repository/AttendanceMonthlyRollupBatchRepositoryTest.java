@@ -0,0 +1,109 @@
+package com.company.hrsystem.attendance.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.company.hrsystem.attendance.entity.AttendanceMode;
+import com.company.hrsystem.attendance.entity.AttendanceMonthlyRollup;
+import com.company.hrsystem.attendance.entity.AttendanceStatus;
+import com.company.hrsystem.attendance.entity.DailySummary;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AttendanceMonthlyRollupBatchRepositoryTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 2);
+
+    @Autowired
+    private AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private UUID tenantId;
+    private Employee employee;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Rollup Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "ROL01", "Rhea", "Rollup");
+    }
+
+    @Test
+    void refreshCountsModeLikeDailyViewAndKeepsRowIdentity() {
+        summary(MONTH.atDay(2), AttendanceStatus.PRESENT, AttendanceMode.OFFICE, 480L, false);
+        summary(MONTH.atDay(3), AttendanceStatus.PRESENT, null, 480L, true);
+        summary(MONTH.atDay(4), AttendanceStatus.PRESENT, null, 480L, false);
+        summary(MONTH.atDay(5), AttendanceStatus.PRESENT, null, 0L, true);
+        var absent = summary(MONTH.atDay(6), AttendanceStatus.ABSENT, null, 0L, false);
+        summary(MONTH.atDay(7), AttendanceStatus.WEEK_OFF, null, 0L, false);
+
+        attendanceMonthlyRollupRepository.refreshEmployeeMonth(tenantId, employee.getId(), MONTH);
+        var first = rollup();
+        assertEquals(6, first.getFinalizedDays());
+        assertEquals(5, first.getWorkingDays());
+        assertEquals(4, first.getPresentDays());
+        assertEquals(1, first.getAbsentDays());
+        assertEquals(2, first.getOfficeDays());
+        assertEquals(2, first.getWfhDays());
+        assertEquals(1440L, first.getWorkedMinutes());
+
+        absent.setAttendanceStatus(AttendanceStatus.PRESENT);
+        absent.setTotalWorkedMinutes(300L);
+        dailySummaryRepository.save(absent);
+        attendanceMonthlyRollupRepository.refreshEmployeeMonth(tenantId, employee.getId(), MONTH);
+
+        var second = rollup();
+        assertEquals(first.getId(), second.getId());
+        assertEquals(first.getCreatedAt(), second.getCreatedAt());
+        assertEquals(5, second.getPresentDays());
+        assertEquals(0, second.getAbsentDays());
+        assertEquals(3, second.getWfhDays());
+        assertEquals(1740L, second.getWorkedMinutes());
+    }
+
+    private AttendanceMonthlyRollup rollup() {
+        var rollups = attendanceMonthlyRollupRepository.findByCompanyIdAndEmployee_IdAndMonthBetweenOrderByMonthAsc(
+                tenantId, employee.getId(), MONTH.atDay(1), MONTH.atDay(1));
+        assertEquals(1, rollups.size());
+        return rollups.getFirst();
+    }
+
+    private DailySummary summary(
+            LocalDate date,
+            AttendanceStatus status,
+            AttendanceMode mode,
+            long workedMinutes,
+            boolean officeEntry) {
+        var summary = new DailySummary();
+        summary.setCompanyId(tenantId);
+        summary.setEmployee(employee);
+        summary.setDate(date);
+        summary.setAttendanceStatus(status);
+        summary.setMode(mode);
+        summary.setTotalWorkedMinutes(workedMinutes);
+        summary.setOfficeWorkedMinutes(0L);
+        summary.setOfficePresent(Boolean.FALSE);
+        summary.setRemoteDay(Boolean.FALSE);
+        summary.setLateMinutes(0L);
+        summary.setEarlyExitMinutes(0L);
+        summary.setLateArrival(Boolean.FALSE);
+        summary.setEarlyExit(Boolean.FALSE);
+        summary.setFinalized(Boolean.TRUE);
+        summary.setOvertimeMinutes(0);
+        summary.setOfficeEntry(officeEntry);
+        return dailySummaryRepository.save(summary);
+    }
+}
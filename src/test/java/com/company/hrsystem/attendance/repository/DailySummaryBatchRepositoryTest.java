@@ -0,0 +1,111 @@
+package com.company.hrsystem.attendance.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.attendance.entity.AttendanceMode;
+import com.company.hrsystem.attendance.entity.AttendanceStatus;
+import com.company.hrsystem.attendance.entity.DailySummary;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class DailySummaryBatchRepositoryTest {
+
+    private static final LocalDate SUMMARY_DATE = LocalDate.of(2026, 2, 3);
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private UUID tenantId;
+    private Employee employee;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Upsert Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "UPS01", "Uma", "Upsert");
+    }
+
+    @Test
+    void nightlyUpsertKeepsRunningAggregate() {
+        var running = summary(495L);
+        running.setOpenCheckInTime(Instant.parse("2026-02-03T18:00:00Z"));
+        running.setFirstCheckInTime(Instant.parse("2026-02-03T08:00:00Z"));
+        running.setLastCheckOutTime(Instant.parse("2026-02-03T16:15:00Z"));
+        running.setLastEventTime(Instant.parse("2026-02-03T18:00:00Z"));
+        running.setOfficeEntry(Boolean.TRUE);
+        var saved = dailySummaryRepository.save(running);
+
+        var stale = summary(0L);
+        stale.setAttendanceStatus(AttendanceStatus.PRESENT);
+        stale.setMode(AttendanceMode.OFFICE);
+        stale.setOfficePresent(Boolean.TRUE);
+        stale.setOfficeWorkedMinutes(495L);
+        stale.setLateMinutes(12L);
+        stale.setLateArrival(Boolean.TRUE);
+        stale.setFinalized(Boolean.TRUE);
+        dailySummaryRepository.upsertAll(List.of(stale));
+
+        var stored = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), SUMMARY_DATE).orElseThrow();
+        assertEquals(saved.getId(), stored.getId());
+        assertTrue(stored.getCreatedAt().isBefore(stale.getCreatedAt()));
+        assertEquals(495L, stored.getTotalWorkedMinutes());
+        assertEquals(Instant.parse("2026-02-03T18:00:00Z"), stored.getOpenCheckInTime());
+        assertEquals(Instant.parse("2026-02-03T08:00:00Z"), stored.getFirstCheckInTime());
+        assertEquals(Instant.parse("2026-02-03T16:15:00Z"), stored.getLastCheckOutTime());
+        assertEquals(Instant.parse("2026-02-03T18:00:00Z"), stored.getLastEventTime());
+        assertTrue(stored.getOfficeEntry());
+        assertEquals(AttendanceStatus.PRESENT, stored.getAttendanceStatus());
+        assertEquals(AttendanceMode.OFFICE, stored.getMode());
+        assertEquals(495L, stored.getOfficeWorkedMinutes());
+        assertEquals(12L, stored.getLateMinutes());
+        assertTrue(stored.getFinalized());
+    }
+
+    @Test
+    void nightlyUpsertInsertsMissingRows() {
+        var absent = summary(0L);
+        absent.setAttendanceStatus(AttendanceStatus.ABSENT);
+        absent.setFinalized(Boolean.TRUE);
+        dailySummaryRepository.upsertAll(List.of(absent));
+
+        var stored = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), SUMMARY_DATE).orElseThrow();
+        assertEquals(absent.getId(), stored.getId());
+        assertEquals(AttendanceStatus.ABSENT, stored.getAttendanceStatus());
+        assertTrue(stored.getFinalized());
+    }
+
+    private DailySummary summary(long workedMinutes) {
+        var summary = new DailySummary();
+        summary.setCompanyId(tenantId);
+        summary.setEmployee(employee);
+        summary.setDate(SUMMARY_DATE);
+        summary.setTotalWorkedMinutes(workedMinutes);
+        summary.setOfficeWorkedMinutes(0L);
+        summary.setOfficePresent(Boolean.FALSE);
+        summary.setRemoteDay(Boolean.FALSE);
+        summary.setLateMinutes(0L);
+        summary.setEarlyExitMinutes(0L);
+        summary.setLateArrival(Boolean.FALSE);
+        summary.setEarlyExit(Boolean.FALSE);
+        summary.setFinalized(Boolean.FALSE);
+        summary.setOvertimeMinutes(0);
+        summary.setOfficeEntry(Boolean.FALSE);
+        return summary;
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.hrsystem.attendance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.company.hrsystem.attendance.entity.AttendanceMode;
+import com.company.hrsystem.attendance.entity.AttendanceStatus;
+import com.company.hrsystem.attendance.repository.DailySummaryRepository;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.support.TenantFixtures;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AttendanceReportServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private AttendanceReportService attendanceReportService;
+
+    @Autowired
+    private DailySummaryAggregator dailySummaryAggregator;
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Report Co", "UTC");
+        var employee = tenantFixtures.employee(company, "=HYPERLINK(\"x\")", "Ann, \"Jr\"", "@Sum");
+
+        var summary = dailySummaryAggregator.newSummary(company.getCompanyId(), employee, DATE);
+        summary.setAttendanceStatus(AttendanceStatus.PRESENT);
+        summary.setMode(AttendanceMode.OFFICE);
+        summary.setTotalWorkedMinutes(-15L);
+        summary.setFinalized(Boolean.TRUE);
+        dailySummaryRepository.save(summary);
+        CompanyContext.setCompanyId(company.getCompanyId());
+    }
+
+    @AfterEach
+    void clearContext() {
+        CompanyContext.clear();
+    }
+
+    @Test
+    void csvQuotesSpecialCharactersAndNeutralizesFormulas() throws Exception {
+        var export = attendanceReportService.export(DATE, DATE, "csv");
+
+        var lines = new String(write(export), StandardCharsets.UTF_8).split("\r\n");
+        assertEquals("attendance-2026-03-02-to-2026-03-02.csv", export.filename());
+        assertEquals(2, lines.length);
+        assertEquals("Employee Code,First Name,Last Name,Date,Status,Mode,Worked Minutes,Office Worked Minutes,"
+                + "Late Minutes,Early Exit Minutes,Overtime Minutes,First Check In,Last Check Out,Finalized", lines[0]);
+        assertEquals("\"'=HYPERLINK(\"\"x\"\")\",\"Ann, \"\"Jr\"\"\",'@Sum,2026-03-02,PRESENT,OFFICE,-15,0,0,0,0,,,true",
+                lines[1]);
+    }
+
+    @Test
+    void xlsxWritesTypedCellsWithNeutralizedText() throws Exception {
+        var export = attendanceReportService.export(DATE, DATE, "XLSX");
+
+        try (var workbook = new XSSFWorkbook(new ByteArrayInputStream(write(export)))) {
+            var sheet = workbook.getSheet("Attendance");
+            assertEquals(1, sheet.getLastRowNum());
+            assertEquals("Employee Code", sheet.getRow(0).getCell(0).getStringCellValue());
+            var row = sheet.getRow(1);
+            assertEquals("'=HYPERLINK(\"x\")", row.getCell(0).getStringCellValue());
+            assertEquals("Ann, \"Jr\"", row.getCell(1).getStringCellValue());
+            assertEquals("'@Sum", row.getCell(2).getStringCellValue());
+            assertEquals(-15d, row.getCell(6).getNumericCellValue());
+            assertEquals(true, row.getCell(13).getBooleanCellValue());
+        }
+    }
+
+    @Test
+    void rejectsInvalidRangesAndFormats() {
+        assertThrows(IllegalArgumentException.class,
+                () -> attendanceReportService.export(DATE, DATE.minusDays(1), "csv"));
+        assertThrows(IllegalArgumentException.class,
+                () -> attendanceReportService.export(DATE, DATE.plusDays(366), "csv"));
+        assertThrows(IllegalArgumentException.class,
+                () -> attendanceReportService.export(null, DATE, "csv"));
+        assertThrows(IllegalArgumentException.class,
+                () -> attendanceReportService.export(DATE, DATE, "pdf"));
+        attendanceReportService.export(DATE, DATE.plusDays(365), "csv");
+    }
+
+    private byte[] write(AttendanceReportService.AttendanceReportExport export) throws Exception {
+        var output = new ByteArrayOutputStream();
+        export.body().writeTo(output);
+        return output.toByteArray();
+    }
+}
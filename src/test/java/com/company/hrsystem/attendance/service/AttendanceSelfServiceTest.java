@@ -0,0 +1,148 @@
+package com.company.hrsystem.attendance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.attendance.dto.DailyAttendanceResponse;
+import com.company.hrsystem.attendance.dto.MonthlyAttendanceResponse;
+import com.company.hrsystem.attendance.entity.AttendanceStatus;
+import com.company.hrsystem.attendance.entity.DailySummary;
+import com.company.hrsystem.attendance.repository.AttendanceMonthlyRollupRepository;
+import com.company.hrsystem.attendance.repository.DailySummaryRepository;
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.security.CustomUserDetails;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@SpringBootTest
+class AttendanceSelfServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 15);
+    private static final LocalDate TO = LocalDate.of(2026, 5, 10);
+
+    @Autowired
+    private AttendanceSelfService attendanceSelfService;
+
+    @Autowired
+    private AttendanceMonthlyRollupRepository attendanceMonthlyRollupRepository;
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private UUID tenantId;
+    private Employee employee;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Range Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "RNG01", "Rory", "Range");
+
+        var principal = new CustomUserDetails(
+                UUID.randomUUID(), tenantId, employee.getId(), "rory", "secret", Role.EMPLOYEE, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        CompanyContext.setCompanyId(tenantId);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        CompanyContext.clear();
+    }
+
+    @Test
+    void longRangeStitchesRollupMonthsBetweenDailyEdgeMonths() {
+        var summaries = new ArrayList<DailySummary>();
+        for (var date = FROM; !date.isAfter(TO); date = date.plusDays(1)) {
+            summaries.add(summary(date));
+        }
+        dailySummaryRepository.saveAll(summaries);
+        for (var month = YearMonth.from(FROM); !month.isAfter(YearMonth.from(TO)); month = month.plusMonths(1)) {
+            attendanceMonthlyRollupRepository.refreshEmployeeMonth(tenantId, employee.getId(), month);
+        }
+
+        var range = attendanceSelfService.getAttendance(FROM, TO);
+
+        var days = range.attendance().stream().map(DailyAttendanceResponse::date).toList();
+        assertEquals(27, days.size());
+        assertEquals(FROM, days.getFirst());
+        assertEquals(LocalDate.of(2026, 1, 31), days.get(16));
+        assertEquals(LocalDate.of(2026, 5, 1), days.get(17));
+        assertEquals(TO, days.getLast());
+
+        assertEquals(5, range.months().size());
+        assertFalse(range.months().get(0).rolledUp());
+        assertTrue(range.months().get(1).rolledUp());
+        assertTrue(range.months().get(2).rolledUp());
+        assertTrue(range.months().get(3).rolledUp());
+        assertFalse(range.months().get(4).rolledUp());
+
+        var totalPresent = 0;
+        var totalOffice = 0;
+        for (var month : range.months()) {
+            var daily = attendanceSelfService.getAttendance(month.from(), month.to()).months().getFirst();
+            assertSameCounts(daily, month);
+            totalPresent += month.presentDays();
+            totalOffice += month.officeDays();
+        }
+        assertEquals(totalPresent, range.presentDays());
+        assertEquals(totalOffice, range.totalOfficeDays());
+    }
+
+    private void assertSameCounts(MonthlyAttendanceResponse expected, MonthlyAttendanceResponse actual) {
+        assertEquals(expected.from(), actual.from());
+        assertEquals(expected.to(), actual.to());
+        assertEquals(expected.workingDays(), actual.workingDays());
+        assertEquals(expected.presentDays(), actual.presentDays());
+        assertEquals(expected.absentDays(), actual.absentDays());
+        assertEquals(expected.wfhDays(), actual.wfhDays());
+        assertEquals(expected.officeDays(), actual.officeDays());
+        assertEquals(expected.workedMinutes(), actual.workedMinutes());
+        assertEquals(expected.lateArrivals(), actual.lateArrivals());
+    }
+
+    private DailySummary summary(LocalDate date) {
+        var weekend = date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+        var pattern = date.getDayOfMonth() % 3;
+        var present = !weekend && pattern != 2;
+
+        var summary = new DailySummary();
+        summary.setCompanyId(tenantId);
+        summary.setEmployee(employee);
+        summary.setDate(date);
+        summary.setAttendanceStatus(weekend
+                ? AttendanceStatus.WEEK_OFF
+                : present ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT);
+        summary.setTotalWorkedMinutes(present ? 480L : 0L);
+        summary.setOfficeWorkedMinutes(0L);
+        summary.setOfficePresent(Boolean.FALSE);
+        summary.setRemoteDay(Boolean.FALSE);
+        summary.setLateMinutes(0L);
+        summary.setEarlyExitMinutes(0L);
+        summary.setLateArrival(present && pattern == 0);
+        summary.setEarlyExit(Boolean.FALSE);
+        summary.setFinalized(Boolean.TRUE);
+        summary.setOvertimeMinutes(0);
+        summary.setOfficeEntry(pattern == 0);
+        return summary;
+    }
+}
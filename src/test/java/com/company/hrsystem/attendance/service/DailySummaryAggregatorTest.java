@@ -0,0 +1,157 @@
+package com.company.hrsystem.attendance.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.attendance.entity.AttendanceEvent;
+import com.company.hrsystem.attendance.entity.AttendanceEventType;
+import com.company.hrsystem.attendance.entity.AttendanceNightlyRun;
+import com.company.hrsystem.attendance.entity.AttendanceSource;
+import com.company.hrsystem.attendance.repository.AttendanceEventRepository;
+import com.company.hrsystem.attendance.repository.AttendanceNightlyRunRepository;
+import com.company.hrsystem.attendance.repository.DailySummaryRepository;
+import com.company.hrsystem.employee.dto.EmployeeSnapshot;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.employee.repository.EmployeeRepository;
+import com.company.hrsystem.support.TenantFixtures;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class DailySummaryAggregatorTest {
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private DailySummaryAggregator dailySummaryAggregator;
+
+    @Autowired
+    private AttendanceEventRepository attendanceEventRepository;
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private AttendanceNightlyRunRepository nightlyRunRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID tenantId;
+    private Employee employee;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Eastern Office", "America/New_York");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "NIGHT01", "Nora", "Late");
+    }
+
+    @Test
+    void punchesAcrossUtcMidnightAggregateOnTenantLocalDate() {
+        var snapshot = new EmployeeSnapshot(employee.getId(), employee.getEmployeeCode(), true, null, null);
+        attendanceService.recordBiometricPunches(tenantId, List.of(
+                new AttendanceService.BiometricPunchCommand(snapshot, Instant.parse("2026-01-10T22:00:00Z"), "LOG-1"),
+                new AttendanceService.BiometricPunchCommand(snapshot, Instant.parse("2026-01-11T01:30:00Z"), "LOG-2")));
+
+        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 10)).orElseThrow();
+        assertEquals(210L, summary.getTotalWorkedMinutes());
+        assertNull(summary.getOpenCheckInTime());
+        assertEquals(Instant.parse("2026-01-11T01:30:00Z"), summary.getLastCheckOutTime());
+        assertTrue(dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 11)).isEmpty());
+    }
+
+    @Test
+    void backdatedEventRebuildsWholeTenantLocalDay() {
+        record(AttendanceEventType.CHECK_IN, "2026-01-10T23:00:00Z");
+        record(AttendanceEventType.CHECK_OUT, "2026-01-11T02:00:00Z");
+        record(AttendanceEventType.CHECK_IN, "2026-01-10T20:00:00Z");
+        record(AttendanceEventType.CHECK_OUT, "2026-01-10T21:00:00Z");
+
+        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 10)).orElseThrow();
+        assertEquals(240L, summary.getTotalWorkedMinutes());
+        assertEquals(Instant.parse("2026-01-10T20:00:00Z"), summary.getFirstCheckInTime());
+        assertEquals(Instant.parse("2026-01-11T02:00:00Z"), summary.getLastCheckOutTime());
+        assertEquals(Instant.parse("2026-01-11T02:00:00Z"), summary.getLastEventTime());
+    }
+
+    @Test
+    void checkOutAfterLocalMidnightClosesPreviousDaySession() {
+        record(AttendanceEventType.CHECK_IN, "2026-01-11T03:00:00Z");
+        record(AttendanceEventType.CHECK_OUT, "2026-01-11T06:30:00Z");
+
+        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 10)).orElseThrow();
+        assertEquals(210L, summary.getTotalWorkedMinutes());
+        assertNull(summary.getOpenCheckInTime());
+        assertTrue(dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 11)).isEmpty());
+
+        record(AttendanceEventType.CHECK_IN, "2026-01-10T15:00:00Z");
+        record(AttendanceEventType.CHECK_OUT, "2026-01-10T16:00:00Z");
+
+        summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 10)).orElseThrow();
+        assertEquals(270L, summary.getTotalWorkedMinutes());
+        assertEquals(Instant.parse("2026-01-11T06:30:00Z"), summary.getLastCheckOutTime());
+    }
+
+    @Test
+    void backdatedPunchOnFinalizedDayMarksItForRefinalization() {
+        var nightlyRun = new AttendanceNightlyRun();
+        nightlyRun.setCompanyId(tenantId);
+        nightlyRun.setLastFinalizedDate(LocalDate.of(2026, 1, 12));
+        nightlyRunRepository.save(nightlyRun);
+
+        record(AttendanceEventType.CHECK_IN, "2026-01-12T14:00:00Z");
+        assertNull(nightlyRunRepository.findByCompanyId(tenantId).orElseThrow().getRefinalizeFromDate());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                    tenantId, employee.getId(), LocalDate.of(2026, 1, 12)).orElseThrow();
+            summary.setFinalized(Boolean.TRUE);
+        });
+        record(AttendanceEventType.CHECK_OUT, "2026-01-12T22:00:00Z");
+
+        var summary = dailySummaryRepository.findByCompanyIdAndEmployee_IdAndDate(
+                tenantId, employee.getId(), LocalDate.of(2026, 1, 12)).orElseThrow();
+        assertFalse(summary.getFinalized());
+        assertEquals(480L, summary.getTotalWorkedMinutes());
+        assertEquals(LocalDate.of(2026, 1, 12),
+                nightlyRunRepository.findByCompanyId(tenantId).orElseThrow().getRefinalizeFromDate());
+    }
+
+    private void record(AttendanceEventType eventType, String eventTime) {
+        transactionTemplate.executeWithoutResult(status -> {
+            var event = new AttendanceEvent();
+            event.setCompanyId(tenantId);
+            event.setEmployee(employeeRepository.getReferenceById(employee.getId()));
+            event.setEventType(eventType);
+            event.setSource(AttendanceSource.REMOTE);
+            event.setEventTime(Instant.parse(eventTime));
+            event.setDeviceLogId("REMOTE-" + UUID.randomUUID());
+            attendanceEventRepository.save(event);
+            dailySummaryAggregator.record(event);
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.company.hrsystem.auth.security;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.service.AuthUserService;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import jakarta.servlet.Filter;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private AuthUserService authUserService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private MockMvc mockMvc;
+    private UUID tenantId;
+    private Employee employee;
+    private UUID employeeUserId;
+    private String employeeToken;
+
+    @BeforeEach
+    void setUpTenant() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(springSecurityFilterChain)
+                .build();
+        var company = tenantFixtures.company("Access Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "ACC01", "Ava", "Access");
+
+        employeeUserId = authUserService
+                .createUser(tenantId, "ava", "secret", Role.EMPLOYEE, employee.getId(), true)
+                .getId();
+        employeeToken = bearer(employeeUserId);
+    }
+
+    @Test
+    void disabledUserTokenIsRejectedOnNextRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/me").header(HttpHeaders.AUTHORIZATION, employeeToken))
+                .andExpect(status().isOk());
+
+        authUserService.setEnabled(tenantId, employeeUserId, false);
+
+        mockMvc.perform(get("/api/v1/employees/me").header(HttpHeaders.AUTHORIZATION, employeeToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void roleChangeAppliesOnNextRequest() throws Exception {
+        mockMvc.perform(patch("/api/v1/admin/employees/{employeeId}/deactivate", employee.getId())
+                        .header(HttpHeaders.AUTHORIZATION, employeeToken))
+                .andExpect(status().isForbidden());
+
+        authUserService.changeRole(tenantId, employeeUserId, Role.HR);
+
+        mockMvc.perform(patch("/api/v1/admin/employees/{employeeId}/deactivate", employee.getId())
+                        .header(HttpHeaders.AUTHORIZATION, employeeToken))
+                .andExpect(status().isOk());
+    }
+
+    private String bearer(UUID userId) {
+        return "Bearer " + jwtTokenProvider.generateToken(customUserDetailsService.loadByIdAndTenant(userId, tenantId));
+    }
+}
@@ -0,0 +1,79 @@
+package com.company.hrsystem.common.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BufferedBatchWriterTest {
+
+    @Test
+    void stopAfterJoinTimeoutWaitsForInFlightFlushBeforeDraining() throws InterruptedException {
+        var flushStarted = new CountDownLatch(1);
+        var releaseFlush = new CountDownLatch(1);
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        var flushed = new CopyOnWriteArrayList<Integer>();
+        var writer = new BufferedBatchWriter<Integer>("test-writer", 100, 1, 10, 50, batch -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            flushStarted.countDown();
+            try {
+                releaseFlush.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            flushed.addAll(batch);
+            inFlight.decrementAndGet();
+        }, dropped -> {
+        });
+        writer.start();
+        writer.offer(1);
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+        writer.offer(2);
+        writer.offer(3);
+
+        var stopper = Thread.ofPlatform().start(writer::stop);
+        Thread.sleep(200);
+        releaseFlush.countDown();
+        stopper.join(5000);
+
+        assertEquals(1, maxInFlight.get());
+        assertEquals(List.of(1, 2, 3), List.copyOf(flushed));
+    }
+
+    @Test
+    void failedFlushReportsDroppedRecords() {
+        var dropped = new AtomicInteger();
+        var writer = new BufferedBatchWriter<Integer>("test-writer", 100, 10, 10, 1000, batch -> {
+            throw new IllegalStateException("database unavailable");
+        }, dropped::addAndGet);
+        writer.offer(1);
+        writer.offer(2);
+        writer.offer(3);
+
+        writer.stop();
+
+        assertEquals(3, dropped.get());
+    }
+
+    @Test
+    void offerAfterStopIsRejected() {
+        var flushed = new CopyOnWriteArrayList<Integer>();
+        var writer = new BufferedBatchWriter<Integer>("test-writer", 100, 10, 10, 1000, flushed::addAll, dropped -> {
+        });
+        writer.start();
+        assertTrue(writer.offer(1));
+
+        writer.stop();
+
+        assertFalse(writer.offer(2));
+        assertEquals(0, writer.depth());
+        assertEquals(List.of(1), List.copyOf(flushed));
+    }
+}
@@ -0,0 +1,112 @@
+package com.company.hrsystem.dashboard.controller;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.security.CustomUserDetailsService;
+import com.company.hrsystem.auth.security.JwtTokenProvider;
+import com.company.hrsystem.auth.service.AuthUserService;
+import com.company.hrsystem.dashboard.service.DashboardCache;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import jakarta.servlet.Filter;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class DashboardV2ControllerTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private AuthUserService authUserService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private DashboardCache dashboardCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MockMvc mockMvc;
+    private UUID tenantId;
+    private Employee employee;
+    private String token;
+
+    @BeforeEach
+    void setUpTenant() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(springSecurityFilterChain)
+                .build();
+        var company = tenantFixtures.company("Dashboard Co", "Asia/Kolkata");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "DSH01", "Dev", "Dashboard");
+
+        var user = authUserService.createUser(tenantId, "dev", "secret", Role.EMPLOYEE, employee.getId(), true);
+        token = "Bearer " + jwtTokenProvider.generateToken(
+                customUserDetailsService.loadByIdAndTenant(user.getId(), tenantId));
+    }
+
+    @Test
+    void unchangedDashboardAnswersNotModified() throws Exception {
+        var etag = mockMvc.perform(get("/api/v2/dashboard/employee").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v2/dashboard/employee")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void changedSectionIssuesNewEtag() throws Exception {
+        var etag = currentEtag();
+
+        transactionTemplate.executeWithoutResult(status -> dashboardCache.evictEmployeeAfterCompletion(
+                tenantId, employee.getId(), DashboardCache.Section.PROFILE));
+
+        var changedEtag = currentEtag();
+        assertNotEquals(etag, changedEtag);
+        mockMvc.perform(get("/api/v2/dashboard/employee")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, changedEtag));
+    }
+
+    private String currentEtag() throws Exception {
+        return mockMvc.perform(get("/api/v2/dashboard/employee").header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,81 @@
+package com.company.hrsystem.dashboard.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.company.hrsystem.dashboard.repository.DashboardCacheVersionRepository;
+import com.company.hrsystem.dashboard.service.DashboardCache.CachedSection;
+import com.company.hrsystem.dashboard.service.DashboardCache.Section;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class DashboardCacheTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 3, 10);
+
+    @Autowired
+    private DashboardCacheVersionRepository dashboardCacheVersionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private DashboardCache nodeA;
+    private DashboardCache nodeB;
+    private UUID tenantId;
+    private UUID employeeId;
+    private UUID colleagueId;
+
+    @BeforeEach
+    void setUpNodes() {
+        nodeA = new DashboardCache(dashboardCacheVersionRepository, 1_000, 300);
+        nodeB = new DashboardCache(dashboardCacheVersionRepository, 1_000, 300);
+        tenantId = UUID.randomUUID();
+        employeeId = UUID.randomUUID();
+        colleagueId = UUID.randomUUID();
+    }
+
+    @Test
+    void evictionOnAnotherNodeInvalidatesCachedSection() {
+        cache(nodeA, employeeId, Section.ATTENDANCE);
+        cache(nodeA, employeeId, Section.HOLIDAYS);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeB.evictEmployeeAfterCompletion(tenantId, employeeId, Section.ATTENDANCE);
+            nodeB.evictTenantAfterCompletion(tenantId, Section.HOLIDAYS);
+        });
+
+        assertNull(cached(nodeA, employeeId, Section.ATTENDANCE));
+        assertNull(cached(nodeA, employeeId, Section.HOLIDAYS));
+    }
+
+    @Test
+    void employeeEvictionKeepsOtherSectionsAndEmployees() {
+        cache(nodeA, employeeId, Section.ATTENDANCE);
+        cache(nodeA, employeeId, Section.PROFILE);
+        cache(nodeA, colleagueId, Section.ATTENDANCE);
+
+        transactionTemplate.executeWithoutResult(status ->
+                nodeB.evictEmployeeAfterCompletion(tenantId, employeeId, Section.ATTENDANCE));
+
+        assertNull(cached(nodeA, employeeId, Section.ATTENDANCE));
+        assertNotNull(cached(nodeA, employeeId, Section.PROFILE));
+        assertNotNull(cached(nodeA, colleagueId, Section.ATTENDANCE));
+    }
+
+    private void cache(DashboardCache node, UUID employee, Section section) {
+        var version = node.versions(tenantId, employee).get(section);
+        node.put(tenantId, employee, new CachedSection(section, AS_OF, version, section.name()));
+        assertNotNull(cached(node, employee, section));
+    }
+
+    private CachedSection cached(DashboardCache node, UUID employee, Section section) {
+        var version = node.versions(tenantId, employee).get(section);
+        return node.get(tenantId, employee, section, AS_OF, version);
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.hrsystem.employee.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.support.TenantFixtures;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class EmployeeDirectoryTest {
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    private UUID tenantId;
+    private Employee employee;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Directory Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        employee = tenantFixtures.employee(company, "DIR01", "Dina", "Directory");
+    }
+
+    @AfterEach
+    void clearContext() {
+        CompanyContext.clear();
+    }
+
+    @Test
+    void deactivationEvictsTheTenantDirectoryOnCommit() {
+        assertTrue(employeeDirectory.findById(tenantId, employee.getId()).orElseThrow().active());
+
+        jdbcTemplate.update("update employee set active = false where id = ?", employee.getId());
+        assertTrue(employeeDirectory.findById(tenantId, employee.getId()).orElseThrow().active());
+
+        CompanyContext.setCompanyId(tenantId);
+        employeeService.deactivateEmployee(employee.getId());
+        assertFalse(employeeDirectory.findById(tenantId, employee.getId()).orElseThrow().active());
+    }
+}
@@ -0,0 +1,139 @@
+package com.company.hrsystem.leave.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.security.CustomUserDetailsService;
+import com.company.hrsystem.auth.security.JwtTokenProvider;
+import com.company.hrsystem.auth.service.AuthUserService;
+import com.company.hrsystem.leave.entity.LeaveRequest;
+import com.company.hrsystem.leave.entity.LeaveStatus;
+import com.company.hrsystem.leave.repository.LeaveRequestRepository;
+import com.company.hrsystem.support.TenantFixtures;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.Filter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+@SpringBootTest
+class LeaveWorkflowV2ControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private AuthUserService authUserService;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    private MockMvc mockMvc;
+    private String token;
+    private List<LeaveRequest> leaveRequests;
+
+    @BeforeEach
+    void setUpTenant() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(springSecurityFilterChain)
+                .build();
+        var company = tenantFixtures.company("Leave Co", "UTC");
+        var tenantId = company.getCompanyId();
+
+        var employee = tenantFixtures.employee(company, "LVE01", "Lee", "Leave");
+
+        leaveRequests = new ArrayList<>();
+        for (var fromDate : List.of(
+                LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 2), LocalDate.of(2026, 2, 9),
+                LocalDate.of(2026, 4, 6), LocalDate.of(2026, 3, 2))) {
+            var leaveRequest = new LeaveRequest();
+            leaveRequest.setCompanyId(tenantId);
+            leaveRequest.setTenantId(tenantId);
+            leaveRequest.setEmployeeId(employee.getId());
+            leaveRequest.setFromDate(fromDate);
+            leaveRequest.setToDate(fromDate);
+            leaveRequest.setLeaveType("Annual");
+            leaveRequest.setStatus(LeaveStatus.APPROVED);
+            leaveRequests.add(leaveRequestRepository.save(leaveRequest));
+        }
+        leaveRequests.sort(Comparator.comparing(LeaveRequest::getFromDate)
+                .thenComparing(leaveRequest -> leaveRequest.getId().toString())
+                .reversed());
+
+        var user = authUserService.createUser(tenantId, "lee", "secret", Role.EMPLOYEE, employee.getId(), true);
+        token = "Bearer " + jwtTokenProvider.generateToken(
+                customUserDetailsService.loadByIdAndTenant(user.getId(), tenantId));
+    }
+
+    @Test
+    void cursorPagesWalkEveryLeaveOnceInOrder() throws Exception {
+        var seen = new ArrayList<UUID>();
+        String cursor = null;
+        var pages = 0;
+        do {
+            var request = get("/api/v2/leave/my").param("limit", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            var page = read(request);
+            assertTrue(page.get("items").size() <= 2);
+            page.get("items").forEach(item -> seen.add(UUID.fromString(item.get("id").asText())));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(leaveRequests.stream().map(LeaveRequest::getId).toList(), seen);
+    }
+
+    @Test
+    void v1ListStillReturnsEveryLeaveAsArray() throws Exception {
+        var body = read(get("/api/v1/leave/my"));
+
+        assertTrue(body.isArray());
+        assertEquals(leaveRequests.size(), body.size());
+    }
+
+    @Test
+    void malformedCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v2/leave/my").param("cursor", "not-a-cursor")
+                        .header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode read(MockHttpServletRequestBuilder request) throws Exception {
+        var result = mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn();
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
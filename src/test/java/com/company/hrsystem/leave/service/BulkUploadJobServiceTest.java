@@ -0,0 +1,144 @@
+package com.company.hrsystem.leave.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.leave.dto.BulkUploadJobDto;
+import com.company.hrsystem.leave.entity.BulkUploadJob;
+import com.company.hrsystem.leave.entity.BulkUploadJobStatus;
+import com.company.hrsystem.leave.entity.LeaveType;
+import com.company.hrsystem.leave.repository.BulkUploadJobRepository;
+import com.company.hrsystem.leave.repository.LeaveTypeRepository;
+import com.company.hrsystem.support.TenantFixtures;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+
+@SpringBootTest
+class BulkUploadJobServiceTest {
+
+    private static final String HEADER = "employeeId,firstName,lastName,email,role,managerEmployeeId,joiningDate,leaveBalance\n";
+
+    @Autowired
+    private BulkUploadJobService bulkUploadJobService;
+
+    @Autowired
+    private BulkUploadJobRepository bulkUploadJobRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Jobs Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        var leaveType = new LeaveType();
+        leaveType.setCompanyId(tenantId);
+        leaveType.setTenantId(tenantId);
+        leaveType.setName("Annual");
+        leaveType.setAnnualQuota(12);
+        leaveType.setCarryForwardAllowed(Boolean.FALSE);
+        leaveTypeRepository.save(leaveType);
+
+        CompanyContext.setCompanyId(tenantId);
+    }
+
+    @AfterEach
+    void clearContext() {
+        CompanyContext.clear();
+    }
+
+    @Test
+    void submittedJobCompletesAndPagesRowErrors() throws InterruptedException {
+        var csv = HEADER
+                + "JB1,Ann,Lee,jb1+" + tenantId + "@example.com,EMPLOYEE,,2026-01-05,3\n"
+                + "JB2,Bo,Ko,not-an-email,EMPLOYEE,,2026-01-05,3\n"
+                + "JB3,Cy,Ng,jb3+" + tenantId + "@example.com,MANAGER,,2026-01-05,3\n"
+                + "JB4,Di,Oh,jb4+" + tenantId + "@example.com,EMPLOYEE,MISSING,2026-01-05,3\n";
+        var file = new MockMultipartFile("file", "users.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        var submitted = bulkUploadJobService.submit(file);
+        assertEquals(BulkUploadJobStatus.QUEUED, submitted.status());
+
+        var finished = awaitFinished(submitted.jobId());
+        assertEquals(BulkUploadJobStatus.COMPLETED, finished.status());
+        assertEquals(4, finished.totalRows());
+        assertEquals(4, finished.processedRows());
+        assertEquals(1, finished.successCount());
+        assertEquals(3, finished.failedCount());
+
+        var firstPage = bulkUploadJobService.status(submitted.jobId(), null, 2);
+        assertEquals(2, firstPage.errorDetails().size());
+        assertEquals(3, firstPage.errorDetails().get(0).rowNumber());
+        assertEquals(4, firstPage.nextErrorsAfterRow());
+
+        var secondPage = bulkUploadJobService.status(submitted.jobId(), firstPage.nextErrorsAfterRow(), 2);
+        assertEquals(1, secondPage.errorDetails().size());
+        assertEquals(5, secondPage.errorDetails().getFirst().rowNumber());
+        assertNull(secondPage.nextErrorsAfterRow());
+    }
+
+    @Test
+    void maintenanceFailsJobsOrphanedByRestartAndKeepsLiveOnes() {
+        var orphaned = job(BulkUploadJobStatus.RUNNING);
+        var queued = job(BulkUploadJobStatus.QUEUED);
+        var live = job(BulkUploadJobStatus.RUNNING);
+        var staleAt = Timestamp.from(Instant.now().minus(Duration.ofHours(1)));
+        jdbcTemplate.update("update bulk_upload_job set updated_at = ? where id in (?, ?)",
+                staleAt, orphaned.getId(), queued.getId());
+
+        bulkUploadJobService.maintainJobs();
+
+        for (var jobId : new UUID[] {orphaned.getId(), queued.getId()}) {
+            var failed = bulkUploadJobService.status(jobId, null, 10);
+            assertEquals(BulkUploadJobStatus.FAILED, failed.status());
+            assertEquals("Bulk upload job was interrupted by a server restart", failed.failureReason());
+        }
+        assertEquals(BulkUploadJobStatus.RUNNING, bulkUploadJobService.status(live.getId(), null, 10).status());
+    }
+
+    private BulkUploadJobDto awaitFinished(UUID jobId) throws InterruptedException {
+        var deadline = Instant.now().plus(Duration.ofSeconds(30));
+        while (true) {
+            var status = bulkUploadJobService.status(jobId, null, 10);
+            if (status.status() == BulkUploadJobStatus.COMPLETED || status.status() == BulkUploadJobStatus.FAILED) {
+                return status;
+            }
+            if (Instant.now().isAfter(deadline)) {
+                throw new AssertionError("Bulk upload job did not finish: " + status);
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private BulkUploadJob job(BulkUploadJobStatus status) {
+        var job = new BulkUploadJob();
+        job.setCompanyId(tenantId);
+        job.setFilename("users.csv");
+        job.setStatus(status);
+        job.setTotalRows(0);
+        job.setProcessedRows(0);
+        job.setSuccessCount(0);
+        job.setFailedCount(0);
+        return bulkUploadJobRepository.save(job);
+    }
+}
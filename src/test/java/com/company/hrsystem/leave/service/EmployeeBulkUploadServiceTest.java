@@ -0,0 +1,139 @@
+package com.company.hrsystem.leave.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.repository.AuthUserRepository;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.employee.repository.EmployeeRepository;
+import com.company.hrsystem.leave.dto.BulkUploadRowErrorDto;
+import com.company.hrsystem.leave.entity.LeaveType;
+import com.company.hrsystem.leave.repository.LeaveTypeRepository;
+import com.company.hrsystem.leave.service.EmployeeUploadParser.RawUploadRow;
+import com.company.hrsystem.support.TenantFixtures;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+@SpringBootTest
+class EmployeeBulkUploadServiceTest {
+
+    private static final String MANAGER_MISSING = "managerEmployeeId does not exist in tenant";
+
+    @Autowired
+    private EmployeeBulkUploadService employeeBulkUploadService;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AuthUserRepository authUserRepository;
+
+    @Autowired
+    private LeaveTypeRepository leaveTypeRepository;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUpTenant() {
+        var company = tenantFixtures.company("Upload Co", "UTC");
+        tenantId = company.getCompanyId();
+
+        var leaveType = new LeaveType();
+        leaveType.setCompanyId(tenantId);
+        leaveType.setTenantId(tenantId);
+        leaveType.setName("Annual");
+        leaveType.setAnnualQuota(12);
+        leaveType.setCarryForwardAllowed(Boolean.FALSE);
+        leaveTypeRepository.save(leaveType);
+        CompanyContext.setCompanyId(tenantId);
+    }
+
+    @AfterEach
+    void clearContext() {
+        CompanyContext.clear();
+    }
+
+    @Test
+    void failedChunkFallsBackToRowsAndRejectsReportsOfFailedManager() {
+        var rows = List.of(
+                row(2, "BU1", "Ada", null),
+                row(3, "BU2", "X".repeat(150), "BU1"),
+                row(4, "BU3", "Cy", "BU2"),
+                row(5, "BU4", "Di", "BU1"));
+        var progressErrors = new ArrayList<BulkUploadRowErrorDto>();
+        var progressRows = new ArrayList<Integer>();
+
+        var result = employeeBulkUploadService.provision(tenantId, sink -> {
+            rows.forEach(sink);
+            return rows.size();
+        }, (totalRows, processedRows, successCount, newErrors) -> {
+            assertEquals(4, totalRows);
+            progressRows.add(processedRows);
+            progressErrors.addAll(newErrors);
+        });
+
+        assertEquals(4, result.totalRows());
+        assertEquals(2, result.successCount());
+        assertEquals(2, result.failedCount());
+        assertEquals(List.of(3, 4), result.errorDetails().stream().map(BulkUploadRowErrorDto::rowNumber).toList());
+        assertEquals(MANAGER_MISSING, result.errorDetails().get(1).message());
+        assertEquals(Set.copyOf(result.errorDetails()), Set.copyOf(progressErrors));
+        assertEquals(4, progressRows.get(progressRows.size() - 1));
+
+        var manager = employeeRepository.findByCompanyIdAndEmployeeCode(tenantId, "BU1").orElseThrow();
+        var report = employeeRepository.findByCompanyIdAndEmployeeCode(tenantId, "BU4").orElseThrow();
+        assertEquals(manager.getId(), report.getManagerId());
+        assertTrue(employeeRepository.findByCompanyIdAndEmployeeCode(tenantId, "BU2").isEmpty());
+        assertTrue(employeeRepository.findByCompanyIdAndEmployeeCode(tenantId, "BU3").isEmpty());
+        assertEquals(Set.of("BU1", "BU4"), Set.copyOf(authUserRepository.findUsernamesByTenantId(tenantId)));
+    }
+
+    @Test
+    void synchronousUploadKeepsLegacyLimits() {
+        var csv = new StringBuilder("employeeId,firstName,lastName,email,role,managerEmployeeId,joiningDate,leaveBalance\n");
+        for (int i = 0; i <= 10_000; i++) {
+            csv.append("S").append(i).append(",Ann,Lee,s").append(i).append("@example.com,EMPLOYEE,,2026-01-05,1\n");
+        }
+        var tooManyRows = new MockMultipartFile(
+                "file", "upload.csv", "text/csv", csv.toString().getBytes(StandardCharsets.UTF_8));
+        var tooLarge = new MockMultipartFile("file", "upload.csv", "text/csv", new byte[10 * 1024 * 1024 + 1]);
+
+        var rowLimit = assertThrows(IllegalArgumentException.class,
+                () -> employeeBulkUploadService.bulkUpload(tooManyRows));
+        var sizeLimit = assertThrows(IllegalArgumentException.class,
+                () -> employeeBulkUploadService.bulkUpload(tooLarge));
+
+        assertEquals("Upload file exceeds maximum rows: 10000", rowLimit.getMessage());
+        assertEquals("Upload file exceeds max size of 10 MB", sizeLimit.getMessage());
+        employeeBulkUploadService.validateFile(tooLarge);
+    }
+
+    private RawUploadRow row(int rowNumber, String employeeId, String firstName, String managerEmployeeId) {
+        return new RawUploadRow(
+                rowNumber,
+                employeeId,
+                firstName,
+                "Upload",
+                employeeId.toLowerCase(Locale.ROOT) + "+" + tenantId + "@example.com",
+                Role.EMPLOYEE,
+                managerEmployeeId,
+                LocalDate.of(2026, 1, 5),
+                7);
+    }
+}
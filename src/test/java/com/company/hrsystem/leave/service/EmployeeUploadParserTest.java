@@ -0,0 +1,135 @@
+package com.company.hrsystem.leave.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.leave.service.EmployeeUploadParser.RawUploadRow;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.GregorianCalendar;
+import java.util.List;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+class EmployeeUploadParserTest {
+
+    private static final List<String> HEADERS = List.of(
+            "employeeId", "firstName", "lastName", "email", "role", "managerEmployeeId", "joiningDate", "leaveBalance");
+
+    private final EmployeeUploadParser parser = new EmployeeUploadParser();
+
+    @Test
+    void csvHandlesBomQuotingBlankRowsAndDateFormats() throws IOException {
+        var csv = "\uFEFF" + String.join(",", HEADERS) + "\r\n"
+                + "E9,\"Smith, Jr\",\"O\"\"Neil\",e9@example.com,employee,,2024-02-01,5\r\n"
+                + ",,,,,,,\r\n"
+                + "\"E10\",\"Multi\nLine\",Zed,e10@example.com,HR,E9,01-02-2024,0";
+
+        var rows = new ArrayList<RawUploadRow>();
+        var count = parser.parse(stream(csv), "upload.CSV", 10, rows::add);
+
+        assertEquals(2, count);
+        assertEquals(new RawUploadRow(
+                2, "E9", "Smith, Jr", "O\"Neil", "e9@example.com", Role.EMPLOYEE, null, LocalDate.of(2024, 2, 1), 5),
+                rows.get(0));
+        assertEquals(new RawUploadRow(
+                4, "E10", "Multi\nLine", "Zed", "e10@example.com", Role.HR, "E9", LocalDate.of(2024, 2, 1), 0),
+                rows.get(1));
+    }
+
+    @Test
+    void csvRejectsMissingColumnsAndRowsOverLimit() {
+        var missing = assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(stream("employeeId,firstName\nE1,Ann"), "upload.csv", 10, row -> { }));
+        assertEquals("Missing required column: lastName", missing.getMessage());
+
+        var csv = String.join(",", HEADERS) + "\n"
+                + "E1,Ann,Lee,e1@example.com,EMPLOYEE,,2024-01-15,1\n"
+                + "E2,Bo,Ko,e2@example.com,EMPLOYEE,,2024-01-15,1\n";
+        var limit = assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(stream(csv), "upload.csv", 1, row -> { }));
+        assertEquals("Upload file exceeds maximum rows: 1", limit.getMessage());
+    }
+
+    @Test
+    void xlsxAndXlsReadNumericCodesDateCellsAndSkipEmptyRows() throws IOException {
+        for (var workbook : List.<Workbook>of(new XSSFWorkbook(), new HSSFWorkbook())) {
+            var filename = workbook instanceof XSSFWorkbook ? "upload.xlsx" : "upload.xls";
+            var rows = new ArrayList<RawUploadRow>();
+
+            var count = parser.parse(new ByteArrayInputStream(workbook(workbook)), filename, 10, rows::add);
+
+            assertEquals(2, count, filename);
+            var first = rows.get(0);
+            assertEquals(2, first.rowNumber(), filename);
+            assertEquals("1001", first.employeeId(), filename);
+            assertEquals(Role.EMPLOYEE, first.role(), filename);
+            assertNull(first.managerEmployeeId(), filename);
+            assertEquals(LocalDate.of(2024, 1, 15), first.joiningDate(), filename);
+            assertEquals(12, first.leaveBalance(), filename);
+
+            var second = rows.get(1);
+            assertEquals(4, second.rowNumber(), filename);
+            assertEquals("1001", second.managerEmployeeId(), filename);
+            assertEquals(LocalDate.of(2024, 1, 15), second.joiningDate(), filename);
+            assertEquals(3, second.leaveBalance(), filename);
+        }
+    }
+
+    @Test
+    void nonWorkbookUploadIsRejected() {
+        var ex = assertThrows(IllegalArgumentException.class,
+                () -> parser.parse(stream("not a workbook"), "upload.xlsx", 10, row -> { }));
+        assertEquals("Invalid Excel file format", ex.getMessage());
+    }
+
+    private ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private byte[] workbook(Workbook workbook) throws IOException {
+        try (workbook) {
+            var sheet = workbook.createSheet("Employees");
+            var header = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.size(); i++) {
+                header.createCell(i).setCellValue(HEADERS.get(i));
+            }
+            var dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("m/d/yy"));
+
+            var first = sheet.createRow(1);
+            first.createCell(0).setCellValue(1001);
+            first.createCell(1).setCellValue("Ann");
+            first.createCell(2).setCellValue("Lee");
+            first.createCell(3).setCellValue("ann@example.com");
+            first.createCell(4).setCellValue("employee");
+            var joiningDate = first.createCell(6);
+            joiningDate.setCellValue(new GregorianCalendar(2024, 0, 15).getTime());
+            joiningDate.setCellStyle(dateStyle);
+            first.createCell(7).setCellValue(12);
+
+            var second = sheet.createRow(3);
+            second.createCell(0).setCellValue("E2");
+            second.createCell(1).setCellValue("Bo");
+            second.createCell(2).setCellValue("Ko");
+            second.createCell(3).setCellValue("bo@example.com");
+            second.createCell(4).setCellValue("HR");
+            second.createCell(5).setCellValue("1001");
+            second.createCell(6).setCellValue("15/01/2024");
+            second.createCell(7).setCellValue("3");
+            sheet.createRow(4);
+
+            var out = new ByteArrayOutputStream();
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
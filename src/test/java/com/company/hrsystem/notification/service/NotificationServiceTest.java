@@ -0,0 +1,103 @@
+package com.company.hrsystem.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.company.hrsystem.auth.entity.Role;
+import com.company.hrsystem.auth.security.CustomUserDetails;
+import com.company.hrsystem.common.context.CompanyContext;
+import com.company.hrsystem.notification.dto.NotificationDto;
+import com.company.hrsystem.notification.entity.NotificationType;
+import com.company.hrsystem.notification.repository.NotificationLogRepository;
+import com.company.hrsystem.support.TenantFixtures;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@SpringBootTest
+class NotificationServiceTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationLogRepository notificationLogRepository;
+
+    @Autowired
+    private TenantFixtures tenantFixtures;
+
+    private UUID tenantId;
+    private UUID employeeId;
+
+    @BeforeEach
+    void setUpTenant() {
+        tenantId = tenantFixtures.company("Inbox Co", "UTC").getCompanyId();
+        employeeId = UUID.randomUUID();
+
+        for (int i = 1; i <= 5; i++) {
+            notificationService.createNotification(
+                    tenantId, employeeId, "Leave " + i, "Message " + i, NotificationType.LEAVE_REQUEST, null);
+        }
+
+        var principal = new CustomUserDetails(
+                UUID.randomUUID(), tenantId, employeeId, "ina", "secret", Role.EMPLOYEE, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        CompanyContext.setCompanyId(tenantId);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        CompanyContext.clear();
+    }
+
+    @Test
+    void cursorPagesWalkInboxOnceInOrder() {
+        var seen = new ArrayList<UUID>();
+        String cursor = null;
+        var pages = 0;
+        do {
+            var page = notificationService.myNotifications(cursor, 2);
+            assertEquals(5, page.unreadCount());
+            page.notifications().forEach(notification -> seen.add(notification.id()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        var expected = notificationLogRepository.findInboxPage(tenantId, employeeId, PageRequest.of(0, 10))
+                .stream()
+                .map(NotificationDto::id)
+                .toList();
+        assertEquals(3, pages);
+        assertEquals(expected, seen);
+        assertEquals(expected, notificationService.myNotifications().notifications().stream()
+                .map(NotificationDto::id)
+                .toList());
+        assertThrows(IllegalArgumentException.class, () -> notificationService.myNotifications("not-a-cursor", 2));
+    }
+
+    @Test
+    void unreadCountTracksReadsAndNewNotifications() {
+        var first = notificationService.myNotifications(null, 1).notifications().getFirst();
+
+        notificationService.markAsRead(first.id());
+        notificationService.markAsRead(first.id());
+        assertEquals(4, notificationService.myUnreadCount().unreadCount());
+
+        notificationService.markAllAsRead();
+        assertEquals(0, notificationService.myUnreadCount().unreadCount());
+
+        notificationService.createNotification(
+                tenantId, employeeId, "Leave 6", "Message 6", NotificationType.LEAVE_REQUEST, null);
+        assertEquals(1, notificationService.myUnreadCount().unreadCount());
+        assertEquals(1, notificationLogRepository.countByCompanyIdAndUserIdAndReadFalse(tenantId, employeeId));
+    }
+}
@@ -0,0 +1,44 @@
+package com.company.hrsystem.support;
+
+import com.company.hrsystem.company.entity.Company;
+import com.company.hrsystem.company.repository.CompanyRepository;
+import com.company.hrsystem.employee.entity.Employee;
+import com.company.hrsystem.employee.repository.EmployeeRepository;
+import java.util.Locale;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TenantFixtures {
+
+    private final CompanyRepository companyRepository;
+    private final EmployeeRepository employeeRepository;
+
+    public TenantFixtures(CompanyRepository companyRepository, EmployeeRepository employeeRepository) {
+        this.companyRepository = companyRepository;
+        this.employeeRepository = employeeRepository;
+    }
+
+    public Company company(String name, String timezone) {
+        var tenantId = UUID.randomUUID();
+        var company = new Company();
+        company.setCompanyId(tenantId);
+        company.setName(name);
+        company.setCode("T-" + tenantId);
+        company.setTimezone(timezone);
+        return companyRepository.save(company);
+    }
+
+    public Employee employee(Company company, String employeeCode, String firstName, String lastName) {
+        var employee = new Employee();
+        employee.setCompanyId(company.getCompanyId());
+        employee.setCompany(company);
+        employee.setEmployeeCode(employeeCode);
+        employee.setFirstName(firstName);
+        employee.setLastName(lastName);
+        employee.setEmail((firstName + "." + lastName).toLowerCase(Locale.ROOT) + "+" + company.getCompanyId() + "@example.com");
+        employee.setActive(Boolean.TRUE);
+        employee.setRemainingWfhBalance(0);
+        return employeeRepository.save(employee);
+    }
+}